@@ -1,8 +1,8 @@
-// Copyright © 2011-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.io;
-
-
-public interface StreamingInput<T>
-{
-	public T readFromStream();
-}
+// Copyright © 2011-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.io;
+
+
+public interface StreamingInput<T>
+{
+	public T readFromStream();
+}
@@ -1,44 +1,44 @@
-// Copyright © 2017-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-/**
- * ASCII Codes.
- */
-public class ASCII
-{
-	public static final byte NUL = 0x00;
-	public static final byte SOH = 0x01;
-	public static final byte STX = 0x02;
-	public static final byte ETX = 0x03;
-	public static final byte EOT = 0x04;
-	public static final byte ENQ = 0x05;
-	public static final byte ACK = 0x06;
-	public static final byte BEL = 0x07;
-	public static final byte BS = 0x08;
-	public static final byte HT = 0x09;
-	public static final byte LF = 0x0A;
-	public static final byte VT = 0x0B;
-	public static final byte FF = 0x0C;
-	public static final byte CR = 0x0D;
-	public static final byte SO = 0x0E;
-	public static final byte SI = 0x0F;
-	public static final byte DLE = 0x10;
-	public static final byte DC1 = 0x11;
-	public static final byte DC2 = 0x12;
-	public static final byte DC3 = 0x13;
-	public static final byte DC4 = 0x14;
-	public static final byte NAK = 0x15;
-	public static final byte SYN = 0x16;
-	public static final byte ETB = 0x17;
-	public static final byte CAN = 0x18;
-	public static final byte EM = 0x19;
-	public static final byte SUB = 0x1A;
-	public static final byte ESC = 0x1B;
-	public static final byte FS = 0x1C;
-	public static final byte GS = 0x1D;
-	public static final byte RS = 0x1E;
-	public static final byte US = 0x1F;
-	public static final byte SPACE = 0x20;
-	public static final byte DEL = 0x7F;
-}
+// Copyright © 2017-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+/**
+ * ASCII Codes.
+ */
+public class ASCII
+{
+	public static final byte NUL = 0x00;
+	public static final byte SOH = 0x01;
+	public static final byte STX = 0x02;
+	public static final byte ETX = 0x03;
+	public static final byte EOT = 0x04;
+	public static final byte ENQ = 0x05;
+	public static final byte ACK = 0x06;
+	public static final byte BEL = 0x07;
+	public static final byte BS = 0x08;
+	public static final byte HT = 0x09;
+	public static final byte LF = 0x0A;
+	public static final byte VT = 0x0B;
+	public static final byte FF = 0x0C;
+	public static final byte CR = 0x0D;
+	public static final byte SO = 0x0E;
+	public static final byte SI = 0x0F;
+	public static final byte DLE = 0x10;
+	public static final byte DC1 = 0x11;
+	public static final byte DC2 = 0x12;
+	public static final byte DC3 = 0x13;
+	public static final byte DC4 = 0x14;
+	public static final byte NAK = 0x15;
+	public static final byte SYN = 0x16;
+	public static final byte ETB = 0x17;
+	public static final byte CAN = 0x18;
+	public static final byte EM = 0x19;
+	public static final byte SUB = 0x1A;
+	public static final byte ESC = 0x1B;
+	public static final byte FS = 0x1C;
+	public static final byte GS = 0x1D;
+	public static final byte RS = 0x1E;
+	public static final byte US = 0x1F;
+	public static final byte SPACE = 0x20;
+	public static final byte DEL = 0x7F;
+}
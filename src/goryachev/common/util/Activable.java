@@ -1,11 +1,11 @@
-// Copyright © 2010-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-@Deprecated // bad idea
-public interface Activable
-{
-	public void activate();
-	
-	public void deactivate();
-}
+// Copyright © 2010-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+@Deprecated // bad idea
+public interface Activable
+{
+	public void activate();
+	
+	public void deactivate();
+}
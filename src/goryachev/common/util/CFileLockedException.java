@@ -1,11 +1,11 @@
-// Copyright © 2010-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-public class CFileLockedException
-	extends Exception
-{
-	public CFileLockedException()
-	{
-	}
-}
+// Copyright © 2010-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+public class CFileLockedException
+	extends Exception
+{
+	public CFileLockedException()
+	{
+	}
+}
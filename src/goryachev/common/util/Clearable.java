@@ -1,8 +1,8 @@
-// Copyright © 2015-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-public interface Clearable
-{
-	public void clear();
-}
+// Copyright © 2015-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+public interface Clearable
+{
+	public void clear();
+}
@@ -1,9 +1,9 @@
-// Copyright © 2013-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-public interface Committable
-{
-	/** commit changes or throws an exception if anything fails */
-	public void commit() throws Exception;
-}
+// Copyright © 2013-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+public interface Committable
+{
+	/** commit changes or throws an exception if anything fails */
+	public void commit() throws Exception;
+}
@@ -1,11 +1,11 @@
-// Copyright © 2016-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-/**
- * Copyright.
- */
-public class Copyright
-{
-	public static final String COPYRIGHT = "copyright © 2023 andy goryachev";
-}
+// Copyright © 2016-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+/**
+ * Copyright.
+ */
+public class Copyright
+{
+	public static final String COPYRIGHT = "copyright © 2023 andy goryachev";
+}
@@ -1,8 +1,8 @@
-// Copyright © 2010-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-public interface HasDisplayName
-{
-	public String getDisplayName();
-}
+// Copyright © 2010-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+public interface HasDisplayName
+{
+	public String getDisplayName();
+}
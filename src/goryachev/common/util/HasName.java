@@ -1,8 +1,8 @@
-// Copyright © 2011-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-public interface HasName
-{
-	public String getName();
-}
+// Copyright © 2011-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+public interface HasName
+{
+	public String getName();
+}
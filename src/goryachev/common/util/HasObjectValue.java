@@ -1,8 +1,8 @@
-// Copyright © 2011-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-public interface HasObjectValue
-{
-	public Object getObjectValue();
-}
+// Copyright © 2011-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+public interface HasObjectValue
+{
+	public Object getObjectValue();
+}
@@ -1,8 +1,8 @@
-// Copyright © 2012-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-public interface HasPrompts
-{
-	public void updatePrompts();
-}
+// Copyright © 2012-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+public interface HasPrompts
+{
+	public void updatePrompts();
+}
@@ -1,8 +1,8 @@
-// Copyright © 2008-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-public interface HasProperty
-{
-	public String getProperty();
-}
+// Copyright © 2008-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+public interface HasProperty
+{
+	public String getProperty();
+}
@@ -1,11 +1,11 @@
-// Copyright © 2017-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-/**
- * Has Text.
- */
-public interface HasText
-{
-	public String getText();
-}
+// Copyright © 2017-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+/**
+ * Has Text.
+ */
+public interface HasText
+{
+	public String getText();
+}
@@ -1,11 +1,11 @@
-// Copyright © 2021-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-/**
- * Disconnectable.
- */
-public interface IDisconnectable
-{
-	public void disconnect();
-}
+// Copyright © 2021-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+/**
+ * Disconnectable.
+ */
+public interface IDisconnectable
+{
+	public void disconnect();
+}
@@ -1,11 +1,11 @@
-// Copyright © 2017-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-/**
- * Format(ter) interface.
- */
-public interface IFormat
-{
-	public String format(Object x);
-}
+// Copyright © 2017-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+/**
+ * Format(ter) interface.
+ */
+public interface IFormat
+{
+	public String format(Object x);
+}
@@ -1,12 +1,12 @@
-// Copyright © 2021-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-/**
- * Functional interface with three arguments, similar to Consumer and BiConsumer.
- */
-@FunctionalInterface
-public interface TriConsumer<A,B,C>
-{
-	public void accept(A a, B b, C c);
-}
+// Copyright © 2021-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+/**
+ * Functional interface with three arguments, similar to Consumer and BiConsumer.
+ */
+@FunctionalInterface
+public interface TriConsumer<A,B,C>
+{
+	public void accept(A a, B b, C c);
+}
@@ -1,12 +1,12 @@
-// Copyright © 2017-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util;
-
-
-/**
- * Value Generator.
- */
-@FunctionalInterface
-public interface ValueGenerator<T>
-{
-	public T generate() throws Throwable;
-}
+// Copyright © 2017-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util;
+
+
+/**
+ * Value Generator.
+ */
+@FunctionalInterface
+public interface ValueGenerator<T>
+{
+	public T generate() throws Throwable;
+}
@@ -1,11 +1,11 @@
-// Copyright © 2021-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util.api;
-
-
-/**
- * IMessageDigest based on Blake2b.
- */
-public interface IMessageDigestBlake2b
-	extends IMessageDigest
-{
-}
+// Copyright © 2021-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util.api;
+
+
+/**
+ * IMessageDigest based on Blake2b.
+ */
+public interface IMessageDigestBlake2b
+	extends IMessageDigest
+{
+}
@@ -1,9 +1,9 @@
-// Copyright © 2014-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util.platform;
-
-
-public class ApplicationSupport
-{
-	/** application needs to shutdown cjob executor on exit */
-	public static volatile boolean shutdownCJobExecutor;
-}
+// Copyright © 2014-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util.platform;
+
+
+public class ApplicationSupport
+{
+	/** application needs to shutdown cjob executor on exit */
+	public static volatile boolean shutdownCJobExecutor;
+}
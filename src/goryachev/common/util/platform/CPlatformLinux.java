@@ -1,11 +1,11 @@
-// Copyright © 2013-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util.platform;
-
-
-public class CPlatformLinux
-	extends CPlatformUnix
-{
-	public CPlatformLinux()
-	{
-	}
-}
+// Copyright © 2013-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util.platform;
+
+
+public class CPlatformLinux
+	extends CPlatformUnix
+{
+	public CPlatformLinux()
+	{
+	}
+}
@@ -1,15 +1,15 @@
-// Copyright © 2007-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.common.util.platform;
-
-
-public class CPlatformMac
-	extends CPlatformUnix
-{
-	// Norwegian "place of interest" or apple command sign
-	public static final String APPLE_COMMAND_SIGN = "\u2318";
-	
-	
-	public CPlatformMac()
-	{
-	}
-}
+// Copyright © 2007-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.common.util.platform;
+
+
+public class CPlatformMac
+	extends CPlatformUnix
+{
+	// Norwegian "place of interest" or apple command sign
+	public static final String APPLE_COMMAND_SIGN = "\u2318";
+	
+	
+	public CPlatformMac()
+	{
+	}
+}
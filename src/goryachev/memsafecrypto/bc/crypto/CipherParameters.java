@@ -1,11 +1,11 @@
-package goryachev.memsafecrypto.bc.crypto;
-import goryachev.memsafecrypto.ICryptoZeroable;
-
-
-/**
- * all parameter classes implement this.
- */
-public interface CipherParameters
-	extends ICryptoZeroable 
-{
-}
+package goryachev.memsafecrypto.bc.crypto;
+import goryachev.memsafecrypto.ICryptoZeroable;
+
+
+/**
+ * all parameter classes implement this.
+ */
+public interface CipherParameters
+	extends ICryptoZeroable 
+{
+}
@@ -1,9 +1,9 @@
-package goryachev.memsafecrypto.bc.crypto;
-
-
-/**
- * Parameters for key/byte stream derivation classes
- */
-public interface DerivationParameters
-{
-}
+package goryachev.memsafecrypto.bc.crypto;
+
+
+/**
+ * Parameters for key/byte stream derivation classes
+ */
+public interface DerivationParameters
+{
+}
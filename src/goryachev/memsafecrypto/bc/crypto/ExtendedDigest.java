@@ -1,14 +1,14 @@
-package goryachev.memsafecrypto.bc.crypto;
-
-
-public interface ExtendedDigest
-	extends Digest
-{
-	/**
-	 * Return the size in bytes of the internal buffer the digest applies it's compression
-	 * function to.
-	 * 
-	 * @return byte length of the digests internal buffer.
-	 */
-	public int getByteLength();
-}
+package goryachev.memsafecrypto.bc.crypto;
+
+
+public interface ExtendedDigest
+	extends Digest
+{
+	/**
+	 * Return the size in bytes of the internal buffer the digest applies it's compression
+	 * function to.
+	 * 
+	 * @return byte length of the digests internal buffer.
+	 */
+	public int getByteLength();
+}
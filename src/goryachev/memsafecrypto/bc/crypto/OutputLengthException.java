@@ -1,11 +1,11 @@
-package goryachev.memsafecrypto.bc.crypto;
-
-
-public class OutputLengthException
-	extends DataLengthException
-{
-	public OutputLengthException(String msg)
-	{
-		super(msg);
-	}
-}
+package goryachev.memsafecrypto.bc.crypto;
+
+
+public class OutputLengthException
+	extends DataLengthException
+{
+	public OutputLengthException(String msg)
+	{
+		super(msg);
+	}
+}
@@ -1,10 +1,10 @@
-package goryachev.memsafecrypto.bc.crypto;
-
-
-/**
- * General interface for a stream cipher that supports skipping.
- */
-public interface SkippingStreamCipher
-	extends StreamCipher, SkippingCipher
-{
-}
+package goryachev.memsafecrypto.bc.crypto;
+
+
+/**
+ * General interface for a stream cipher that supports skipping.
+ */
+public interface SkippingStreamCipher
+	extends StreamCipher, SkippingCipher
+{
+}
@@ -1,147 +1,957 @@
-// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb;
-import goryachev.common.log.Log;
-import goryachev.common.util.SKey;
-import goryachev.secdb.bplustree.BPlusTreeNode;
-import goryachev.secdb.internal.DBEngineIO;
-import goryachev.secdb.internal.DBLeafNode;
-import goryachev.secdb.internal.DataHolder;
-import java.util.function.Predicate;
-
-
-/**
- * Key-Value Database Engine.
- */
-public class DBEngine<R extends IRef>
-{
-	private static final int BRANCHING_FACTOR = 4;
-	private static final int NODE_SIZE_LIMIT = 1_000_000;
-	protected static final Log log = Log.get("DBEngine");
-	private final IStore<R> store;
-	
-	
-	public DBEngine(IStore<R> store)
-	{
-		this.store = store;
-	}
-	
-	
-	protected BPlusTreeNode<SKey,DataHolder<R>> loadRoot() throws Exception
-	{
-		R ref = store.getRootRef();
-		log.debug("root=%s", ref);
-		
-		if(ref == null)
-		{
-			return DBLeafNode.createModified(store);
-		}
-		else
-		{
-			IStream in = store.load(ref);
-			try
-			{
-				return readNode(in);
-			}
-			catch(Throwable e)
-			{
-				throw new Exception("at ref=" + ref, e);
-			}
-		}
-	}
-	
-	
-	protected BPlusTreeNode<SKey,DataHolder<R>> readNode(IStream is) throws Exception
-	{
-		byte[] b = is.readBytes(NODE_SIZE_LIMIT);
-		return DBEngineIO.read(store, b);
-	}
-
-
-	public DataHolder<R> getValue(SKey key) throws Exception
-	{
-		DataHolder<R> h = loadRoot().getValue(key);
-		log.trace("key=%s, ref=%s", key, h);
-		return h;
-	}
-
-
-	public boolean containsKey(SKey key) throws Exception
-	{
-		return loadRoot().containsKey(key);
-	}
-
-	
-	/** performs a range query */
-	public void rangeQuery(SKey start, boolean includeStart, SKey end, boolean includeEnd, QueryClient<SKey,DataHolder<R>> client) throws Exception
-	{
-		loadRoot().rangeQuery(start, includeStart, end, includeEnd, client);
-	}
-	
-	
-	/** 
-	 * Finds all the entries where the key "starts with" the given prefix.  
-	 */ 
-	public void prefixQuery(SKey prefix, QueryClient<SKey,DataHolder<R>> client) throws Exception
-	{
-		loadRoot().prefixQuery(prefix, mkPrefix(prefix), client);
-	}
-	
-	
-	/** 
-	 * Finds all the entries where the key "starts with" the given prefix, in reverse order.  
-	 */ 
-	public void prefixReverseQuery(SKey prefix, QueryClient<SKey,DataHolder<R>> client) throws Exception
-	{
-		loadRoot().prefixReverseQuery(prefix, mkPrefix(prefix), client);
-	}
-	
-	
-	protected Predicate<SKey> mkPrefix(SKey prefix)
-	{
-		return new Predicate<SKey>()
-		{
-			public boolean test(SKey key)
-			{
-				return key.toString().startsWith(prefix.toString());
-			}
-		};
-	}
-
-
-	public synchronized void execute(DBTransaction<R> tx) throws Exception
-	{
-		BPlusTreeNode<SKey,DataHolder<R>> root = loadRoot();
-		tx.setRoot(store, root, BRANCHING_FACTOR);
-
-		tx.body();
-
-		BPlusTreeNode<SKey,DataHolder<R>> newRoot = tx.getRoot();
-		if(newRoot != null)
-		{
-			commit(newRoot);
-		}
-	}
-	
-
-	protected void commit(BPlusTreeNode<SKey,DataHolder<R>> newRoot) throws Exception
-	{
-		R ref = DBEngineIO.store(store, newRoot);
-		store.setRootRef(ref);
-		
-		log.debug("new root=%s", ref);
-	}
-
-
-	public void dump(Appendable out, String indent) throws Exception
-	{
-		BPlusTreeNode<SKey,DataHolder<R>> root = loadRoot();
-		root.dump(out, indent, 0);
-	}
-	
-	
-	public void dumpKeys(Appendable out, String indent) throws Exception
-	{
-		BPlusTreeNode<SKey,DataHolder<R>> root = loadRoot();
-		root.dumpKeys(out, indent, 0);
-	}
-}
+// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.log.Log;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.CMap;
+import goryachev.common.util.CSet;
+import goryachev.common.util.SKey;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import goryachev.secdb.internal.BulkLoader;
+import goryachev.secdb.internal.DBEngineIO;
+import goryachev.secdb.internal.DBInternalNode;
+import goryachev.secdb.internal.DBLeafNode;
+import goryachev.secdb.internal.DataHolder;
+import goryachev.secdb.internal.NodeCache;
+import goryachev.secdb.internal.NodeHolder;
+import goryachev.secdb.internal.SnapshotTracker;
+import goryachev.secdb.internal.TreeCursor;
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+
+/**
+ * Key-Value Database Engine.
+ * 
+ * The transactions are committed by a single writer thread, which drains the queue of pending transactions,
+ * applies them in order against one in-memory tree, and stores the merged set of modified nodes once per batch.
+ */
+public class DBEngine<R extends IRef>
+{
+	/** default target size of a serialized tree node */
+	public static final int DEFAULT_PAGE_SIZE = 16 * 1024;
+	public static final int MIN_PAGE_SIZE = 64;
+	public static final int MAX_PAGE_SIZE = 256 * 1024;
+	/** default maximum number of transactions committed together */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+	/** maximum number of values moved by a single transaction when repacking */
+	private static final int REPACK_BATCH_SIZE = 1000;
+	/** the writer thread exits after being idle for this long, in milliseconds */
+	private static final long WRITER_KEEP_ALIVE = 1000;
+	protected static final Log log = Log.get("DBEngine");
+	private final IStore<R> store;
+	private final NodeCache<R> cache;
+	private final SnapshotTracker snapshots = new SnapshotTracker();
+	/** incremented after each commit, identifies the version seen by a snapshot */
+	private volatile long sequence;
+	private volatile int pageSize = DEFAULT_PAGE_SIZE;
+	private volatile int inlineLimit = DBEngineIO.DEFAULT_INLINE_LIMIT;
+	/** commit queue state is guarded by the queue */
+	private final ArrayDeque<Pending<R>> queue = new ArrayDeque<>();
+	private Thread writer;
+	private boolean closed;
+	private int maxBatchSize = DEFAULT_BATCH_SIZE;
+	private long lingerTime;
+	
+	
+	public DBEngine(IStore<R> store)
+	{
+		this.store = store;
+		this.cache = new NodeCache<>(store, NodeCache.DEFAULT_CAPACITY);
+	}
+	
+	
+	/** returns the cache of decoded tree nodes */
+	public NodeCache<R> getNodeCache()
+	{
+		return cache;
+	}
+	
+	
+	/** 
+	 * sets the maximum number of sibling nodes loaded in the background ahead of a range scan.
+	 * zero disables the read-ahead.
+	 */
+	public void setReadAhead(int count)
+	{
+		cache.setReadAhead(count);
+	}
+	
+	
+	/** 
+	 * sets the target size of a serialized tree node, in bytes.
+	 * nodes are split when they grow above this size, and merged when they shrink below a quarter of it.
+	 * recommended values are between 4 and 64 KB.
+	 */
+	public void setPageSize(int size)
+	{
+		if((size < MIN_PAGE_SIZE) || (size > MAX_PAGE_SIZE))
+		{
+			throw new IllegalArgumentException("page size out of range: " + size);
+		}
+		pageSize = size;
+	}
+	
+	
+	public int getPageSize()
+	{
+		return pageSize;
+	}
+	
+	
+	/** 
+	 * sets the size threshold below which the values are stored in the leaf nodes, up to DBEngineIO.MAX_INLINE_LIMIT.
+	 * the inline values are read along with the leaf, without a separate read and decryption.
+	 * a threshold above the default (DBEngineIO.DEFAULT_INLINE_LIMIT) is reduced to a quarter of the page size.
+	 * the setting applies to the values written afterwards.
+	 */
+	public void setInlineLimit(int bytes)
+	{
+		if((bytes < 0) || (bytes > DBEngineIO.MAX_INLINE_LIMIT))
+		{
+			throw new IllegalArgumentException("inline limit out of range: " + bytes);
+		}
+		inlineLimit = bytes;
+	}
+	
+	
+	public int getInlineLimit()
+	{
+		return inlineLimit;
+	}
+	
+	
+	/** 
+	 * sets the maximum number of transactions committed together, and the time the writer thread waits
+	 * for more transactions to arrive before committing a batch that is not full.
+	 * a non-zero linger time trades latency for fewer commits.
+	 * the store might lower the batch size and extend the linger time (see IStore.getCommitLinger()).
+	 */
+	public void setBatchLimits(int maxTransactions, long lingerMillis)
+	{
+		if(maxTransactions < 1)
+		{
+			throw new IllegalArgumentException("maxTransactions must be positive: " + maxTransactions);
+		}
+		
+		if(lingerMillis < 0)
+		{
+			throw new IllegalArgumentException("negative linger time: " + lingerMillis);
+		}
+		
+		synchronized(queue)
+		{
+			maxBatchSize = maxTransactions;
+			lingerTime = lingerMillis;
+		}
+	}
+	
+	
+	/** 
+	 * enables packing of the values up to maxValueSize bytes written by a commit into shared blocks 
+	 * of about blockSize bytes (see ValueLog).  zero maxValueSize disables packing.
+	 */
+	public void setValueLog(int maxValueSize, int blockSize)
+	{
+		cache.getValueLog().setLimits(maxValueSize, blockSize);
+	}
+	
+	
+	/** returns the shared, read-only root node */
+	protected BPlusTreeNode<SKey,DataHolder<R>> loadRoot() throws Exception
+	{
+		R ref = store.getRootRef();
+		log.debug("root=%s", ref);
+		
+		if(ref == null)
+		{
+			return DBLeafNode.createModified(cache);
+		}
+		else
+		{
+			return cache.getNode(ref);
+		}
+	}
+	
+	
+	/** 
+	 * returns a read-only view of the current version of the database.
+	 * all the reads made through the snapshot see the same version.
+	 */
+	public DBSnapshot<R> openSnapshot() throws Exception
+	{
+		// the sequence is read first: a snapshot might see a newer root than its sequence indicates, never an older one.
+		// the version is pinned before the root is read, so the segments it references cannot be deleted in between
+		long seq = sequence;
+		Closeable pin = snapshots.open(seq);
+		try
+		{
+			R ref = store.getRootRef();
+			log.debug("root=%s", ref);
+			return new DBSnapshot<>(cache, ref, snapshots, seq, pin);
+		}
+		catch(Throwable e)
+		{
+			CKit.close(pin);
+			throw e;
+		}
+	}
+	
+	
+	/** returns the number of commits made since the engine has been created */
+	public long getCommitSequence()
+	{
+		return sequence;
+	}
+	
+	
+	/** 
+	 * returns the commit sequence number of the oldest version still being read by an open snapshot or cursor,
+	 * or the current sequence if there are none.
+	 * the storage unlinked by the commits after that version must not be reclaimed.
+	 */
+	public long getOldestSnapshotSequence()
+	{
+		return Math.min(sequence, snapshots.getOldest());
+	}
+	
+	
+	public DataHolder<R> getValue(SKey key) throws Exception
+	{
+		try(DBSnapshot<R> s = openSnapshot())
+		{
+			return s.getValue(key);
+		}
+	}
+
+
+	/** returns the values for the specified keys in the same order, or nulls for the keys not found */
+	public CList<DataHolder<R>> getValues(List<SKey> keys) throws Exception
+	{
+		try(DBSnapshot<R> s = openSnapshot())
+		{
+			return s.getValues(keys);
+		}
+	}
+
+
+	public boolean containsKey(SKey key) throws Exception
+	{
+		try(DBSnapshot<R> s = openSnapshot())
+		{
+			return s.containsKey(key);
+		}
+	}
+
+	
+	/** performs a range query */
+	public void rangeQuery(SKey start, boolean includeStart, SKey end, boolean includeEnd, QueryClient<SKey,DataHolder<R>> client) throws Exception
+	{
+		try(DBSnapshot<R> s = openSnapshot())
+		{
+			s.rangeQuery(start, includeStart, end, includeEnd, client);
+		}
+	}
+	
+	
+	/** 
+	 * Finds all the entries where the key "starts with" the given prefix.  
+	 * The prefix is converted to a range of keys [prefix, successor).
+	 */ 
+	public void prefixQuery(SKey prefix, QueryClient<SKey,DataHolder<R>> client) throws Exception
+	{
+		try(DBSnapshot<R> s = openSnapshot())
+		{
+			s.prefixQuery(prefix, client);
+		}
+	}
+	
+	
+	/** 
+	 * Finds all the entries where the key "starts with" the given prefix, in reverse order.  
+	 */ 
+	public void prefixReverseQuery(SKey prefix, QueryClient<SKey,DataHolder<R>> client) throws Exception
+	{
+		try(DBSnapshot<R> s = openSnapshot())
+		{
+			s.prefixReverseQuery(prefix, client);
+		}
+	}
+
+
+	/** scans the range [start, end) in parallel, delivering the entries in no particular order (see DBSnapshot) */
+	public void parallelQuery(SKey start, SKey end, QueryClient<SKey,DataHolder<R>> client) throws Exception
+	{
+		try(DBSnapshot<R> s = openSnapshot())
+		{
+			s.parallelQuery(start, end, client);
+		}
+	}
+	
+	
+	/** scans the range [start, end) in parallel, delivering the mapped entries in key order (see DBSnapshot) */
+	public <T> void parallelQuery(SKey start, SKey end, QueryMapper<SKey,DataHolder<R>,T> mapper, QueryClient<SKey,T> client) throws Exception
+	{
+		try(DBSnapshot<R> s = openSnapshot())
+		{
+			s.parallelQuery(start, end, mapper, client);
+		}
+	}
+
+
+	/**
+	 * creates a cursor over the current snapshot of the tree.
+	 * the range includes the start key and excludes the end key, either of which might be null.
+	 * when iterating backward, start is expected to be greater than end.
+	 */
+	public TreeCursor<R> cursor(SKey start, SKey end, boolean forward) throws Exception
+	{
+		try(DBSnapshot<R> s = openSnapshot())
+		{
+			return s.cursor(start, end, forward);
+		}
+	}
+
+
+	/** 
+	 * resumes the iteration using the continuation token obtained from TreeCursor.getToken().
+	 * the age of the version in the token is unknown, so the cursor pins all the versions until closed.
+	 */
+	public TreeCursor<R> cursor(String token) throws Exception
+	{
+		// pinned before the token's root is read
+		Closeable pin = snapshots.open(0);
+		try
+		{
+			TreeCursor<R> c = TreeCursor.fromToken(cache, token);
+			c.setPin(pin);
+			return c;
+		}
+		catch(Throwable e)
+		{
+			CKit.close(pin);
+			throw e;
+		}
+	}
+	
+	
+	/** returns the number of entries with keys in the range [start, end), either of which might be null (unbounded) */
+	public long count(SKey start, SKey end) throws Exception
+	{
+		try(DBSnapshot<R> s = openSnapshot())
+		{
+			return s.count(start, end);
+		}
+	}
+
+
+	/** returns the number of entries with keys less than the specified key */
+	public long rank(SKey key) throws Exception
+	{
+		try(DBSnapshot<R> s = openSnapshot())
+		{
+			return s.rank(key);
+		}
+	}
+
+
+	/** returns the key at the specified offset in ascending key order, or null if the offset is out of range */
+	public SKey keyAt(long offset) throws Exception
+	{
+		try(DBSnapshot<R> s = openSnapshot())
+		{
+			return s.keyAt(offset);
+		}
+	}
+
+
+	/**
+	 * returns the smallest key which is greater than all the keys starting with the prefix,
+	 * or null if no such key exists.
+	 */
+	protected static SKey successor(SKey prefix)
+	{
+		String s = prefix.toString();
+		int ix = s.length() - 1;
+		while((ix >= 0) && (s.charAt(ix) == Character.MAX_VALUE))
+		{
+			ix--;
+		}
+		
+		if(ix < 0)
+		{
+			return null;
+		}
+		
+		// keys are compared char by char
+		return new SKey(s.substring(0, ix) + (char)(s.charAt(ix) + 1));
+	}
+
+
+	/** executes the transaction, blocking until it is committed */
+	public void execute(DBTransaction<R> tx) throws Exception
+	{
+		if(Thread.currentThread() == writer)
+		{
+			throw new Error("nested transaction");
+		}
+		
+		try
+		{
+			submit(tx).get();
+		}
+		catch(ExecutionException e)
+		{
+			Throwable err = e.getCause();
+			if(err instanceof Exception)
+			{
+				throw (Exception)err;
+			}
+			else if(err instanceof Error)
+			{
+				throw (Error)err;
+			}
+			throw e;
+		}
+	}
+	
+	
+	/**
+	 * loads a large number of entries in one transaction, replacing the existing entries with the same key.
+	 * the tree is built bottom-up, which is much faster than inserting the entries one by one,
+	 * provided the entries arrive in ascending key order.  unsorted input is sorted externally.
+	 */
+	public void bulkLoad(Iterator<? extends Map.Entry<SKey,IStream>> entries) throws Exception
+	{
+		execute(new DBTransaction<R>()
+		{
+			protected void body() throws Exception
+			{
+				BulkLoader<R> loader = new BulkLoader<>(cache, pageSize);
+				loader.setInlineLimit(DBEngineIO.getInlineLimit(inlineLimit, pageSize));
+				replaceRoot(loader.load(getRoot(), entries));
+				addStored(loader.getStoredNodes(), loader.getWrittenBlocks());
+			}
+		});
+	}
+	
+	
+	/**
+	 * rewrites the packed values whose blocks contain fewer live bytes than the threshold ratio of the block length,
+	 * so these blocks become unreachable and their space can be reclaimed.  the values are moved by a series 
+	 * of small transactions.  returns the number of blocks released.
+	 */
+	public int repackValues(double threshold) throws Exception
+	{
+		if((threshold < 0.0) || (threshold > 1.0))
+		{
+			throw new IllegalArgumentException("threshold out of range: " + threshold);
+		}
+		
+		CSet<R> sparse = new CSet<>();
+		CList<SKey> keys = new CList<>();
+		try(DBSnapshot<R> s = openSnapshot())
+		{
+			R root = s.getRootRef();
+			
+			CMap<R,Long> live = new CMap<>();
+			walkPacked(root, (key, h) -> live.merge(h.getBlock(), (long)h.getLength(), Long::sum));
+			
+			for(Map.Entry<R,Long> en: live.entrySet())
+			{
+				R block = en.getKey();
+				long len = store.convertLength(block.getLength(), false);
+				if(en.getValue() < threshold * len)
+				{
+					sparse.add(block);
+				}
+			}
+			
+			if(sparse.isEmpty())
+			{
+				return 0;
+			}
+			
+			walkPacked(root, (key, h) ->
+			{
+				if(sparse.contains(h.getBlock()))
+				{
+					keys.add(key);
+				}
+			});
+		}
+		
+		int sz = keys.size();
+		for(int start=0; start<sz; start+=REPACK_BATCH_SIZE)
+		{
+			CKit.checkCancelled();
+			
+			List<SKey> batch = keys.subList(start, Math.min(sz, start + REPACK_BATCH_SIZE));
+			execute(new DBTransaction<R>()
+			{
+				protected void body() throws Exception
+				{
+					// the tree might have changed since it was walked
+					for(SKey key: batch)
+					{
+						DataHolder<R> h = read(key);
+						if((h != null) && h.isPacked() && sparse.contains(((DataHolder.PackedHolder<R>)h).getBlock()))
+						{
+							insert(key, h.getStoredValue().getIStream());
+						}
+					}
+				}
+			});
+		}
+		
+		log.debug("repacked %d values from %d blocks", sz, sparse.size());
+		return sparse.size();
+	}
+	
+	
+	/** visits the packed values of the subtree, in key order */
+	private void walkPacked(R ref, IPackedVisitor<R> v) throws Exception
+	{
+		if(ref == null)
+		{
+			return;
+		}
+		
+		BPlusTreeNode<SKey,DataHolder<R>> n = cache.readNode(ref);
+		if(n instanceof DBInternalNode)
+		{
+			DBInternalNode<R> p = (DBInternalNode)n;
+			int sz = p.size() + 1;
+			for(int i=0; i<sz; i++)
+			{
+				walkPacked(p.nodeHolderAt(i).getRef(), v);
+			}
+		}
+		else
+		{
+			DBLeafNode<R> leaf = (DBLeafNode)n;
+			int sz = leaf.getValueCount();
+			for(int i=0; i<sz; i++)
+			{
+				DataHolder<R> h = leaf.valueAt(i);
+				if(h.isPacked())
+				{
+					v.visitPacked(leaf.keyAt(i), (DataHolder.PackedHolder<R>)h);
+				}
+			}
+		}
+	}
+	
+	
+	/** 
+	 * adds the transaction to the commit queue.
+	 * the future completes when the batch containing the transaction has been committed,
+	 * or exceptionally when the transaction or the commit fails.
+	 */
+	public CompletableFuture<Void> submit(DBTransaction<R> tx)
+	{
+		CompletableFuture<Void> f = new CompletableFuture<>();
+		
+		synchronized(queue)
+		{
+			if(closed)
+			{
+				throw new IllegalStateException("closed");
+			}
+			
+			queue.add(new Pending<>(tx, f));
+			
+			if(writer == null)
+			{
+				writer = new Thread(this::processQueue, "DBEngine.writer");
+				writer.setDaemon(true);
+				writer.start();
+			}
+			else
+			{
+				queue.notifyAll();
+			}
+		}
+		return f;
+	}
+	
+	
+	/** commits the queued transactions, then stops the writer thread */
+	public void close() throws InterruptedException
+	{
+		synchronized(queue)
+		{
+			closed = true;
+			queue.notifyAll();
+			
+			while(writer != null)
+			{
+				queue.wait();
+			}
+		}
+	}
+	
+	
+	/** returns the maximum number of transactions in a batch, as limited by the engine and by the store */
+	private int getBatchLimit()
+	{
+		return Math.min(maxBatchSize, store.getCommitBatchSize());
+	}
+	
+	
+	private void processQueue()
+	{
+		for(;;)
+		{
+			Pending<R>[] batch;
+			
+			synchronized(queue)
+			{
+				try
+				{
+					if(queue.isEmpty() && !closed)
+					{
+						queue.wait(WRITER_KEEP_ALIVE);
+					}
+					
+					long linger = Math.max(lingerTime, store.getCommitLinger());
+					if(linger > 0)
+					{
+						long deadline = System.currentTimeMillis() + linger;
+						while(!closed && !queue.isEmpty() && (queue.size() < getBatchLimit()))
+						{
+							long wait = deadline - System.currentTimeMillis();
+							if(wait <= 0)
+							{
+								break;
+							}
+							queue.wait(wait);
+						}
+					}
+				}
+				catch(InterruptedException e)
+				{
+					log.error(e);
+				}
+				
+				if(queue.isEmpty())
+				{
+					writer = null;
+					queue.notifyAll();
+					return;
+				}
+				
+				int sz = Math.min(queue.size(), getBatchLimit());
+				batch = new Pending[sz];
+				for(int i=0; i<sz; i++)
+				{
+					batch[i] = queue.remove();
+				}
+			}
+			
+			commitBatch(batch);
+		}
+	}
+	
+	
+	/**
+	 * applies the transactions in order, then stores the result once.
+	 * the tree is frozen after each transaction, so a failed transaction is rolled back 
+	 * to the previous savepoint without affecting the other transactions in the batch.
+	 */
+	private void commitBatch(Pending<R>[] batch)
+	{
+		int count = 0;
+		try
+		{
+			BPlusTreeNode<SKey,DataHolder<R>> root = loadRoot();
+			// the initial empty root is not shared, but must be protected from a failed transaction
+			NodeCache.freeze(root);
+			
+			for(int i=0; i<batch.length; i++)
+			{
+				Pending<R> p = batch[i];
+				try
+				{
+					BPlusTreeNode<SKey,DataHolder<R>> r = NodeCache.copy(root);
+					p.tx.setRoot(store, cache.getValueLog(), r, pageSize, DBEngineIO.getInlineLimit(inlineLimit, pageSize));
+					p.tx.body();
+					
+					r = p.tx.getRoot();
+					NodeCache.freeze(r);
+					root = r;
+					
+					batch[count++] = p;
+				}
+				catch(Throwable e)
+				{
+					p.future.completeExceptionally(e);
+				}
+			}
+			
+			// a batch which does not modify the tree is not committed
+			if(root.isModified())
+			{
+				// including the values written by the failed transactions
+				CList<R> written = new CList<>();
+				for(Pending<R> p: batch)
+				{
+					written.addAll(p.tx.getWrittenValues());
+				}
+				
+				CSet<R> dropped = new CSet<>();
+				CSet<R> stored = new CSet<>();
+				for(int i=0; i<count; i++)
+				{
+					dropped.addAll(batch[i].tx.getUnlinkedNodes());
+					stored.addAll(batch[i].tx.getStoredNodes());
+				}
+				
+				commit(root, written, dropped, stored);
+			}
+		}
+		catch(Throwable e)
+		{
+			log.error(e);
+			
+			for(int i=0; i<count; i++)
+			{
+				batch[i].future.completeExceptionally(e);
+			}
+			return;
+		}
+		
+		for(int i=0; i<count; i++)
+		{
+			batch[i].future.complete(null);
+		}
+	}
+	
+
+	/** 
+	 * packs the pending values, stores the modified nodes, and publishes the new root along with the blocks 
+	 * and the packed values which are no longer reachable from it (see IStore.setRootRef(R,List,Map,List)).
+	 * the subtrees dropped as a whole by the range removals are not read here (see reportDroppedSubtrees()).
+	 * the nodes stored ahead of the commit by a bulk load are read to find the blocks they reference.
+	 */
+	protected void commit(BPlusTreeNode<SKey,DataHolder<R>> newRoot, CList<R> written, CSet<R> dropped, CSet<R> stored) throws Exception
+	{
+		// the blocks and the packed values still referenced by the new version, 
+		// collected before the private copies are released
+		CSet<R> kept = new CSet<>();
+		CSet<DataHolder<R>> keptPacked = new CSet<>();
+		CList<DataHolder.PackedHolder<R>> pending = new CList<>();
+		collectReferenced(newRoot, kept, keptPacked, pending, stored);
+		
+		cache.getValueLog().pack(pending);
+		R ref = DBEngineIO.store(cache, newRoot);
+		
+		CList<R> unreachable = new CList<>();
+		CMap<R,Long> unreachablePacked = new CMap<>();
+		CList<R> deferred = new CList<>();
+		collectUnreachable(store.getRootRef(), kept, keptPacked, dropped, unreachable, unreachablePacked, deferred);
+		for(R r: written)
+		{
+			if(!kept.contains(r))
+			{
+				unreachable.add(r);
+			}
+		}
+		
+		store.setRootRef(ref, unreachable, unreachablePacked, deferred);
+		// published after the root (see openSnapshot())
+		sequence++;
+		
+		log.debug("new root=%s", ref);
+	}
+
+
+	/** 
+	 * adds the stored blocks and the packed values referenced by the private (modified) part of the tree,
+	 * and the values waiting to be packed.  the nodes stored by this commit's transactions are visited,
+	 * the other unmodified nodes are shared with the previous version.
+	 */
+	private void collectReferenced(BPlusTreeNode<SKey,DataHolder<R>> n, CSet<R> kept, CSet<DataHolder<R>> keptPacked, CList<DataHolder.PackedHolder<R>> pending, CSet<R> stored) throws Exception
+	{
+		if(n instanceof DBInternalNode)
+		{
+			DBInternalNode<R> p = (DBInternalNode)n;
+			int sz = p.size() + 1;
+			for(int i=0; i<sz; i++)
+			{
+				NodeHolder<R> h = p.nodeHolderAt(i);
+				if(h.isModified())
+				{
+					collectReferenced(h.getNode(), kept, keptPacked, pending, stored);
+				}
+				else
+				{
+					R ref = h.getRef();
+					kept.add(ref);
+					if(stored.contains(ref))
+					{
+						collectReferenced(cache.readNode(ref), kept, keptPacked, pending, stored);
+					}
+				}
+			}
+		}
+		else
+		{
+			DBLeafNode<R> leaf = (DBLeafNode)n;
+			int sz = leaf.getValueCount();
+			for(int i=0; i<sz; i++)
+			{
+				DataHolder<R> h = leaf.valueAt(i);
+				if(h.isRef())
+				{
+					kept.add(h.getRef());
+				}
+				else if(h.isPacked())
+				{
+					DataHolder.PackedHolder<R> p = (DataHolder.PackedHolder<R>)h;
+					if(p.isPending())
+					{
+						pending.add(p);
+					}
+					else
+					{
+						keptPacked.add(p);
+					}
+				}
+			}
+		}
+	}
+	
+	
+	/** 
+	 * adds the blocks of the previous version which are not kept by the new one, and the lengths
+	 * of the packed values which are not kept, by their block.
+	 * the subtrees kept by the new version are shared entirely, so only the modified paths are visited.
+	 * the subtrees dropped as a whole are added to the deferred list without being read.
+	 */
+	private void collectUnreachable(R ref, CSet<R> kept, CSet<DataHolder<R>> keptPacked, CSet<R> dropped, CList<R> unreachable, CMap<R,Long> unreachablePacked, CList<R> deferred) throws Exception
+	{
+		if((ref == null) || kept.contains(ref))
+		{
+			return;
+		}
+		
+		if((dropped != null) && dropped.contains(ref))
+		{
+			deferred.add(ref);
+			return;
+		}
+		
+		unreachable.add(ref);
+		
+		BPlusTreeNode<SKey,DataHolder<R>> n = cache.readNode(ref);
+		if(n instanceof DBInternalNode)
+		{
+			DBInternalNode<R> p = (DBInternalNode)n;
+			int sz = p.size() + 1;
+			for(int i=0; i<sz; i++)
+			{
+				collectUnreachable(p.nodeHolderAt(i).getRef(), kept, keptPacked, dropped, unreachable, unreachablePacked, deferred);
+			}
+		}
+		else
+		{
+			DBLeafNode<R> leaf = (DBLeafNode)n;
+			int sz = leaf.getValueCount();
+			for(int i=0; i<sz; i++)
+			{
+				DataHolder<R> h = leaf.valueAt(i);
+				if(h.isRef())
+				{
+					if(!kept.contains(h.getRef()))
+					{
+						unreachable.add(h.getRef());
+					}
+				}
+				else if(h.isPacked() && !keptPacked.contains(h))
+				{
+					DataHolder.PackedHolder<R> p = (DataHolder.PackedHolder<R>)h;
+					unreachablePacked.merge(p.getBlock(), (long)p.getLength(), Long::sum);
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * reads the subtrees dropped as a whole by the earlier commits, and reports their blocks to the store
+	 * (see IStore.addUnreachable()).  the commit does not read these subtrees, so a range removal stays cheap
+	 * regardless of the amount of data removed.  called by the compactor, which must report the subtrees 
+	 * before it deletes the segments they are located in.  returns the number of subtrees reported.
+	 */
+	public int reportDroppedSubtrees() throws Exception
+	{
+		CSet<R> none = new CSet<>();
+		CSet<DataHolder<R>> nonePacked = new CSet<>();
+		int rv = 0;
+		for(R ref: store.getDroppedSubtrees())
+		{
+			CKit.checkCancelled();
+			
+			CList<R> unreachable = new CList<>();
+			CMap<R,Long> unreachablePacked = new CMap<>();
+			collectUnreachable(ref, none, nonePacked, null, unreachable, unreachablePacked, null);
+			store.addUnreachable(ref, unreachable, unreachablePacked);
+			rv++;
+		}
+		return rv;
+	}
+
+
+	/** returns the number of levels in the tree */
+	public int getDepth() throws Exception
+	{
+		return loadRoot().getDepth();
+	}
+
+
+	public void dump(Appendable out, String indent) throws Exception
+	{
+		BPlusTreeNode<SKey,DataHolder<R>> root = loadRoot();
+		root.dump(out, indent, 0);
+	}
+	
+	
+	public void dumpKeys(Appendable out, String indent) throws Exception
+	{
+		BPlusTreeNode<SKey,DataHolder<R>> root = loadRoot();
+		root.dumpKeys(out, indent, 0);
+	}
+	
+	
+	//
+	
+	
+	@FunctionalInterface
+	protected static interface IPackedVisitor<R extends IRef>
+	{
+		public void visitPacked(SKey key, DataHolder.PackedHolder<R> h) throws Exception;
+	}
+	
+	
+	//
+	
+	
+	protected static class Pending<R extends IRef>
+	{
+		public final DBTransaction<R> tx;
+		public final CompletableFuture<Void> future;
+		
+		
+		public Pending(DBTransaction<R> tx, CompletableFuture<Void> future)
+		{
+			this.tx = tx;
+			this.future = future;
+		}
+	}
+}
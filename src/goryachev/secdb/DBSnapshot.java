@@ -0,0 +1,340 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.log.Log;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import goryachev.secdb.internal.DBInternalNode;
+import goryachev.secdb.internal.DBLeafNode;
+import goryachev.secdb.internal.DataHolder;
+import goryachev.secdb.internal.NodeCache;
+import goryachev.secdb.internal.NodeHolder;
+import goryachev.secdb.internal.ParallelScan;
+import goryachev.secdb.internal.SnapshotTracker;
+import goryachev.secdb.internal.TreeCursor;
+import goryachev.secdb.internal.ValuePrefetcher;
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * Read-only view of the database at the time the snapshot was taken.
+ * 
+ * The snapshot holds the root node, so all the reads see the same version of the tree
+ * regardless of the transactions committed afterwards.  The upper levels of the tree are 
+ * shared via the node cache.  The snapshot is thread safe.
+ * 
+ * An open snapshot prevents the storage of its version from being reclaimed (see SnapshotTracker).
+ * The snapshot should be closed when no longer needed, otherwise it is released when garbage collected.
+ */
+public class DBSnapshot<R extends IRef>
+	implements Closeable
+{
+	protected static final Log log = Log.get("DBSnapshot");
+	private final NodeCache<R> cache;
+	private final R rootRef;
+	private final BPlusTreeNode<SKey,DataHolder<R>> root;
+	private final SnapshotTracker tracker;
+	private final long sequence;
+	private final Closeable pin;
+	
+	
+	/** the pin must be opened before the root reference is read, it is not released if the constructor fails */
+	protected DBSnapshot(NodeCache<R> cache, R rootRef, SnapshotTracker tracker, long sequence, Closeable pin) throws Exception
+	{
+		this.cache = cache;
+		this.rootRef = rootRef;
+		this.tracker = tracker;
+		this.sequence = sequence;
+		this.pin = pin;
+		this.root = (rootRef == null) ? DBLeafNode.createModified(cache) : cache.getNode(rootRef);
+	}
+	
+	
+	/** releases the snapshot.  the values obtained from the snapshot should not be read afterwards */
+	public void close()
+	{
+		CKit.close(pin);
+	}
+	
+	
+	/** 
+	 * registers another reader of this version, which keeps it pinned after the snapshot is closed.
+	 * the pin is released by close(), or when it becomes unreachable.
+	 */
+	public Closeable pin()
+	{
+		return tracker.open(sequence);
+	}
+	
+	
+	/** returns the commit sequence number of the version seen by this snapshot */
+	public long getSequence()
+	{
+		return sequence;
+	}
+	
+	
+	/** returns the root reference, or null if the database is empty */
+	public R getRootRef()
+	{
+		return rootRef;
+	}
+	
+	
+	public DataHolder<R> getValue(SKey key) throws Exception
+	{
+		DataHolder<R> h = root.getValue(key);
+		log.trace("key=%s, ref=%s", key, h);
+		return h;
+	}
+
+
+	/** 
+	 * returns the values for the specified keys in the same order, or nulls for the keys not found.
+	 * the keys are sorted and looked up in a single descent, so each node is visited at most once.
+	 */
+	public CList<DataHolder<R>> getValues(List<SKey> keys) throws Exception
+	{
+		int sz = keys.size();
+		SKey[] sorted = keys.toArray(new SKey[sz]);
+		Arrays.sort(sorted);
+		
+		DataHolder<R>[] found = new DataHolder[sz];
+		getValues(root, sorted, 0, sz, found);
+		
+		CList<DataHolder<R>> rv = new CList<>(sz);
+		for(SKey k: keys)
+		{
+			int ix = Arrays.binarySearch(sorted, k);
+			rv.add(found[ix]);
+		}
+		return rv;
+	}
+	
+	
+	/** looks up the sorted keys in the range [from, to) */
+	private void getValues(BPlusTreeNode<SKey,DataHolder<R>> n, SKey[] sorted, int from, int to, DataHolder<R>[] found) throws Exception
+	{
+		if(n instanceof DBInternalNode)
+		{
+			DBInternalNode<R> p = (DBInternalNode)n;
+			int i = from;
+			while(i < to)
+			{
+				// the keys which belong to the same child
+				int ix = p.findInsertIndex(sorted[i]);
+				int j = i + 1;
+				if(ix < p.size())
+				{
+					SKey sep = p.keyAt(ix);
+					while((j < to) && (sorted[j].compareTo(sep) < 0))
+					{
+						j++;
+					}
+				}
+				else
+				{
+					j = to;
+				}
+				
+				getValues(p.nodeHolderAt(ix).getNode(cache, false), sorted, i, j, found);
+				i = j;
+			}
+		}
+		else
+		{
+			for(int i=from; i<to; i++)
+			{
+				found[i] = n.getValue(sorted[i]);
+			}
+		}
+	}
+
+
+	public boolean containsKey(SKey key) throws Exception
+	{
+		return root.containsKey(key);
+	}
+
+	
+	/** performs a range query */
+	public void rangeQuery(SKey start, boolean includeStart, SKey end, boolean includeEnd, QueryClient<SKey,DataHolder<R>> client) throws Exception
+	{
+		root.rangeQuery(start, includeStart, end, includeEnd, client);
+	}
+	
+	
+	/** 
+	 * Finds all the entries where the key "starts with" the given prefix.  
+	 * The prefix is converted to a range of keys [prefix, successor).
+	 */ 
+	public void prefixQuery(SKey prefix, QueryClient<SKey,DataHolder<R>> client) throws Exception
+	{
+		root.queryForward(prefix, true, DBEngine.successor(prefix), false, client);
+	}
+	
+	
+	/** 
+	 * Finds all the entries where the key "starts with" the given prefix, in reverse order.  
+	 */ 
+	public void prefixReverseQuery(SKey prefix, QueryClient<SKey,DataHolder<R>> client) throws Exception
+	{
+		root.queryBackward(DBEngine.successor(prefix), false, prefix, true, client);
+	}
+
+	
+	
+	/** performs a range query, reading the stored values ahead of the client in parallel (see ValuePrefetch) */
+	public void rangeQuery(SKey start, boolean includeStart, SKey end, boolean includeEnd, ValuePrefetch prefetch, QueryClient<SKey,DataHolder<R>> client) throws Exception
+	{
+		prefetch(prefetch, client, (c) -> root.rangeQuery(start, includeStart, end, includeEnd, c));
+	}
+	
+	
+	/** prefix query which reads the stored values ahead of the client in parallel (see ValuePrefetch) */
+	public void prefixQuery(SKey prefix, ValuePrefetch prefetch, QueryClient<SKey,DataHolder<R>> client) throws Exception
+	{
+		prefetch(prefetch, client, (c) -> prefixQuery(prefix, c));
+	}
+	
+	
+	/** reverse prefix query which reads the stored values ahead of the client in parallel (see ValuePrefetch) */
+	public void prefixReverseQuery(SKey prefix, ValuePrefetch prefetch, QueryClient<SKey,DataHolder<R>> client) throws Exception
+	{
+		prefetch(prefetch, client, (c) -> prefixReverseQuery(prefix, c));
+	}
+	
+	
+	private void prefetch(ValuePrefetch prefetch, QueryClient<SKey,DataHolder<R>> client, IQuery<R> query) throws Exception
+	{
+		ValuePrefetcher<R> p = new ValuePrefetcher<>(prefetch, ForkJoinPool.commonPool(), client);
+		try
+		{
+			query.run(p);
+			p.finish();
+		}
+		finally
+		{
+			p.cancel();
+		}
+	}
+
+
+	/**
+	 * scans the range [start, end) using several threads of the common ForkJoinPool.
+	 * either bound might be null (unbounded).  the entries are delivered in no particular order, 
+	 * from several threads at once, so the client must be thread safe.
+	 */
+	public void parallelQuery(SKey start, SKey end, QueryClient<SKey,DataHolder<R>> client) throws Exception
+	{
+		new ParallelScan<>(cache, root, start, end, ForkJoinPool.commonPool()).scan(client);
+	}
+	
+	
+	/**
+	 * scans the range [start, end) using several threads of the common ForkJoinPool.
+	 * the entries are converted by the mapper in the pool threads, the results are delivered 
+	 * to the client in key order in the calling thread.
+	 */
+	public <T> void parallelQuery(SKey start, SKey end, QueryMapper<SKey,DataHolder<R>,T> mapper, QueryClient<SKey,T> client) throws Exception
+	{
+		new ParallelScan<>(cache, root, start, end, ForkJoinPool.commonPool()).scanOrdered(mapper, client);
+	}
+
+
+	/**
+	 * creates a cursor over this snapshot.
+	 * the range includes the start key and excludes the end key, either of which might be null.
+	 * when iterating backward, start is expected to be greater than end.
+	 * the cursor keeps this version pinned until closed, even if the snapshot is closed first.
+	 */
+	public TreeCursor<R> cursor(SKey start, SKey end, boolean forward) throws Exception
+	{
+		TreeCursor<R> c = new TreeCursor<>(cache, rootRef, root, start, end, forward);
+		c.setPin(tracker.open(sequence));
+		return c;
+	}
+	
+	
+	/**
+	 * returns the number of entries with keys in the range [start, end), either of which might be null (unbounded).
+	 * uses the subtree entry counts stored in the internal nodes, without visiting the leaves in between.
+	 */
+	public long count(SKey start, SKey end) throws Exception
+	{
+		long from = (start == null) ? 0 : rank(start);
+		long to = (end == null) ? NodeHolder.count(root) : rank(end);
+		return Math.max(0, to - from);
+	}
+
+
+	/** returns the number of entries with keys less than the specified key */
+	public long rank(SKey key) throws Exception
+	{
+		BPlusTreeNode<SKey,DataHolder<R>> n = root;
+		long rv = 0;
+		while(n instanceof DBInternalNode)
+		{
+			DBInternalNode<R> p = (DBInternalNode)n;
+			int ix = p.findInsertIndex(key);
+			for(int i=0; i<ix; i++)
+			{
+				rv += p.nodeHolderAt(i).getCount(cache);
+			}
+			n = p.nodeHolderAt(ix).getNode(cache, false);
+		}
+
+		int ix = n.indexOf(key);
+		return rv + ((ix < 0) ? (-ix - 1) : ix);
+	}
+
+
+	/** returns the key at the specified offset in ascending key order, or null if the offset is out of range */
+	public SKey keyAt(long offset) throws Exception
+	{
+		if(offset < 0)
+		{
+			return null;
+		}
+
+		BPlusTreeNode<SKey,DataHolder<R>> n = root;
+		while(n instanceof DBInternalNode)
+		{
+			DBInternalNode<R> p = (DBInternalNode)n;
+			int sz = p.size() + 1;
+			int ix = 0;
+			for(;;)
+			{
+				if(ix == sz)
+				{
+					return null;
+				}
+
+				long ct = p.nodeHolderAt(ix).getCount(cache);
+				if(offset < ct)
+				{
+					break;
+				}
+				offset -= ct;
+				ix++;
+			}
+			n = p.nodeHolderAt(ix).getNode(cache, false);
+		}
+
+		return (offset < n.size()) ? n.keyAt((int)offset) : null;
+	}
+	
+	
+	//
+	
+	
+	@FunctionalInterface
+	protected static interface IQuery<R extends IRef>
+	{
+		public void run(QueryClient<SKey,DataHolder<R>> client) throws Exception;
+	}
+}
@@ -1,111 +1,215 @@
-// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb;
-import goryachev.common.log.Log;
-import goryachev.common.util.Assert;
-import goryachev.common.util.SKey;
-import goryachev.secdb.bplustree.BPlusTreeNode;
-import goryachev.secdb.internal.DBEngineIO;
-import goryachev.secdb.internal.DataHolder;
-
-
-/**
- * Transaction base class.
- */
-public abstract class DBTransaction<R extends IRef>
-{
-	protected abstract void body() throws Exception;
-	
-	//
-	
-	private IStore<R> store;
-	private BPlusTreeNode<SKey,DataHolder<R>> root;
-	private int branchingFactor;
-	protected static final Log log = Log.get("DBTransaction");
-	
-	
-	public DBTransaction()
-	{
-	}
-	
-	
-	public DataHolder read(SKey key) throws Exception
-	{
-		Assert.notNull(key, "key");
-		
-		return root.getValue(key);
-	}
-	
-	
-	public boolean containsKey(SKey key) throws Exception
-	{
-		Assert.notNull(key, "key");
-		
-		return root.containsKey(key);
-	}
-	
-	
-	public void insert(SKey key, IStream is) throws Exception
-	{
-		Assert.notNull(key, "key");
-		
-		DataHolder<R> h;
-		
-		if(is.getLength() < DBEngineIO.MAX_INLINE_SIZE)
-		{
-			// store value inline
-			byte[] b = is.readBytes(DBEngineIO.MAX_INLINE_SIZE);
-			h = new DataHolder.ValueHolder(store, b);
-		}
-		else
-		{
-			// store value in a separate segment
-			R ref = store.store(is, false);
-			h = new DataHolder.RefHolder<R>(store, ref);
-		}
-		
-		BPlusTreeNode<SKey,DataHolder<R>> newRoot = root.insertValue(root, key, h, branchingFactor);
-		if(newRoot == null)
-		{
-			throw new Error("null root?");
-		}
-		root = newRoot;
-	}
-	
-	
-	public void remove(SKey key) throws Exception
-	{
-		Assert.notNull(key, "key");
-		
-		BPlusTreeNode<SKey,DataHolder<R>> newRoot = root.remove(root, key, branchingFactor);
-		if(newRoot != null)
-		{
-			root = newRoot;
-		}
-	}
-	
-	
-	protected void setRoot(IStore<R> store, BPlusTreeNode<SKey,DataHolder<R>> root, int branchingFactor)
-	{
-		if(root == null)
-		{
-			throw new Error("trying to set a null root");
-		}
-		
-		if(this.store == null)
-		{
-			this.store = store;
-			this.root = root;
-			this.branchingFactor = branchingFactor;
-		}
-		else
-		{
-			throw new Error("transaction can be executed only once");
-		}	
-	}
-	
-	
-	protected BPlusTreeNode<SKey,DataHolder<R>> getRoot()
-	{
-		return root;
-	}
-}
+// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.log.Log;
+import goryachev.common.util.Assert;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import goryachev.secdb.bplustree.RemovalListener;
+import goryachev.secdb.internal.DBEngineIO;
+import goryachev.secdb.internal.DBInternalNode;
+import goryachev.secdb.internal.DataHolder;
+import goryachev.secdb.internal.ValueLog;
+import java.util.List;
+
+
+/**
+ * Transaction base class.
+ */
+public abstract class DBTransaction<R extends IRef>
+{
+	protected abstract void body() throws Exception;
+	
+	//
+	
+	private IStore<R> store;
+	private ValueLog<R> valueLog;
+	private BPlusTreeNode<SKey,DataHolder<R>> root;
+	private int pageSize;
+	private int inlineLimit;
+	private final CList<R> unlinkedNodes = new CList<>();
+	private final CList<R> writtenValues = new CList<>();
+	private final CList<R> storedNodes = new CList<>();
+	protected static final Log log = Log.get("DBTransaction");
+	
+	
+	public DBTransaction()
+	{
+	}
+	
+	
+	public DataHolder read(SKey key) throws Exception
+	{
+		Assert.notNull(key, "key");
+		
+		return root.getValue(key);
+	}
+	
+	
+	public boolean containsKey(SKey key) throws Exception
+	{
+		Assert.notNull(key, "key");
+		
+		return root.containsKey(key);
+	}
+	
+	
+	public void insert(SKey key, IStream is) throws Exception
+	{
+		Assert.notNull(key, "key");
+		
+		DataHolder<R> h = DBEngineIO.createDataHolder(store, valueLog, inlineLimit, is);
+		if(h.isRef())
+		{
+			writtenValues.add(h.getRef());
+		}
+		
+		BPlusTreeNode<SKey,DataHolder<R>> newRoot = root.insertValue(root, key, h, pageSize);
+		if(newRoot == null)
+		{
+			throw new Error("null root?");
+		}
+		root = newRoot;
+	}
+	
+	
+	public void remove(SKey key) throws Exception
+	{
+		Assert.notNull(key, "key");
+		
+		BPlusTreeNode<SKey,DataHolder<R>> newRoot = root.remove(root, key, pageSize);
+		if(newRoot != null)
+		{
+			root = newRoot;
+		}
+	}
+	
+	
+	/** 
+	 * removes the entries with keys in the range [start, end), either bound might be null (unbounded).
+	 * the subtrees which lie entirely within the range are dropped without being loaded,
+	 * so the cost depends on the depth of the tree rather than on the number of entries removed.
+	 */
+	public void removeRange(SKey start, SKey end) throws Exception
+	{
+		if((start != null) && (end != null) && (start.compareTo(end) >= 0))
+		{
+			return;
+		}
+		
+		BPlusTreeNode<SKey,DataHolder<R>> newRoot = root.removeRange(start, end, pageSize, new RemovalListener<SKey,DataHolder<R>>()
+		{
+			public void valueRemoved(DataHolder<R> v)
+			{
+				// the commit finds the removed values no longer reachable
+			}
+
+
+			public void subtreeRemoved(DataHolder<R> node)
+			{
+				unlinkedNodes.add(node.getRef());
+			}
+		});
+		
+		if(newRoot != null)
+		{
+			root = newRoot;
+		}
+	}
+	
+	
+	/** removes all the entries where the key "starts with" the given prefix */
+	public void removePrefix(SKey prefix) throws Exception
+	{
+		Assert.notNull(prefix, "prefix");
+		
+		removeRange(prefix, DBEngine.successor(prefix));
+	}
+	
+	
+	/** 
+	 * marks the nodes on the path to the key as modified, so they are stored anew when the transaction is committed.
+	 * a null key selects the leftmost path.  used to move the nodes out of the segments being compacted.
+	 */
+	protected void rewritePath(SKey key) throws Exception
+	{
+		root.setModified();
+		if(root instanceof DBInternalNode)
+		{
+			((DBInternalNode<R>)root).rewritePath(key);
+		}
+	}
+	
+	
+	/** returns the values stored by this transaction, which might have been replaced or removed before the commit */
+	protected CList<R> getWrittenValues()
+	{
+		return writtenValues;
+	}
+	
+	
+	/** 
+	 * reports the blocks written by a bulk load: the tree nodes stored ahead of the commit, 
+	 * and the other blocks which might not be referenced by the new tree (see BulkLoader)
+	 */
+	protected void addStored(List<R> nodes, List<R> blocks)
+	{
+		storedNodes.addAll(nodes);
+		writtenValues.addAll(nodes);
+		writtenValues.addAll(blocks);
+	}
+	
+	
+	/** returns the tree nodes stored by this transaction ahead of the commit */
+	protected CList<R> getStoredNodes()
+	{
+		return storedNodes;
+	}
+	
+	
+	/** returns the stored subtrees dropped as a whole by the range removals */
+	protected CList<R> getUnlinkedNodes()
+	{
+		return unlinkedNodes;
+	}
+	
+	
+	protected void setRoot(IStore<R> store, ValueLog<R> valueLog, BPlusTreeNode<SKey,DataHolder<R>> root, int pageSize, int inlineLimit)
+	{
+		if(root == null)
+		{
+			throw new Error("trying to set a null root");
+		}
+		
+		if(this.store == null)
+		{
+			this.store = store;
+			this.valueLog = valueLog;
+			this.root = root;
+			this.pageSize = pageSize;
+			this.inlineLimit = inlineLimit;
+		}
+		else
+		{
+			throw new Error("transaction can be executed only once");
+		}	
+	}
+	
+	
+	protected BPlusTreeNode<SKey,DataHolder<R>> getRoot()
+	{
+		return root;
+	}
+	
+	
+	/** replaces the tree with the one built outside of this transaction (see BulkLoader) */
+	protected void replaceRoot(BPlusTreeNode<SKey,DataHolder<R>> newRoot)
+	{
+		if(newRoot == null)
+		{
+			throw new Error("trying to set a null root");
+		}
+		root = newRoot;
+	}
+
+}
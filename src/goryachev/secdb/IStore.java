@@ -1,51 +1,106 @@
-// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb;
-import goryachev.common.io.DReader;
-import goryachev.common.io.DWriter;
-
-
-/**
- * Low Level Storage Interface.
- * 
- * Stores variable size blocks, represented by IStream objects.
- */
-public interface IStore<R>
-{
-	/** 
-	 * returns the tree root reference or null.
-	 * must be thread safe in regards to other operations such as 
-	 * reading, storing, or setRootRef().
-	 */
-	public R getRootRef();
-	
-	/** 
-	 * updates the tree root reference.
-	 * any subsequent calls to getRootRef() must return the new value.
-	 */
-	public void setRootRef(R ref) throws Exception;
-	
-	/**
-	 * stores a block.
-	 * isTree tells whether the block is a part of the tree,
-	 * as opposed to data value.
-	 * The store may also take into account IStream.getLength().
-	 */
-	public R store(IStream in, boolean isTree) throws Exception;
-	
-	/**
-	 * returns the stream that allows to read a block.
-	 * The store must support multiple threads reading different or same
-	 * blocks at the same time.
-	 */
-	public IStream load(R ref) throws Exception;
-	
-	
-	public void writeRef(R ref, DWriter wr) throws Exception;
-
-	
-	public R readRef(DReader rd) throws Exception;
-
-	
-	/** storage may have overhead */
-	public long convertLength(long length, boolean whenEncrypting);
-}
+// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.io.DReader;
+import goryachev.common.io.DWriter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Low Level Storage Interface.
+ * 
+ * Stores variable size blocks, represented by IStream objects.
+ */
+public interface IStore<R>
+{
+	/** 
+	 * returns the tree root reference or null.
+	 * must be thread safe in regards to other operations such as 
+	 * reading, storing, or setRootRef().
+	 */
+	public R getRootRef();
+	
+	/** 
+	 * updates the tree root reference.
+	 * any subsequent calls to getRootRef() must return the new value.
+	 */
+	public void setRootRef(R ref) throws Exception;
+	
+	/**
+	 * updates the tree root reference as part of a commit, along with the blocks which are no longer
+	 * reachable from the new root: the old copies of the rewritten nodes, the replaced and removed values,
+	 * and the values written and then replaced before the commit.  each block is listed once.
+	 * the values packed into the shared blocks (see ValueLog) are reported separately, as the total length
+	 * of the unreachable values in each block.  a block is never listed as a whole.
+	 * the subtrees dropped as a whole by a range removal are not read by the commit, and are listed by their
+	 * root nodes only.  their blocks are reported later by addUnreachable() (see DBEngine.reportDroppedSubtrees()),
+	 * until then the store must keep them, across reopening, to be returned by getDroppedSubtrees().
+	 * the blocks might still be read through the snapshots taken earlier.
+	 * the default implementation ignores the lists.
+	 */
+	default public void setRootRef(R ref, List<R> unreachable, Map<R,Long> unreachablePacked, List<R> dropped) throws Exception
+	{
+		setRootRef(ref);
+	}
+	
+	/**
+	 * stores a block.
+	 * isTree tells whether the block is a part of the tree,
+	 * as opposed to data value.
+	 * The store may also take into account IStream.getLength().
+	 */
+	public R store(IStream in, boolean isTree) throws Exception;
+	
+	/**
+	 * returns the stream that allows to read a block.
+	 * The store must support multiple threads reading different or same
+	 * blocks at the same time.
+	 */
+	public IStream load(R ref) throws Exception;
+	
+	
+	public void writeRef(R ref, DWriter wr) throws Exception;
+
+	
+	public R readRef(DReader rd) throws Exception;
+
+	
+	/** storage may have overhead */
+	public long convertLength(long length, boolean whenEncrypting);
+	
+	
+	/** 
+	 * returns the time, in milliseconds, the commit pipeline waits for more transactions before committing 
+	 * a batch which is not full, in addition to the batch limits of the engine (see DBEngine.setBatchLimits()).
+	 * a store which forces each commit to disk can request batching this way.  the default implementation returns 0.
+	 */
+	default public long getCommitLinger()
+	{
+		return 0;
+	}
+	
+	
+	/** returns the maximum number of transactions committed together, as required by the store (see getCommitLinger()) */
+	default public int getCommitBatchSize()
+	{
+		return Integer.MAX_VALUE;
+	}
+	
+	
+	/** returns the roots of the dropped subtrees whose blocks have not been reported yet (see setRootRef(R,List,Map,List)) */
+	default public List<R> getDroppedSubtrees()
+	{
+		return Collections.emptyList();
+	}
+	
+	
+	/**
+	 * reports the blocks of a subtree dropped by an earlier commit, along with the total length of its packed values 
+	 * in each block.  the subtree is no longer returned by getDroppedSubtrees().  a subtree which has already been 
+	 * reported is ignored.  the default implementation does nothing.
+	 */
+	default public void addUnreachable(R subtree, List<R> unreachable, Map<R,Long> unreachablePacked) throws Exception
+	{
+	}
+}
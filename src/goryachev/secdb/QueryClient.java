@@ -1,13 +1,13 @@
-// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb;
-
-
-/**
- * Query Client.
- */
-@FunctionalInterface
-public interface QueryClient<K,V>
-{
-	/** accepts query results.  the query is aborted when this callback returns false */
-	public boolean acceptQueryResult(K key, V value) throws Exception;
+// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+
+
+/**
+ * Query Client.
+ */
+@FunctionalInterface
+public interface QueryClient<K,V>
+{
+	/** accepts query results.  the query is aborted when this callback returns false */
+	public boolean acceptQueryResult(K key, V value) throws Exception;
 }
\ No newline at end of file
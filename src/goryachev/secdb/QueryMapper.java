@@ -0,0 +1,12 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+
+
+/**
+ * Converts query results, possibly in a different thread (see SecDB.parallelQuery()).
+ */
+@FunctionalInterface
+public interface QueryMapper<K,V,T>
+{
+	public T map(K key, V value) throws Exception;
+}
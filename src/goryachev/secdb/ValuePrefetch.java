@@ -0,0 +1,42 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.util.CKit;
+
+
+/**
+ * Value prefetch option for range and prefix queries.
+ * 
+ * The values of up to 'count' results ahead of the client are read and decrypted in parallel,
+ * as long as their total size stays within 'maxBytes'.  The client receives the values already
+ * in memory, in the usual key order.  A value larger than the budget is delivered as is.
+ */
+public class ValuePrefetch
+{
+	public static final ValuePrefetch DEFAULT = new ValuePrefetch(16, CKit.mebi(4));
+	
+	public final int count;
+	public final long maxBytes;
+	
+	
+	public ValuePrefetch(int count, long maxBytes)
+	{
+		if(count < 1)
+		{
+			throw new IllegalArgumentException("count must be positive: " + count);
+		}
+		
+		if(maxBytes < 1)
+		{
+			throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+		}
+		
+		this.count = count;
+		this.maxBytes = maxBytes;
+	}
+	
+	
+	public String toString()
+	{
+		return "ValuePrefetch[count=" + count + ", maxBytes=" + maxBytes + "]";
+	}
+}
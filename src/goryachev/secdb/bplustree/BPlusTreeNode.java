@@ -26,7 +26,6 @@ import goryachev.secdb.QueryClient;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.function.Predicate;
 
 
 /**
@@ -45,38 +44,48 @@ public abstract class BPlusTreeNode<K extends Comparable<? super K>, V>
 	/** returns new root node or null if no changes were made */
 	public abstract BPlusTreeNode<K,V> remove(BPlusTreeNode<K,V> root, K key, int branchingFactor) throws Exception;
 
+	/** 
+	 * removes the entries with keys in the range [start, end) from this subtree, either bound might be null (unbounded).
+	 * returns true if any entries have been removed.
+	 */
+	protected abstract boolean removeEntries(K start, K end, int branchingFactor, RemovalListener<K,V> listener) throws Exception;
+
 	/** returns new root node or null if no changes were made */
 	public abstract BPlusTreeNode<K,V> insertValue(BPlusTreeNode<K,V> root, K key, V value, int branchingFactor) throws Exception;
 
 	protected abstract K getFirstLeafKey() throws Exception;
 	
+	/** returns true if this subtree contains no entries */
+	protected abstract boolean isEmpty() throws Exception;
+	
 	protected abstract void addChild(BPlusTreeNode<K,V> n);
 
 	protected abstract void merge(BPlusTreeNode<K,V> sibling) throws Exception;
 
 	protected abstract BPlusTreeNode<K,V> split() throws Exception;
 
+	/** 
+	 * the branching factor limits the number of entries in a node.
+	 * size-aware nodes interpret this value as the target serialized node size in bytes. 
+	 */
 	public abstract boolean isOverflow(int branchingFactor);
 
 	public abstract boolean isUnderflow(int branchingFactor);
 	
-	public abstract boolean queryForward(K start, boolean includeStart, K end, boolean endPolicy, QueryClient<K,V> client) throws Exception;
-
-	public abstract boolean queryBackward(K start, boolean includeStart, K end, boolean endPolicy, QueryClient<K,V> client) throws Exception;
+	/** returns the number of levels in this subtree */
+	public abstract int getDepth() throws Exception;
 	
 	/** 
-	 * Finds all the entries where the key "starts with" the given prefix.  
-	 * If the key type does not support such an operation, an UnsupportedOperationException is thrown.
-	 * Returns true if the query can continue, false when no more items are present.
-	 */ 
-	public abstract boolean prefixQuery(K prefix, Predicate<K> isPrefix, QueryClient<K,V> client) throws Exception;
-	
+	 * visits the entries from start up to end, in ascending order.  null end means no upper bound.
+	 * returns true if the query can continue, false when no more items are present.
+	 */
+	public abstract boolean queryForward(K start, boolean includeStart, K end, boolean endPolicy, QueryClient<K,V> client) throws Exception;
+
 	/** 
-	 * Finds all the entries where the key "starts with" the given prefix, in reverse order.  
-	 * If the key type does not support such an operation, an UnsupportedOperationException is thrown.
-	 * Returns true if the query can continue, false when no more items are present.
-	 */ 
-	public abstract boolean prefixReverseQuery(K prefix, Predicate<K> isPrefix, QueryClient<K,V> client) throws Exception;
+	 * visits the entries from start down to end, in descending order.  null start means the last entry.
+	 * returns true if the query can continue, false when no more items are present.
+	 */
+	public abstract boolean queryBackward(K start, boolean includeStart, K end, boolean endPolicy, QueryClient<K,V> client) throws Exception;
 	
 	public abstract boolean isLeafNode();
 	
@@ -88,6 +97,7 @@ public abstract class BPlusTreeNode<K extends Comparable<? super K>, V>
 
 	protected final List<K> keys;
 	private boolean modified;
+	private boolean readOnly;
 	
 	
 	public BPlusTreeNode()
@@ -137,8 +147,33 @@ public abstract class BPlusTreeNode<K extends Comparable<? super K>, V>
 	
 	public void setModified()
 	{
+		if(readOnly)
+		{
+			throw new Error("read-only node");
+		}
 		modified = true;
 	}
+	
+	
+	/** read-only nodes may be shared between threads and must not be modified */
+	public final boolean isReadOnly()
+	{
+		return readOnly;
+	}
+	
+	
+	public void setReadOnly()
+	{
+		readOnly = true;
+	}
+	
+	
+	/** called after the node has been stored: the node becomes read-only and is no longer modified */
+	public void setStored()
+	{
+		readOnly = true;
+		modified = false;
+	}
 
 
 	public String toString()
@@ -170,6 +205,37 @@ public abstract class BPlusTreeNode<K extends Comparable<? super K>, V>
 	}
 	
 	
+	/**
+	 * removes the entries with keys in the range [start, end), either bound might be null (unbounded).
+	 * the children which lie entirely within the range are unlinked without being visited,
+	 * only the nodes along the two boundary paths are modified.
+	 * the listener, if not null, receives the removed values and subtrees.
+	 * returns new root node or null if no changes were made.
+	 */
+	public BPlusTreeNode<K,V> removeRange(K start, K end, int branchingFactor, RemovalListener<K,V> listener) throws Exception
+	{
+		if(!removeEntries(start, end, branchingFactor, listener))
+		{
+			return null;
+		}
+		
+		// collapse the root which is left with a single child
+		BPlusTreeNode<K,V> n = this;
+		while(n instanceof InternalNode)
+		{
+			InternalNode<K,V> p = (InternalNode)n;
+			if(p.getChildCount() > 1)
+			{
+				break;
+			}
+			n = p.childAt(0);
+			// the new root must be committed even if its contents did not change
+			n.setModified();
+		}
+		return n;
+	}
+	
+	
 	protected LeafNode<K,V> newLeafNode()
 	{
 		return new LeafNode<>();
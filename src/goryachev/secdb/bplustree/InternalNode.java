@@ -1,407 +1,551 @@
-// Copyright © 2020-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb.bplustree;
-import goryachev.secdb.QueryClient;
-import java.util.function.Predicate;
-
-
-/**
- * Internal B+ Tree Node (an Index Node).
- */
-public abstract class InternalNode<K extends Comparable<? super K>,V>
-	extends BPlusTreeNode<K,V>
-{
-	protected abstract int getChildCount();
-	
-	protected abstract BPlusTreeNode<K,V> childAt(int ix) throws Exception;
-	
-	protected abstract void removeChildAt(int ix);
-	
-	protected abstract void setChild(int ix, BPlusTreeNode<K,V> n);
-	
-	protected abstract void addChild(int ix, BPlusTreeNode<K,V> n);
-	
-	//
-	
-	public InternalNode()
-	{
-	}
-	
-	
-	public boolean isLeafNode()
-	{
-		return false;
-	}
-	
-	
-	@Override
-	public boolean containsKey(K key) throws Exception
-	{
-		return getChild(key).containsKey(key);
-	}
-
-
-	@Override
-	public V getValue(K key) throws Exception
-	{
-		return getChild(key).getValue(key);
-	}
-	
-
-	@Override
-	public BPlusTreeNode<K,V> insertValue(BPlusTreeNode<K,V> root, K key, V value, int branchingFactor) throws Exception
-	{
-		BPlusTreeNode<K,V> child = getChild(key);
-		child.insertValue(root, key, value, branchingFactor);
-		setModified();
-		
-		if(child.isOverflow(branchingFactor))
-		{
-			BPlusTreeNode<K,V> sibling = child.split();
-			insertChild(sibling.getFirstLeafKey(), sibling);
-		}
-		
-		if(root.isOverflow(branchingFactor))
-		{
-			BPlusTreeNode<K,V> sibling = split();
-			InternalNode<K,V> newRoot = newInternalNode();
-			newRoot.keys.add(sibling.getFirstLeafKey());
-			newRoot.addChild(this);
-			newRoot.addChild(sibling);
-			newRoot.setModified();
-			return newRoot;
-		}
-		return root;
-	}
-
-
-	@Override
-	protected K getFirstLeafKey() throws Exception
-	{
-		return childAt(0).getFirstLeafKey();
-	}
-	
-	
-	public boolean prefixQuery(K prefix, Predicate<K> isPrefix, QueryClient<K,V> client) throws Exception
-	{
-		// similar to queryForward
-		int ix = findInsertIndex(prefix);
-		int sz = getChildCount();
-		
-		for(int i=ix; i<sz; i++)
-		{
-			BPlusTreeNode n = childAt(i);
-			if(!n.prefixQuery(prefix, isPrefix, client))
-			{
-				return false;
-			}
-		}
-		
-		return true;
-	}
-	
-	
-	public boolean prefixReverseQuery(K prefix, Predicate<K> isPrefix, QueryClient<K,V> client) throws Exception
-	{
-		int ix = findReverseIndex(prefix, isPrefix);
-		if(ix < 0)
-		{
-			return false;
-		}
-		
-		int sz = getChildCount();
-		for(int i=ix; i>=0; i--)
-		{
-			BPlusTreeNode n = childAt(i);
-			if(!n.prefixReverseQuery(prefix, isPrefix, client))
-			{
-				return false;
-			}
-		}
-		
-		return true;
-	}
-	
-	
-	protected int findReverseIndex(K prefix, Predicate<K> isPrefix)
-	{
-		int sz = keys.size();
-		for(int i=sz-1; i>=0; i--)
-		{
-			K key = keys.get(i);
-			
-			if(key.compareTo(prefix) >= 0)
-			{
-				if(isPrefix.test(key))
-				{
-					return i + 1;
-				}
-				else
-				{
-					continue;
-				}
-			}
-			else
-			{
-				return i + 1;
-			}
-		}
-		return 0;
-	}
-
-	
-	public boolean queryForward(K start, boolean includeStart, K end, boolean includeEnd, QueryClient<K,V> client) throws Exception
-	{
-		int ix = findInsertIndex(start);
-		int sz = getChildCount();
-		
-		for(int i=ix; i<sz; i++)
-		{
-			BPlusTreeNode n = childAt(i);
-			if(!n.queryForward(start, includeStart, end, includeEnd, client))
-			{
-				return false;
-			}
-		}
-		
-		return true;
-	}
-
-
-	public boolean queryBackward(K start, boolean includeStart, K end, boolean includeEnd, QueryClient<K,V> client) throws Exception
-	{
-		int ix = findInsertIndex(start);
-		
-		for(int i=getChildCount()-1; i>=0; i--)
-		{
-			BPlusTreeNode n = childAt(i);
-			if(!n.queryBackward(start, includeStart, end, includeEnd, client))
-			{
-				return false;
-			}
-		}
-		
-		return true;
-	}
-
-
-	@Override
-	protected void merge(BPlusTreeNode<K,V> sibling) throws Exception
-	{
-		InternalNode<K,V> node = (InternalNode)sibling;
-		keys.add(node.getFirstLeafKey());
-		keys.addAll(node.keys);
-		
-		int sz = node.getChildCount();
-		for(int i=0; i<sz; i++)
-		{
-			addChild(node.childAt(i));
-		}
-		
-		setModified();
-	}
-
-
-	@Override
-	protected BPlusTreeNode<K,V> split() throws Exception
-	{
-		int to = size();
-		int from = to / 2 + 1;
-		InternalNode sibling = newInternalNode();
-		
-		sibling.keys.addAll(keys.subList(from, to));
-		keys.subList(from - 1, to).clear();
-		sibling.setModified();
-
-		for(int i=from; i<=to; i++)
-		{
-			sibling.addChild(childAt(from));
-			removeChildAt(from);
-		}
-		
-		setModified();
-
-		return sibling;
-	}
-
-
-	@Override
-	public boolean isOverflow(int branchingFactor)
-	{
-		return getChildCount() > branchingFactor;
-	}
-
-
-	@Override
-	public boolean isUnderflow(int branchingFactor)
-	{
-		return getChildCount() < (branchingFactor + 1) / 2;
-	}
-
-
-	protected BPlusTreeNode<K,V> getChild(K key) throws Exception
-	{
-		int ix = findInsertIndex(key);
-		return childAt(ix);
-	}
-
-
-	protected void deleteChild(K key)
-	{
-		int ix = indexOf(key);
-		if(ix >= 0)
-		{
-			keys.remove(ix);
-			removeChildAt(ix + 1);
-			setModified();
-		}
-	}
-
-
-	protected void insertChild(K key, BPlusTreeNode<K,V> child)
-	{
-		int ix = indexOf(key);
-		if(ix >= 0)
-		{
-			setChild(ix, child);
-		}
-		else
-		{
-			ix = -ix;
-			keys.add(ix - 1, key);
-			addChild(ix, child);
-		}
-		
-		setModified();
-	}
-
-	
-	public void dump(Appendable out, String indent, int level) throws Exception
-	{
-		int sz = getChildCount();
-		for(int i=0; i<sz; i++)
-		{
-			BPlusTreeNode<K,V> ch = childAt(i);
-			ch.dump(out, indent, level + 1);
-			
-			if(i < (sz - 1))
-			{
-				for(int j=0; j<level; j++)
-				{
-					out.append(indent);
-				}
-				
-				out.append("key=");
-				out.append(keyAt(i).toString());
-				out.append("\n");
-			}
-		}
-	}
-	
-	
-	public void dumpKeys(Appendable out, String indent, int level) throws Exception
-	{
-		int sz = getChildCount();
-		for(int i=0; i<sz; i++)
-		{
-			BPlusTreeNode<K,V> ch = childAt(i);
-			ch.dumpKeys(out, indent, level + 1);
-			
-			if(i < (sz - 1))
-			{
-				K k = keyAt(i);
-				
-				for(int j=0; j<level; j++)
-				{
-					out.append(indent);
-				}
-				
-				out.append("I=");
-				out.append(k.toString());
-				out.append("\n");
-			}
-		}
-	}
-	
-
-	@Override
-	public BPlusTreeNode<K,V> remove(BPlusTreeNode<K,V> root, K key, int branchingFactor) throws Exception
-	{
-		int ix = findInsertIndex(key);
-		BPlusTreeNode<K,V> child = childAt(ix);
-		
-		K firstKey = child.getFirstLeafKey();
-		
-		BPlusTreeNode<K,V> newRoot = child.remove(root, key, branchingFactor);
-		if(newRoot == null)
-		{
-			// no change
-			return null;
-		}
-		
-		setModified();
-		
-		if(ix > 0)
-		{
-			// correct key entry for modified child
-			if(key.equals(firstKey))
-			{
-				// child's first key has changed
-				K k = child.getFirstLeafKey();
-				keys.set(ix - 1, k);
-			}
-		}
-		
-		if(child.isUnderflow(branchingFactor))
-		{
-			BPlusTreeNode<K,V> left;
-			BPlusTreeNode<K,V> right;
-			
-			// pick the sibling to merge with
-			if(ix == 0)
-			{
-				// merge with right
-				left = child;
-				right = childAt(ix + 1);
-			}
-			else if((ix + 1) >= getChildCount())
-			{
-				// merge with left
-				left = childAt(ix - 1);
-				right = child;
-			}
-			else
-			{
-				// left or right (pick the largest)
-				BPlusTreeNode<K,V> lc = childAt(ix - 1);
-				BPlusTreeNode<K,V> rc = childAt(ix + 1);
-				
-				if(lc.size() > rc.size())
-				{
-					left = lc;
-					right = child;
-				}
-				else
-				{
-					left = child;
-					right = rc;
-				}
-			}
-			
-			deleteChild(right.getFirstLeafKey());
-			left.merge(right);
-			
-			if(left.isOverflow(branchingFactor))
-			{
-				BPlusTreeNode<K,V> sibling = left.split();
-				insertChild(sibling.getFirstLeafKey(), sibling);
-			}
-			
-			if(newRoot.size() == 0)
-			{
-				return left;
-			}
-		}
-
-		return newRoot;
-	}
-}
\ No newline at end of file
+// Copyright © 2020-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.bplustree;
+import goryachev.secdb.QueryClient;
+
+
+/**
+ * Internal B+ Tree Node (an Index Node).
+ */
+public abstract class InternalNode<K extends Comparable<? super K>,V>
+	extends BPlusTreeNode<K,V>
+{
+	protected abstract int getChildCount();
+	
+	protected abstract BPlusTreeNode<K,V> childAt(int ix) throws Exception;
+	
+	protected abstract void removeChildAt(int ix);
+	
+	protected abstract void setChild(int ix, BPlusTreeNode<K,V> n);
+	
+	protected abstract void addChild(int ix, BPlusTreeNode<K,V> n);
+	
+	/** moves children, starting with the specified index, to the end of the target node */
+	protected abstract void moveChildrenTo(InternalNode<K,V> target, int start);
+	
+	//
+	
+	public InternalNode()
+	{
+	}
+	
+	
+	public boolean isLeafNode()
+	{
+		return false;
+	}
+	
+	
+	/** requests the children in the range [from, to] to be loaded in the background, if supported */
+	protected void readAhead(int from, int to)
+	{
+	}
+	
+	
+	/** returns the maximum number of children requested ahead of a range scan, or 0 if not supported */
+	protected int getReadAheadLimit()
+	{
+		return 0;
+	}
+	
+	
+	@Override
+	public boolean containsKey(K key) throws Exception
+	{
+		return getChild(key).containsKey(key);
+	}
+
+
+	@Override
+	public V getValue(K key) throws Exception
+	{
+		return getChild(key).getValue(key);
+	}
+	
+
+	@Override
+	public BPlusTreeNode<K,V> insertValue(BPlusTreeNode<K,V> root, K key, V value, int branchingFactor) throws Exception
+	{
+		BPlusTreeNode<K,V> child = getChild(key);
+		child.insertValue(root, key, value, branchingFactor);
+		setModified();
+		
+		if(child.isOverflow(branchingFactor))
+		{
+			BPlusTreeNode<K,V> sibling = child.split();
+			insertChild(sibling.getFirstLeafKey(), sibling);
+		}
+		
+		// only the root is split here, an oversized child is split by its parent
+		if((root == this) && isOverflow(branchingFactor))
+		{
+			BPlusTreeNode<K,V> sibling = split();
+			InternalNode<K,V> newRoot = newInternalNode();
+			newRoot.keys.add(sibling.getFirstLeafKey());
+			newRoot.addChild(this);
+			newRoot.addChild(sibling);
+			newRoot.setModified();
+			return newRoot;
+		}
+		return root;
+	}
+
+
+	@Override
+	protected K getFirstLeafKey() throws Exception
+	{
+		return childAt(0).getFirstLeafKey();
+	}
+	
+	
+	public boolean queryForward(K start, boolean includeStart, K end, boolean includeEnd, QueryClient<K,V> client) throws Exception
+	{
+		// the child which contains the start key, if present
+		int ix = findInsertIndex(start);
+		int sz = getChildCount();
+		// the child which contains the end key
+		int last = (end == null) ? sz - 1 : Math.min(findInsertIndex(end), sz - 1);
+		int limit = getReadAheadLimit();
+		int ahead = ix;
+		int window = 1;
+		
+		for(int i=ix; i<sz; i++)
+		{
+			if(limit > 0)
+			{
+				// the read-ahead window grows as long as the scan continues
+				int target = Math.min(i + window, last);
+				if(target > ahead)
+				{
+					readAhead(ahead + 1, target);
+					ahead = target;
+				}
+				window = Math.min(window * 2, limit);
+			}
+			
+			BPlusTreeNode n = childAt(i);
+			if(!n.queryForward(start, includeStart, end, includeEnd, client))
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+
+
+	public boolean queryBackward(K start, boolean includeStart, K end, boolean includeEnd, QueryClient<K,V> client) throws Exception
+	{
+		// the child which contains the start key, if present
+		int ix = (start == null) ? getChildCount() - 1 : findInsertIndex(start);
+		// the child which contains the end key
+		int last = (end == null) ? 0 : findInsertIndex(end);
+		int limit = getReadAheadLimit();
+		int ahead = ix;
+		int window = 1;
+		
+		for(int i=ix; i>=0; i--)
+		{
+			if(limit > 0)
+			{
+				int target = Math.max(i - window, last);
+				if(target < ahead)
+				{
+					readAhead(target, ahead - 1);
+					ahead = target;
+				}
+				window = Math.min(window * 2, limit);
+			}
+			
+			BPlusTreeNode n = childAt(i);
+			if(!n.queryBackward(start, includeStart, end, includeEnd, client))
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+
+
+	@Override
+	protected void merge(BPlusTreeNode<K,V> sibling) throws Exception
+	{
+		InternalNode<K,V> node = (InternalNode)sibling;
+		keys.add(node.getFirstLeafKey());
+		keys.addAll(node.keys);
+		
+		node.moveChildrenTo(this, 0);
+		
+		setModified();
+	}
+
+
+	@Override
+	protected BPlusTreeNode<K,V> split() throws Exception
+	{
+		int to = size();
+		int from = splitIndex();
+		InternalNode sibling = newInternalNode();
+		
+		sibling.keys.addAll(keys.subList(from, to));
+		keys.subList(from - 1, to).clear();
+		sibling.setModified();
+
+		moveChildrenTo(sibling, from);
+		
+		setModified();
+
+		return sibling;
+	}
+	
+	
+	/** 
+	 * returns the index of the first key to be moved to the new sibling by split().
+	 * the key preceding it moves up to the parent node.
+	 */
+	protected int splitIndex()
+	{
+		return size() / 2 + 1;
+	}
+
+
+	@Override
+	public boolean isOverflow(int branchingFactor)
+	{
+		return getChildCount() > branchingFactor;
+	}
+
+
+	@Override
+	public boolean isUnderflow(int branchingFactor)
+	{
+		return getChildCount() < (branchingFactor + 1) / 2;
+	}
+
+
+	public int getDepth() throws Exception
+	{
+		return 1 + childAt(0).getDepth();
+	}
+
+
+	protected BPlusTreeNode<K,V> getChild(K key) throws Exception
+	{
+		int ix = findInsertIndex(key);
+		return childAt(ix);
+	}
+
+
+	protected void deleteChild(K key)
+	{
+		int ix = indexOf(key);
+		if(ix >= 0)
+		{
+			keys.remove(ix);
+			removeChildAt(ix + 1);
+			setModified();
+		}
+	}
+
+
+	protected void insertChild(K key, BPlusTreeNode<K,V> child)
+	{
+		int ix = indexOf(key);
+		if(ix >= 0)
+		{
+			setChild(ix, child);
+		}
+		else
+		{
+			ix = -ix;
+			keys.add(ix - 1, key);
+			addChild(ix, child);
+		}
+		
+		setModified();
+	}
+
+	
+	public void dump(Appendable out, String indent, int level) throws Exception
+	{
+		int sz = getChildCount();
+		for(int i=0; i<sz; i++)
+		{
+			BPlusTreeNode<K,V> ch = childAt(i);
+			ch.dump(out, indent, level + 1);
+			
+			if(i < (sz - 1))
+			{
+				for(int j=0; j<level; j++)
+				{
+					out.append(indent);
+				}
+				
+				out.append("key=");
+				out.append(keyAt(i).toString());
+				out.append("\n");
+			}
+		}
+	}
+	
+	
+	public void dumpKeys(Appendable out, String indent, int level) throws Exception
+	{
+		int sz = getChildCount();
+		for(int i=0; i<sz; i++)
+		{
+			BPlusTreeNode<K,V> ch = childAt(i);
+			ch.dumpKeys(out, indent, level + 1);
+			
+			if(i < (sz - 1))
+			{
+				K k = keyAt(i);
+				
+				for(int j=0; j<level; j++)
+				{
+					out.append(indent);
+				}
+				
+				out.append("I=");
+				out.append(k.toString());
+				out.append("\n");
+			}
+		}
+	}
+	
+
+	@Override
+	public BPlusTreeNode<K,V> remove(BPlusTreeNode<K,V> root, K key, int branchingFactor) throws Exception
+	{
+		int ix = findInsertIndex(key);
+		BPlusTreeNode<K,V> child = childAt(ix);
+		
+		K firstKey = child.getFirstLeafKey();
+		
+		BPlusTreeNode<K,V> newRoot = child.remove(root, key, branchingFactor);
+		if(newRoot == null)
+		{
+			// no change
+			return null;
+		}
+		
+		setModified();
+		
+		if(ix > 0)
+		{
+			// correct key entry for modified child, unless it became empty and is about to be merged
+			if(key.equals(firstKey) && (child.size() > 0))
+			{
+				// child's first key has changed
+				K k = child.getFirstLeafKey();
+				keys.set(ix - 1, k);
+			}
+		}
+		
+		if(child.isUnderflow(branchingFactor))
+		{
+			BPlusTreeNode<K,V> left = mergeChild(ix, branchingFactor);
+			if(newRoot.size() == 0)
+			{
+				return left;
+			}
+		}
+
+		return newRoot;
+	}
+	
+	
+	/** merges the child with its larger sibling, returns the merged node */
+	protected BPlusTreeNode<K,V> mergeChild(int ix, int branchingFactor) throws Exception
+	{
+		int leftIndex;
+		
+		// pick the sibling to merge with
+		if(ix == 0)
+		{
+			// merge with right
+			leftIndex = ix;
+		}
+		else if((ix + 1) >= getChildCount())
+		{
+			// merge with left
+			leftIndex = ix - 1;
+		}
+		else
+		{
+			// left or right (pick the largest)
+			BPlusTreeNode<K,V> lc = childAt(ix - 1);
+			BPlusTreeNode<K,V> rc = childAt(ix + 1);
+			
+			if(lc.size() > rc.size())
+			{
+				leftIndex = ix - 1;
+			}
+			else
+			{
+				leftIndex = ix;
+			}
+		}
+		
+		return mergeChildren(leftIndex, branchingFactor);
+	}
+	
+	
+	/** merges the children at leftIndex and leftIndex + 1, splitting the result if it overflows */
+	protected BPlusTreeNode<K,V> mergeChildren(int leftIndex, int branchingFactor) throws Exception
+	{
+		BPlusTreeNode<K,V> left = childAt(leftIndex);
+		BPlusTreeNode<K,V> right = childAt(leftIndex + 1);
+		
+		// the child might be empty at this point, so the separator is removed by index
+		keys.remove(leftIndex);
+		removeChildAt(leftIndex + 1);
+		left.merge(right);
+		
+		if(left.isOverflow(branchingFactor))
+		{
+			BPlusTreeNode<K,V> sibling = left.split();
+			insertChild(sibling.getFirstLeafKey(), sibling);
+		}
+		
+		setModified();
+		return left;
+	}
+	
+	
+	protected boolean isEmpty() throws Exception
+	{
+		// the emptied subtrees are removed, except for the last child
+		return (getChildCount() == 1) && childAt(0).isEmpty();
+	}
+	
+	
+	/** removes the children in the range [from, to] which lie entirely within the range being removed */
+	protected void unlinkChildren(int from, int to, RemovalListener<K,V> listener) throws Exception
+	{
+		for(int i=to; i>=from; i--)
+		{
+			removeChildAt(i);
+		}
+	}
+	
+	
+	@Override
+	protected boolean removeEntries(K start, K end, int branchingFactor, RemovalListener<K,V> listener) throws Exception
+	{
+		int sz = getChildCount();
+		// the boundary children which contain the start and the end keys, or -1 and sz when unbounded
+		int a = (start == null) ? -1 : findInsertIndex(start);
+		int b = (end == null) ? sz : findInsertIndex(end);
+		if((a < 0) && (b == sz))
+		{
+			// everything goes, the first child is emptied rather than unlinked
+			a = 0;
+		}
+		
+		if(a == b)
+		{
+			if(!childAt(a).removeEntries(start, end, branchingFactor, listener))
+			{
+				return false;
+			}
+			setModified();
+			repair(a, -1, branchingFactor);
+			return true;
+		}
+		
+		boolean modified = false;
+		int from = a + 1;
+		int to = b - 1;
+		if(from <= to)
+		{
+			unlinkChildren(from, to, listener);
+			// the separators preceding the unlinked children, or following them when the first child is unlinked
+			int k = (from > 0) ? from - 1 : 0;
+			keys.subList(k, k + to - from + 1).clear();
+			modified = true;
+		}
+		
+		// the boundary children are adjacent now
+		int left = a;
+		int right = (b < sz) ? a + 1 : -1;
+		
+		if(right >= 0)
+		{
+			if(childAt(right).removeEntries(null, end, branchingFactor, listener))
+			{
+				modified = true;
+			}
+		}
+		
+		if(left >= 0)
+		{
+			if(childAt(left).removeEntries(start, null, branchingFactor, listener))
+			{
+				modified = true;
+			}
+		}
+		
+		if(!modified)
+		{
+			return false;
+		}
+		
+		setModified();
+		repair(left, right, branchingFactor);
+		return true;
+	}
+	
+	
+	/** removes the emptied boundary children and merges the underflowing ones, either index might be -1 */
+	private void repair(int left, int right, int branchingFactor) throws Exception
+	{
+		if((right >= 0) && (getChildCount() > 1) && childAt(right).isEmpty())
+		{
+			removeEmptyChild(right);
+			right = -1;
+		}
+		
+		if((left >= 0) && (getChildCount() > 1) && childAt(left).isEmpty())
+		{
+			removeEmptyChild(left);
+			if(right >= 0)
+			{
+				right--;
+			}
+			left = -1;
+		}
+		
+		if(getChildCount() < 2)
+		{
+			// this node is either empty or gets merged by the parent
+			return;
+		}
+		
+		if((left >= 0) && (right >= 0))
+		{
+			if(childAt(left).isUnderflow(branchingFactor) || childAt(right).isUnderflow(branchingFactor))
+			{
+				mergeChildren(left, branchingFactor);
+				right = -1;
+			}
+			else
+			{
+				return;
+			}
+		}
+		
+		int ix = (left >= 0) ? left : right;
+		if((ix >= 0) && (getChildCount() > 1) && childAt(ix).isUnderflow(branchingFactor))
+		{
+			mergeChild(ix, branchingFactor);
+		}
+	}
+	
+	
+	private void removeEmptyChild(int ix)
+	{
+		keys.remove((ix > 0) ? ix - 1 : 0);
+		removeChildAt(ix);
+	}
+}
@@ -1,292 +1,310 @@
-// Copyright © 2020-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb.bplustree;
-import goryachev.secdb.QueryClient;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.function.Predicate;
-
-
-/**
- * Leaf B+ Tree Node.
- */
-public class LeafNode<K extends Comparable<? super K>,V>
-	extends BPlusTreeNode<K,V>
-{
-	protected final List<V> values;
-
-
-	public LeafNode()
-	{
-		this.values = new ArrayList<V>();
-	}
-	
-	
-	public boolean isLeafNode()
-	{
-		return true;
-	}
-	
-	
-	protected void addChild(BPlusTreeNode<K,V> n)
-	{
-		throw new Error();
-	}
-	
-	
-	@Override
-	public boolean containsKey(K key)
-	{
-		int ix = indexOf(key);
-		return (ix >= 0);
-	}
-
-
-	@Override
-	public V getValue(K key)
-	{
-		int ix = indexOf(key);
-		return ix >= 0 ? values.get(ix) : null;
-	}
-	
-
-	@Override
-	public BPlusTreeNode<K,V> remove(BPlusTreeNode<K,V> root, K key, int branchingFactor)
-	{
-		int ix = indexOf(key);
-		if(ix >= 0)
-		{
-			keys.remove(ix);
-			values.remove(ix);
-			setModified();
-			return root;
-		}
-		else
-		{
-			// not modified
-			return null;
-		}
-	}
-
-
-	@Override
-	public BPlusTreeNode<K,V> insertValue(BPlusTreeNode<K,V> root, K key, V value, int branchingFactor) throws Exception
-	{
-		int ix = indexOf(key);
-		if(ix >= 0)
-		{
-			values.set(ix, value);
-		}
-		else
-		{
-			ix = -ix - 1;
-			keys.add(ix, key);
-			values.add(ix, value);
-		}
-		
-		setModified();
-		
-		if(root.isOverflow(branchingFactor))
-		{
-			BPlusTreeNode sibling = split();
-			
-			InternalNode newRoot = newInternalNode();
-			newRoot.setModified();
-			newRoot.keys.add(sibling.getFirstLeafKey());
-			newRoot.addChild(this);
-			newRoot.addChild(sibling);
-			return newRoot;
-		}
-		return root;
-	}
-
-
-	@Override
-	protected K getFirstLeafKey()
-	{
-		return keys.get(0);
-	}
-	
-	
-	public boolean prefixQuery(K prefix, Predicate<K> isPrefix, QueryClient<K,V> client) throws Exception
-	{
-		int sz = size();
-		for(int i=0; i<sz; i++)
-		{
-			K key = keys.get(i);
-			if(key.compareTo(prefix) >= 0)
-			{
-				if(isPrefix.test(key))
-				{
-					V val = values.get(i);
-					if(!client.acceptQueryResult(key, val))
-					{
-						return false;
-					}
-				}
-				else
-				{
-					return false;
-				}
-			}
-		}
-		return true;
-	}
-	
-	
-	public boolean prefixReverseQuery(K prefix, Predicate<K> isPrefix, QueryClient<K,V> client) throws Exception
-	{
-		int sz = size();
-		for(int i=sz-1; i>=0; i--)
-		{
-			K key = keys.get(i);
-			if(key.compareTo(prefix) >= 0)
-			{
-				if(isPrefix.test(key))
-				{
-					V val = values.get(i);
-					if(!client.acceptQueryResult(key, val))
-					{
-						return false;
-					}
-				}
-				continue;
-			}
-			else
-			{
-				return false;
-			}
-		}
-		return true;
-	}
-
-
-	public boolean queryForward(K start, boolean includeStart, K end, boolean includeEnd, QueryClient<K,V> client) throws Exception
-	{
-		int sz = size();
-		for(int i=0; i<sz; i++)
-		{
-			K key = keys.get(i);
-			int cms = key.compareTo(start);
-			int cme = key.compareTo(end);
-			
-			if(((!includeStart && cms > 0) || (includeStart && cms >= 0)) && ((!includeEnd && cme < 0) || (includeEnd && cme <= 0)))
-			{
-				V val = values.get(i);
-				if(!client.acceptQueryResult(key, val))
-				{
-					return false;
-				}
-			}
-			else if((!includeEnd && cme >= 0) || (includeEnd && cme > 0))
-			{
-				return false;
-			}
-		}
-		return true;
-	}
-
-
-	public boolean queryBackward(K start, boolean includeStart, K end, boolean includeEnd, QueryClient<K,V> client) throws Exception
-	{
-		for(int i=size()-1; i>=0; i--)
-		{
-			K key = keys.get(i);
-			V val = values.get(i);
-			int cms = key.compareTo(start);
-			int cme = key.compareTo(end);
-			
-			if(((!includeStart && cms < 0) || (includeStart && cms <= 0)) && ((!includeEnd && cme > 0) || (includeEnd && cme >= 0)))
-			{
-				if(!client.acceptQueryResult(key, val))
-				{
-					return false;
-				}
-			}
-			else if((!includeEnd && cme <= 0) || (includeEnd && cme < 0))
-			{
-				return false;
-			}
-		}
-		return true;
-	}
-
-
-	@Override
-	protected void merge(BPlusTreeNode<K,V> sibling) throws Exception
-	{
-		LeafNode<K,V> node = (LeafNode<K,V>)sibling;
-		keys.addAll(node.keys);
-		values.addAll(node.values);
-		setModified();
-	}
-	
-
-	@Override
-	protected BPlusTreeNode split()
-	{
-		int to = size();
-		int from = (to + 1) / 2;
-
-		LeafNode sibling = newLeafNode();
-		sibling.setModified();
-		sibling.keys.addAll(keys.subList(from, to));
-		sibling.values.addAll(values.subList(from, to));
-
-		keys.subList(from, to).clear();
-		values.subList(from, to).clear();
-		setModified();
-
-		return sibling;
-	}
-
-
-	@Override
-	public boolean isOverflow(int branchingFactor)
-	{
-		return values.size() > branchingFactor - 1;
-	}
-
-
-	@Override
-	public boolean isUnderflow(int branchingFactor)
-	{
-		return values.size() < branchingFactor / 2;
-	}
-
-
-	public void dump(Appendable out, String indent, int level) throws Exception
-	{
-		int sz = keys.size();
-		for(int i=0; i<sz; i++)
-		{
-			K key = keys.get(i);
-			
-			for(int j=0; j<level; j++)
-			{
-				out.append(indent);
-			}
-			
-			out.append("val=");
-			out.append(key.toString());
-			out.append("\n");
-		}
-	}
-	
-	
-	public void dumpKeys(Appendable out, String indent, int level) throws Exception
-	{
-		int sz = keys.size();
-		for(int i=0; i<sz; i++)
-		{
-			K k = keyAt(i);
-			
-			for(int j=0; j<level; j++)
-			{
-				out.append(indent);
-			}
-			
-			out.append(k.toString());
-			out.append("\n");
-		}
-	}
+// Copyright © 2020-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.bplustree;
+import goryachev.secdb.QueryClient;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Leaf B+ Tree Node.
+ */
+public class LeafNode<K extends Comparable<? super K>,V>
+	extends BPlusTreeNode<K,V>
+{
+	protected final List<V> values;
+
+
+	public LeafNode()
+	{
+		this.values = new ArrayList<V>();
+	}
+	
+	
+	public boolean isLeafNode()
+	{
+		return true;
+	}
+	
+	
+	protected void addChild(BPlusTreeNode<K,V> n)
+	{
+		throw new Error();
+	}
+	
+	
+	@Override
+	public boolean containsKey(K key)
+	{
+		int ix = indexOf(key);
+		return (ix >= 0);
+	}
+
+
+	@Override
+	public V getValue(K key)
+	{
+		int ix = indexOf(key);
+		return ix >= 0 ? values.get(ix) : null;
+	}
+	
+
+	@Override
+	public BPlusTreeNode<K,V> remove(BPlusTreeNode<K,V> root, K key, int branchingFactor)
+	{
+		int ix = indexOf(key);
+		if(ix >= 0)
+		{
+			keys.remove(ix);
+			values.remove(ix);
+			setModified();
+			return root;
+		}
+		else
+		{
+			// not modified
+			return null;
+		}
+	}
+
+
+	@Override
+	protected boolean removeEntries(K start, K end, int branchingFactor, RemovalListener<K,V> listener) throws Exception
+	{
+		int from = (start == null) ? 0 : seekForward(start, true);
+		int to = (end == null) ? size() : seekForward(end, true);
+		if(from >= to)
+		{
+			return false;
+		}
+		
+		if(listener != null)
+		{
+			for(int i=from; i<to; i++)
+			{
+				listener.valueRemoved(values.get(i));
+			}
+		}
+		
+		keys.subList(from, to).clear();
+		values.subList(from, to).clear();
+		setModified();
+		return true;
+	}
+
+
+	@Override
+	public BPlusTreeNode<K,V> insertValue(BPlusTreeNode<K,V> root, K key, V value, int branchingFactor) throws Exception
+	{
+		int ix = indexOf(key);
+		if(ix >= 0)
+		{
+			values.set(ix, value);
+		}
+		else
+		{
+			ix = -ix - 1;
+			keys.add(ix, key);
+			values.add(ix, value);
+		}
+		
+		setModified();
+		
+		// only the root is split here, an oversized child is split by its parent
+		if((root == this) && isOverflow(branchingFactor))
+		{
+			BPlusTreeNode sibling = split();
+			
+			InternalNode newRoot = newInternalNode();
+			newRoot.setModified();
+			newRoot.keys.add(sibling.getFirstLeafKey());
+			newRoot.addChild(this);
+			newRoot.addChild(sibling);
+			return newRoot;
+		}
+		return root;
+	}
+
+
+	@Override
+	protected K getFirstLeafKey()
+	{
+		return keys.get(0);
+	}
+	
+	
+	protected boolean isEmpty()
+	{
+		return size() == 0;
+	}
+	
+	
+	public boolean queryForward(K start, boolean includeStart, K end, boolean includeEnd, QueryClient<K,V> client) throws Exception
+	{
+		int sz = size();
+		for(int i=seekForward(start, includeStart); i<sz; i++)
+		{
+			K key = keys.get(i);
+			if(end != null)
+			{
+				int cme = key.compareTo(end);
+				if(includeEnd ? (cme > 0) : (cme >= 0))
+				{
+					return false;
+				}
+			}
+			
+			V val = values.get(i);
+			if(!client.acceptQueryResult(key, val))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	public boolean queryBackward(K start, boolean includeStart, K end, boolean includeEnd, QueryClient<K,V> client) throws Exception
+	{
+		for(int i=seekBackward(start, includeStart); i>=0; i--)
+		{
+			K key = keys.get(i);
+			if(end != null)
+			{
+				int cme = key.compareTo(end);
+				if(includeEnd ? (cme < 0) : (cme <= 0))
+				{
+					return false;
+				}
+			}
+			
+			V val = values.get(i);
+			if(!client.acceptQueryResult(key, val))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	
+	/** returns the index of the first key which is greater than (or equal to) the start key */
+	protected int seekForward(K start, boolean includeStart)
+	{
+		int ix = indexOf(start);
+		if(ix < 0)
+		{
+			return -ix - 1;
+		}
+		return includeStart ? ix : ix + 1;
+	}
+	
+	
+	/** returns the index of the last key which is less than (or equal to) the start key, or -1 */
+	protected int seekBackward(K start, boolean includeStart)
+	{
+		if(start == null)
+		{
+			return size() - 1;
+		}
+		
+		int ix = indexOf(start);
+		if(ix < 0)
+		{
+			return -ix - 2;
+		}
+		return includeStart ? ix : ix - 1;
+	}
+
+
+	@Override
+	protected void merge(BPlusTreeNode<K,V> sibling) throws Exception
+	{
+		LeafNode<K,V> node = (LeafNode<K,V>)sibling;
+		keys.addAll(node.keys);
+		values.addAll(node.values);
+		setModified();
+	}
+	
+
+	@Override
+	protected BPlusTreeNode split()
+	{
+		int to = size();
+		int from = splitIndex();
+
+		LeafNode sibling = newLeafNode();
+		sibling.setModified();
+		sibling.keys.addAll(keys.subList(from, to));
+		sibling.values.addAll(values.subList(from, to));
+
+		keys.subList(from, to).clear();
+		values.subList(from, to).clear();
+		setModified();
+
+		return sibling;
+	}
+
+
+	/** returns the index of the first entry to be moved to the new sibling by split() */
+	protected int splitIndex()
+	{
+		return (size() + 1) / 2;
+	}
+
+
+	@Override
+	public boolean isOverflow(int branchingFactor)
+	{
+		return values.size() > branchingFactor - 1;
+	}
+
+
+	@Override
+	public boolean isUnderflow(int branchingFactor)
+	{
+		return values.size() < branchingFactor / 2;
+	}
+
+
+	public int getDepth()
+	{
+		return 1;
+	}
+
+
+	public void dump(Appendable out, String indent, int level) throws Exception
+	{
+		int sz = keys.size();
+		for(int i=0; i<sz; i++)
+		{
+			K key = keys.get(i);
+			
+			for(int j=0; j<level; j++)
+			{
+				out.append(indent);
+			}
+			
+			out.append("val=");
+			out.append(key.toString());
+			out.append("\n");
+		}
+	}
+	
+	
+	public void dumpKeys(Appendable out, String indent, int level) throws Exception
+	{
+		int sz = keys.size();
+		for(int i=0; i<sz; i++)
+		{
+			K k = keyAt(i);
+			
+			for(int j=0; j<level; j++)
+			{
+				out.append(indent);
+			}
+			
+			out.append(k.toString());
+			out.append("\n");
+		}
+	}
 }
\ No newline at end of file
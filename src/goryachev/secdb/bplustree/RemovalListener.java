@@ -0,0 +1,15 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.bplustree;
+
+
+/**
+ * Receives the parts of the tree dropped by BPlusTreeNode.removeRange().
+ */
+public interface RemovalListener<K,V>
+{
+	/** a value has been removed from a leaf */
+	public void valueRemoved(V value) throws Exception;
+	
+	/** a stored subtree has been unlinked as a whole, without being loaded */
+	public void subtreeRemoved(V node) throws Exception;
+}
@@ -0,0 +1,210 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import goryachev.common.log.Log;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IRef;
+import goryachev.secdb.IStore;
+import goryachev.secdb.IStream;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import java.util.Iterator;
+import java.util.Map;
+
+
+/**
+ * Bulk Loader.
+ * 
+ * Builds a new tree bottom-up (see TreeBuilder) from the existing entries and the new entries,
+ * which replace the existing entries with the same key.
+ * 
+ * The new entries are expected to arrive in ascending key order.  If they do not, the loader falls back
+ * to an external sort: the entries loaded so far are kept as a partial tree, the remaining entries 
+ * are sorted, and the tree is built again from the merge of the two.
+ * 
+ * The loader keeps track of the blocks it writes, so the commit can account for those 
+ * which are not referenced by the new tree (see getStoredNodes(), getWrittenBlocks()).
+ */
+public class BulkLoader<R extends IRef>
+{
+	protected static final Log log = Log.get("BulkLoader");
+	private final NodeCache<R> cache;
+	private final IStore<R> store;
+	private final int pageSize;
+	private long runSize = ExternalSorter.DEFAULT_RUN_SIZE;
+	private int inlineLimit = DBEngineIO.DEFAULT_INLINE_LIMIT;
+	private final CList<R> storedNodes = new CList<>();
+	private final CList<R> writtenBlocks = new CList<>();
+	
+	
+	public BulkLoader(NodeCache<R> cache, int pageSize)
+	{
+		this.cache = cache;
+		this.store = cache.getStore();
+		this.pageSize = pageSize;
+	}
+	
+	
+	/** sets the amount of memory used to sort the unsorted input (see ExternalSorter) */
+	public void setRunSize(long size)
+	{
+		runSize = size;
+	}
+	
+	
+	/** sets the size threshold below which the values are stored in the leaf nodes (see DBEngineIO.createDataHolder()) */
+	public void setInlineLimit(int limit)
+	{
+		inlineLimit = limit;
+	}
+	
+	
+	/** returns the tree nodes stored by the loader, including the nodes of the discarded partial tree */
+	public CList<R> getStoredNodes()
+	{
+		return storedNodes;
+	}
+	
+	
+	/** returns the values and the sorted runs written by the loader, some of which might not be referenced by the new tree */
+	public CList<R> getWrittenBlocks()
+	{
+		return writtenBlocks;
+	}
+	
+	
+	/** loads the entries, returns the new (unstored) root node */
+	public BPlusTreeNode<SKey,DataHolder<R>> load(BPlusTreeNode<SKey,DataHolder<R>> root, Iterator<? extends Map.Entry<SKey,IStream>> it) throws Exception
+	{
+		InputSource<R> in = new InputSource<>(store, inlineLimit, it, writtenBlocks);
+		
+		TreeBuilder<R> b = new TreeBuilder<>(cache, pageSize);
+		if(root.size() == 0)
+		{
+			b.addAll(in);
+		}
+		else
+		{
+			b.addAll(new MergedEntrySource<>(CList.of(new TreeCursor<>(cache, null, root, null, null, true), in)));
+		}
+		
+		BPlusTreeNode<SKey,DataHolder<R>> partial = b.finish();
+		storedNodes.addAll(b.getStoredNodes());
+		if(in.isSorted())
+		{
+			return partial;
+		}
+		
+		log.debug("unsorted input after %d entries", b.getCount());
+		
+		ExternalSorter<R> sorter = new ExternalSorter<>(store, runSize);
+		sorter.add(in.getKey(), in.getValue());
+		while(it.hasNext())
+		{
+			Map.Entry<SKey,IStream> en = it.next();
+			sorter.add(InputSource.checkKey(en), InputSource.createDataHolder(store, inlineLimit, en.getValue(), writtenBlocks));
+		}
+		
+		log.debug("sorted runs: %d", sorter.getRunCount());
+		
+		b = new TreeBuilder<>(cache, pageSize);
+		b.addAll(new MergedEntrySource<>(CList.of(new TreeCursor<>(cache, null, partial, null, null, true), sorter.getSortedSource())));
+		BPlusTreeNode<SKey,DataHolder<R>> rv = b.finish();
+		storedNodes.addAll(b.getStoredNodes());
+		writtenBlocks.addAll(sorter.getRuns());
+		return rv;
+	}
+	
+	
+	//
+	
+	
+	/** 
+	 * reads the input entries, writing the values to the store as needed.
+	 * stops at the first entry that is out of order.
+	 */
+	protected static class InputSource<R extends IRef>
+		implements IEntrySource<R>
+	{
+		private final IStore<R> store;
+		private final int inlineLimit;
+		private final Iterator<? extends Map.Entry<SKey,IStream>> input;
+		private final CList<R> written;
+		private SKey key;
+		private DataHolder<R> value;
+		private boolean unsorted;
+		
+		
+		public InputSource(IStore<R> store, int inlineLimit, Iterator<? extends Map.Entry<SKey,IStream>> input, CList<R> written)
+		{
+			this.store = store;
+			this.inlineLimit = inlineLimit;
+			this.input = input;
+			this.written = written;
+		}
+		
+		
+		/** creates the data holder, adding the stored value, if any, to the written list */
+		public static <R extends IRef> DataHolder<R> createDataHolder(IStore<R> store, int inlineLimit, IStream in, CList<R> written) throws Exception
+		{
+			DataHolder<R> h = DBEngineIO.createDataHolder(store, null, inlineLimit, in);
+			if(h.isRef())
+			{
+				written.add(h.getRef());
+			}
+			return h;
+		}
+		
+		
+		public static SKey checkKey(Map.Entry<SKey,IStream> en)
+		{
+			SKey k = en.getKey();
+			if(k == null)
+			{
+				throw new IllegalArgumentException("null key");
+			}
+			return k;
+		}
+		
+		
+		public boolean next() throws Exception
+		{
+			if(unsorted || !input.hasNext())
+			{
+				return false;
+			}
+			
+			Map.Entry<SKey,IStream> en = input.next();
+			SKey k = checkKey(en);
+			DataHolder<R> v = createDataHolder(store, inlineLimit, en.getValue(), written);
+			
+			if((key != null) && (k.compareTo(key) <= 0))
+			{
+				// the out of order entry remains current
+				unsorted = true;
+			}
+			
+			key = k;
+			value = v;
+			return !unsorted;
+		}
+		
+		
+		/** returns false if an out of order entry has been encountered */
+		public boolean isSorted()
+		{
+			return !unsorted;
+		}
+
+
+		public SKey getKey()
+		{
+			return key;
+		}
+
+
+		public DataHolder<R> getValue()
+		{
+			return value;
+		}
+	}
+}
@@ -1,223 +1,591 @@
-// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb.internal;
-import goryachev.common.io.DReader;
-import goryachev.common.io.DWriter;
-import goryachev.common.io.DWriterBytes;
-import goryachev.common.log.Log;
-import goryachev.common.util.CKit;
-import goryachev.common.util.Hex;
-import goryachev.common.util.SKey;
-import goryachev.secdb.IRef;
-import goryachev.secdb.IStore;
-import goryachev.secdb.bplustree.BPlusTreeNode;
-import goryachev.secdb.util.ByteArrayIStream;
-
-
-/**
- * DBEngine serializer/deserializer.
- */
-public class DBEngineIO
-{
-	/** marks DataHolder.REF instead of DataHolder.VAL */
-	private static final int REF_MARKER = 255;
-	/** size threshold below which small values are stored in the leaf node */
-	public static final int MAX_INLINE_SIZE = REF_MARKER - 1;
-	protected static final Log log = Log.get("DBEngineIO");
-	
-	
-	public static <R extends IRef> R store(IStore<R> store, BPlusTreeNode<SKey,DataHolder<R>> node) throws Exception
-	{
-		DWriterBytes wr = new DWriterBytes();
-		try
-		{
-			if(node instanceof DBLeafNode)
-			{
-				DBLeafNode n = (DBLeafNode)node;
-				int sz = n.size();
-				wr.writeInt8(sz);
-				
-				writeKeys(wr, sz, n);
-				writeValues(store, wr, n);
-			}
-			else if(node instanceof DBInternalNode)
-			{
-				DBInternalNode n = (DBInternalNode)node;
-				int sz = n.size();
-				wr.writeInt8(-sz);
-				
-				writeKeys(wr, sz, n);
-				writeNodeRefs(store, wr, n);
-			}
-			else
-			{
-				throw new Error("?" + node);
-			}
-			
-			byte[] b = wr.toByteArray();
-			R ref = store.store(new ByteArrayIStream(b), true);
-			log.trace(() -> "STORE " + ref + "\n" + Hex.toHexStringASCII(b));
-			return ref;
-		}
-		finally
-		{
-			CKit.close(wr);
-		}
-	}
-	
-	
-	public static <R extends IRef> BPlusTreeNode<SKey,DataHolder<R>> read(IStore<R> store, byte[] buf) throws Exception
-	{
-//		log.debug(() -> "\n" + Hex.toHexStringASCII(buf));
-		
-		DReader rd = new DReader(buf);
-		try
-		{
-			// TODO perhaps add constructors that take arrays of (keys,refs/values)
-			int sz = rd.readInt8();
-			if(sz >= 0)
-			{
-				// leaf node
-				DBLeafNode n = new DBLeafNode(store);
-				readKeys(rd, sz, n);
-				readValues(store, rd, n);
-				return n;
-			}
-			else
-			{
-				// internal node
-				DBInternalNode n = new DBInternalNode(store);
-				sz = -sz;
-				readKeys(rd, sz, n);
-				readNodeRefs(store, rd, n);
-				return n;
-			}
-		}
-		finally
-		{
-			CKit.close(rd);
-		}
-	}
-	
-	
-	private static void writeKeys(DWriter wr, int sz, BPlusTreeNode<SKey,DataHolder> n) throws Exception
-	{
-		for(int i=0; i<sz; i++)
-		{
-			SKey k = n.keyAt(i);
-			String s = k.toString();
-			wr.writeString(s);
-		}
-	}
-	
-	
-	private static void readKeys(DReader rd, int sz, BPlusTreeNode<SKey,DataHolder> n) throws Exception
-	{
-		for(int i=0; i<sz; i++)
-		{
-			String s = rd.readString();
-			SKey key = new SKey(s);
-			n.addKey(key);
-		}
-	}
-	
-	
-	private static void writeValues(IStore store, DWriter wr, DBLeafNode n) throws Exception
-	{
-		int sz = n.getValueCount();
-		wr.writeUInt8(sz);
-		
-		for(int i=0; i<sz; i++)
-		{
-			DataHolder d = n.valueAt(i);
-			writeDataHolder(store, d, wr);
-		}
-	}
-	
-	
-	private static void readValues(IStore store, DReader rd, DBLeafNode n) throws Exception
-	{
-		int sz = rd.readUInt8();
-		
-		for(int i=0; i<sz; i++)
-		{
-			DataHolder d = readDataHolder(store, rd);
-			n.addValue(d);
-		}
-	}
-	
-	
-	private static <R extends IRef> void writeNodeRefs(IStore<R> store, DWriter wr, DBInternalNode n) throws Exception
-	{
-		int sz = n.getChildCount();
-		wr.writeUInt8(sz);
-
-		for(int i=0; i<sz; i++)
-		{
-			// data holder type = REF
-			wr.writeUInt8(REF_MARKER);
-			
-			NodeHolder<R> h = n.nodeHolderAt(i);
-			if(h.isModified())
-			{
-				// store node first
-				R ref = store(store, h.getNode());
-				store.writeRef(ref, wr);
-			}
-			else
-			{
-				// store ref
-				R ref = h.getRef();
-				store.writeRef(ref, wr);
-			}
-		}
-	}
-	
-	
-	private static void readNodeRefs(IStore store, DReader rd, DBInternalNode n) throws Exception
-	{
-		int sz = rd.readUInt8();
-		for(int i=0; i<sz; i++)
-		{
-			DataHolder d = readDataHolder(store, rd);
-			n.addChild(d);
-		}
-	}
-	
-	
-	private static <R extends IRef> void writeDataHolder(IStore<R> store, DataHolder<R> d, DWriter wr) throws Exception
-	{
-		if(d.isRef())
-		{
-			wr.writeUInt8(REF_MARKER);
-			store.writeRef(d.getRef(), wr);
-		}
-		else
-		{
-			byte[] b = d.getBytes();
-			int len = b.length;
-			if(len > MAX_INLINE_SIZE)
-			{
-				throw new Error("too long: " + len);
-			}
-			wr.writeUInt8(len);
-			wr.write(b);
-		}
-	}
-	
-	
-	private static <R extends IRef> DataHolder<R> readDataHolder(IStore<R> store, DReader rd) throws Exception
-	{
-		int sz = rd.readUInt8();
-		if(sz == REF_MARKER)
-		{
-			R ref = store.readRef(rd);
-			return new DataHolder.RefHolder(store, ref);
-		}
-		else
-		{
-			// inline value
-			byte[] b = rd.readFully(sz);
-			return new DataHolder.ValueHolder(store, b);
-		}
-	}
-}
+// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import goryachev.common.io.DReader;
+import goryachev.common.io.DWriter;
+import goryachev.common.io.DWriterBytes;
+import goryachev.common.log.Log;
+import goryachev.common.util.CKit;
+import goryachev.common.util.Hex;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IRef;
+import goryachev.secdb.IStore;
+import goryachev.secdb.IStream;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import goryachev.secdb.util.ByteArrayIStream;
+
+
+/**
+ * DBEngine serializer/deserializer.
+ * 
+ * Version 1 format (read only):
+ *   int8 key count (leaf), or negative key count (internal node)
+ *   keys: full strings
+ *   leaf: uint8 value count, values: uint8 inline length + bytes, or REF_MARKER + ref
+ *   internal: uint8 child count, children: REF_MARKER + ref
+ *
+ * Version 2 format:
+ *   VERSION_MARKER, uint8 version, uint8 node type
+ *   varint key count
+ *   keys: front-coded (varint shared prefix length, varint suffix length, UTF-8 suffix)
+ *   leaf: values, varint (length << 1) + inline bytes, or REF_TAG + ref
+ *   internal: (key count + 1) child refs
+ *
+ * Version 3 format:
+ *   same as version 2, except
+ *   internal: (key count + 1) children, child ref + varlong number of entries in the child subtree
+ *
+ * Version 4 format:
+ *   same as version 3, except
+ *   leaf: values might also be PACKED_TAG + block ref + varint offset + varint length (see ValueLog)
+ *
+ * Version 5 format:
+ *   same as version 4, except
+ *   internal: the number of entries in the child subtree is written as varlong (count + 1), or 0 when unknown.
+ *   the count is unknown when the subtree contains the nodes written in version 1 or 2 format, 
+ *   it is computed on demand by the queries which need it (see NodeHolder.getCount()).
+ */
+public class DBEngineIO
+{
+	/** v1: marks DataHolder.REF instead of DataHolder.VAL */
+	private static final int REF_MARKER = 255;
+	/** default size threshold below which small values are stored in the leaf node, the limit of the v1 format */
+	public static final int DEFAULT_INLINE_LIMIT = REF_MARKER - 1;
+	/** the largest configurable inline threshold, the v2 format encodes the inline length as a varint */
+	public static final int MAX_INLINE_LIMIT = 16 * 1024;
+	/** the first byte of a versioned node, v1 key count never reaches this value */
+	private static final int VERSION_MARKER = -128;
+	/** current format version */
+	public static final int VERSION = 5;
+	private static final int TYPE_LEAF = 0;
+	private static final int TYPE_INTERNAL = 1;
+	/** v2: value tag for a reference, inline values have even tags */
+	private static final int REF_TAG = 1;
+	/** v4: value tag for a value packed into a shared block */
+	private static final int PACKED_TAG = 3;
+	/** approximate size of a serialized (compact) reference */
+	private static final int REF_SIZE_ESTIMATE = 16;
+	/** approximate size of a serialized subtree entry count */
+	private static final int COUNT_SIZE_ESTIMATE = 3;
+	protected static final Log log = Log.get("DBEngineIO");
+	
+	
+	/** 
+	 * stores the node and its modified children.  
+	 * once stored, the node becomes read-only and is added to the cache.
+	 */
+	public static <R extends IRef> R store(NodeCache<R> cache, BPlusTreeNode<SKey,DataHolder<R>> node) throws Exception
+	{
+		IStore<R> store = cache.getStore();
+		DWriterBytes wr = new DWriterBytes();
+		try
+		{
+			wr.writeInt8(VERSION_MARKER);
+			wr.writeUInt8(VERSION);
+			
+			if(node instanceof DBLeafNode)
+			{
+				DBLeafNode<R> n = (DBLeafNode)node;
+				wr.writeUInt8(TYPE_LEAF);
+				wr.writeVarInt(n.size());
+				
+				writeKeys(wr, n);
+				writeValues(store, wr, n);
+			}
+			else if(node instanceof DBInternalNode)
+			{
+				DBInternalNode<R> n = (DBInternalNode)node;
+				wr.writeUInt8(TYPE_INTERNAL);
+				wr.writeVarInt(n.size());
+				
+				writeKeys(wr, n);
+				writeNodeRefs(cache, wr, n);
+			}
+			else
+			{
+				throw new Error("?" + node);
+			}
+			
+			byte[] b = wr.toByteArray();
+			R ref = store.store(new ByteArrayIStream(b), true);
+			log.trace(() -> "STORE " + ref + "\n" + Hex.toHexStringASCII(b));
+			
+			node.setStored();
+			cache.put(ref, node, b.length);
+			return ref;
+		}
+		finally
+		{
+			CKit.close(wr);
+		}
+	}
+	
+	
+	public static <R extends IRef> BPlusTreeNode<SKey,DataHolder<R>> read(NodeCache<R> cache, byte[] buf) throws Exception
+	{
+//		log.debug(() -> "\n" + Hex.toHexStringASCII(buf));
+		
+		DReader rd = new DReader(buf);
+		try
+		{
+			int sz = rd.readInt8();
+			if(sz == VERSION_MARKER)
+			{
+				int ver = rd.readUInt8();
+				switch(ver)
+				{
+				case 2:
+				case 3:
+				case 4:
+				case 5:
+					return readV2(cache, rd, ver);
+				default:
+					throw new Exception("unsupported node format version: " + ver);
+				}
+			}
+			else
+			{
+				return readV1(cache, rd, sz);
+			}
+		}
+		finally
+		{
+			CKit.close(rd);
+		}
+	}
+	
+	
+	private static <R extends IRef> BPlusTreeNode<SKey,DataHolder<R>> readV2(NodeCache<R> cache, DReader rd, int ver) throws Exception
+	{
+		IStore<R> store = cache.getStore();
+		int type = rd.readUInt8();
+		int sz = rd.readVarInt();
+		
+		switch(type)
+		{
+		case TYPE_LEAF:
+			{
+				DBLeafNode<R> n = new DBLeafNode(cache);
+				readKeys(rd, sz, n);
+				for(int i=0; i<sz; i++)
+				{
+					DataHolder d = readValue(store, cache.getValueLog(), rd);
+					n.addValue(d);
+				}
+				return n;
+			}
+		case TYPE_INTERNAL:
+			{
+				DBInternalNode<R> n = new DBInternalNode(cache);
+				readKeys(rd, sz, n);
+				for(int i=0; i<=sz; i++)
+				{
+					R ref = store.readRef(rd);
+					if(ver == 2)
+					{
+						n.addChild(new DataHolder.RefHolder(store, ref));
+					}
+					else
+					{
+						long count = rd.readVarLong();
+						if(ver >= 5)
+						{
+							// zero marks an unknown count
+							count--;
+						}
+						n.addChild(new DataHolder.RefHolder(store, ref), count);
+					}
+				}
+				return n;
+			}
+		default:
+			throw new Exception("unknown node type: " + type);
+		}
+	}
+	
+	
+	private static <R extends IRef> BPlusTreeNode<SKey,DataHolder<R>> readV1(NodeCache<R> cache, DReader rd, int sz) throws Exception
+	{
+		IStore<R> store = cache.getStore();
+		
+		if(sz >= 0)
+		{
+			// leaf node
+			DBLeafNode n = new DBLeafNode(cache);
+			readKeysV1(rd, sz, n);
+			
+			int ct = rd.readUInt8();
+			for(int i=0; i<ct; i++)
+			{
+				DataHolder d = readDataHolderV1(store, rd);
+				n.addValue(d);
+			}
+			return n;
+		}
+		else
+		{
+			// internal node
+			DBInternalNode n = new DBInternalNode(cache);
+			sz = -sz;
+			readKeysV1(rd, sz, n);
+			
+			int ct = rd.readUInt8();
+			for(int i=0; i<ct; i++)
+			{
+				DataHolder d = readDataHolderV1(store, rd);
+				n.addChild(d);
+			}
+			return n;
+		}
+	}
+	
+	
+	/** returns an approximate size of the serialized leaf node */
+	public static int estimateSize(DBLeafNode<?> n)
+	{
+		int sz = n.size();
+		int rv = estimateLeafHeaderSize();
+		for(int i=0; i<sz; i++)
+		{
+			rv += estimateEntrySize(n, i);
+		}
+		return rv;
+	}
+	
+	
+	/** returns an approximate size of the serialized key and value at the specified index */
+	public static int estimateEntrySize(DBLeafNode<?> n, int ix)
+	{
+		return estimateKeySize(n, ix) + estimateValueSize(n.valueAt(ix));
+	}
+	
+	
+	/** returns an approximate size of the serialized internal node */
+	public static int estimateSize(DBInternalNode<?> n)
+	{
+		int sz = n.size();
+		int rv = estimateInternalHeaderSize();
+		for(int i=0; i<sz; i++)
+		{
+			rv += estimateEntrySize(n, i);
+		}
+		return rv;
+	}
+	
+	
+	/** returns an approximate size of the serialized key and the child reference that follows it */
+	public static int estimateEntrySize(DBInternalNode<?> n, int ix)
+	{
+		return estimateKeySize(n, ix) + estimateRefSize();
+	}
+	
+	
+	private static int estimateKeySize(BPlusTreeNode<SKey,?> n, int ix)
+	{
+		return estimateKeySize((ix == 0) ? null : n.keyAt(ix - 1), n.keyAt(ix));
+	}
+	
+	
+	/** returns an approximate size of the front-coded key which follows the specified key (or null) */
+	public static int estimateKeySize(SKey prev, SKey key)
+	{
+		// assuming mostly ASCII keys
+		String s = key.toString();
+		int common = (prev == null) ? 0 : commonPrefix(prev.toString(), s);
+		return 2 + s.length() - common;
+	}
+	
+	
+	/** returns an approximate size of the serialized leaf node header */
+	public static int estimateLeafHeaderSize()
+	{
+		return 4;
+	}
+	
+	
+	/** returns an approximate size of the serialized internal node header, including the first child reference */
+	public static int estimateInternalHeaderSize()
+	{
+		return 4 + estimateRefSize();
+	}
+	
+	
+	/** returns an approximate size of the serialized child reference, including the entry count */
+	public static int estimateRefSize()
+	{
+		return REF_SIZE_ESTIMATE + COUNT_SIZE_ESTIMATE;
+	}
+	
+	
+	/** 
+	 * returns the inline threshold in effect for the page size: a threshold above the default is reduced
+	 * to a quarter of the page size, so a leaf node always holds several inline values.
+	 */
+	public static int getInlineLimit(int limit, int pageSize)
+	{
+		if(limit <= DEFAULT_INLINE_LIMIT)
+		{
+			return limit;
+		}
+		return Math.max(DEFAULT_INLINE_LIMIT, Math.min(limit, pageSize / 4));
+	}
+	
+	
+	public static int estimateValueSize(DataHolder<?> d)
+	{
+		if(d.isRef())
+		{
+			return 1 + REF_SIZE_ESTIMATE;
+		}
+		else if(d.isPacked())
+		{
+			return 1 + REF_SIZE_ESTIMATE + 4;
+		}
+		else
+		{
+			return 2 + d.getBytes().length;
+		}
+	}
+	
+	
+	/** 
+	 * returns the length of the common prefix of two strings.  
+	 * the prefix never ends in the middle of a surrogate pair.
+	 */
+	private static int commonPrefix(String a, String b)
+	{
+		int mx = Math.min(a.length(), b.length());
+		int i = 0;
+		while((i < mx) && (a.charAt(i) == b.charAt(i)))
+		{
+			i++;
+		}
+		
+		if((i > 0) && Character.isHighSurrogate(a.charAt(i - 1)))
+		{
+			i--;
+		}
+		return i;
+	}
+	
+	
+	/** writes keys using front coding: the length of the prefix shared with the previous key followed by the suffix */
+	private static void writeKeys(DWriter wr, BPlusTreeNode<SKey,?> n) throws Exception
+	{
+		String prev = "";
+		int sz = n.size();
+		for(int i=0; i<sz; i++)
+		{
+			String s = n.keyAt(i).toString();
+			int common = commonPrefix(prev, s);
+			byte[] b = s.substring(common).getBytes(CKit.CHARSET_UTF8);
+			
+			wr.writeVarInt(common);
+			wr.writeVarInt(b.length);
+			wr.write(b);
+			
+			prev = s;
+		}
+	}
+	
+	
+	private static void readKeys(DReader rd, int sz, BPlusTreeNode<SKey,?> n) throws Exception
+	{
+		String prev = "";
+		for(int i=0; i<sz; i++)
+		{
+			int common = rd.readVarInt();
+			int len = rd.readVarInt();
+			if(common > prev.length())
+			{
+				throw new Exception("invalid prefix length: " + common);
+			}
+			
+			byte[] b = rd.readFully(len);
+			String s = prev.substring(0, common) + new String(b, CKit.CHARSET_UTF8);
+			n.addKey(new SKey(s));
+			
+			prev = s;
+		}
+	}
+	
+	
+	private static void readKeysV1(DReader rd, int sz, BPlusTreeNode<SKey,?> n) throws Exception
+	{
+		for(int i=0; i<sz; i++)
+		{
+			String s = rd.readString();
+			SKey key = new SKey(s);
+			n.addKey(key);
+		}
+	}
+	
+	
+	/** 
+	 * creates a holder for the value.
+	 * a short value is stored inline, a longer one is written to the store as a separate block.
+	 */
+	public static <R extends IRef> DataHolder<R> createDataHolder(IStore<R> store, IStream is) throws Exception
+	{
+		return createDataHolder(store, null, DEFAULT_INLINE_LIMIT, is);
+	}
+	
+	
+	/** 
+	 * creates a holder for the value.
+	 * a value shorter than the inline limit is stored in the leaf node, a medium-sized one is packed at commit 
+	 * when the value log is enabled, a longer one is written to the store as a separate block.
+	 */
+	public static <R extends IRef> DataHolder<R> createDataHolder(IStore<R> store, ValueLog<R> valueLog, int inlineLimit, IStream is) throws Exception
+	{
+		long len = is.getLength();
+		if(len < inlineLimit)
+		{
+			byte[] b = is.readBytes(inlineLimit);
+			return new DataHolder.ValueHolder(store, b);
+		}
+		else if((valueLog != null) && valueLog.accepts(len))
+		{
+			byte[] b = is.readBytes((int)len);
+			return new DataHolder.PackedHolder<R>(store, valueLog, b);
+		}
+		else
+		{
+			R ref = store.store(is, false);
+			return new DataHolder.RefHolder<R>(store, ref);
+		}
+	}
+	
+	
+	private static <R extends IRef> void writeValues(IStore<R> store, DWriter wr, DBLeafNode<R> n) throws Exception
+	{
+		int sz = n.getValueCount();
+		for(int i=0; i<sz; i++)
+		{
+			DataHolder<R> d = n.valueAt(i);
+			writeValue(store, wr, d);
+		}
+	}
+	
+	
+	/** writes an inline value or a reference to the value */
+	public static <R extends IRef> void writeValue(IStore<R> store, DWriter wr, DataHolder<R> d) throws Exception
+	{
+		if(d.isRef())
+		{
+			wr.writeVarInt(REF_TAG);
+			store.writeRef(d.getRef(), wr);
+		}
+		else if(d.isPacked())
+		{
+			DataHolder.PackedHolder<R> h = (DataHolder.PackedHolder<R>)d;
+			R block = h.getBlock();
+			if(block == null)
+			{
+				throw new Error("value has not been packed");
+			}
+			
+			wr.writeVarInt(PACKED_TAG);
+			store.writeRef(block, wr);
+			wr.writeVarInt(h.getOffset());
+			wr.writeVarInt(h.getLength());
+		}
+		else
+		{
+			byte[] b = d.getBytes();
+			wr.writeVarInt(b.length << 1);
+			wr.write(b);
+		}
+	}
+	
+	
+	public static <R extends IRef> DataHolder<R> readValue(IStore<R> store, DReader rd) throws Exception
+	{
+		return readValue(store, null, rd);
+	}
+	
+	
+	/** reads a value, the value log is required to read a packed value */
+	public static <R extends IRef> DataHolder<R> readValue(IStore<R> store, ValueLog<R> valueLog, DReader rd) throws Exception
+	{
+		int tag = rd.readVarInt();
+		if(tag == REF_TAG)
+		{
+			R ref = store.readRef(rd);
+			return new DataHolder.RefHolder(store, ref);
+		}
+		else if(tag == PACKED_TAG)
+		{
+			if(valueLog == null)
+			{
+				throw new Exception("packed value outside of a node");
+			}
+			
+			R block = store.readRef(rd);
+			int off = rd.readVarInt();
+			int len = rd.readVarInt();
+			return new DataHolder.PackedHolder<R>(store, valueLog, block, off, len);
+		}
+		else if((tag & 1) == 0)
+		{
+			// inline value
+			byte[] b = rd.readFully(tag >>> 1);
+			return new DataHolder.ValueHolder(store, b);
+		}
+		else
+		{
+			throw new Exception("unknown value tag: " + tag);
+		}
+	}
+	
+	
+	private static <R extends IRef> void writeNodeRefs(NodeCache<R> cache, DWriter wr, DBInternalNode<R> n) throws Exception
+	{
+		IStore<R> store = cache.getStore();
+		int sz = n.getChildCount();
+		if(sz != (n.size() + 1))
+		{
+			throw new Error("child count=" + sz + " key count=" + n.size());
+		}
+
+		for(int i=0; i<sz; i++)
+		{
+			NodeHolder<R> h = n.nodeHolderAt(i);
+			if(h.isModified())
+			{
+				// store node first
+				BPlusTreeNode<SKey,DataHolder<R>> ch = h.getNode();
+				R ref = store(cache, ch);
+				long count = NodeHolder.getKnownCount(ch);
+				store.writeRef(ref, wr);
+				wr.writeVarLong(count + 1);
+				h.setStored(new DataHolder.RefHolder(store, ref), count);
+			}
+			else
+			{
+				// store ref
+				// the unknown counts are not computed here, as it would read the whole subtree
+				R ref = h.getRef();
+				store.writeRef(ref, wr);
+				wr.writeVarLong(h.getKnownCount() + 1);
+				h.release();
+			}
+		}
+	}
+	
+	
+	private static <R extends IRef> DataHolder<R> readDataHolderV1(IStore<R> store, DReader rd) throws Exception
+	{
+		int sz = rd.readUInt8();
+		if(sz == REF_MARKER)
+		{
+			R ref = store.readRef(rd);
+			return new DataHolder.RefHolder(store, ref);
+		}
+		else
+		{
+			// inline value
+			byte[] b = rd.readFully(sz);
+			return new DataHolder.ValueHolder(store, b);
+		}
+	}
+}
@@ -3,10 +3,11 @@ package goryachev.secdb.internal;
 import goryachev.common.util.CList;
 import goryachev.common.util.SKey;
 import goryachev.secdb.IRef;
-import goryachev.secdb.IStore;
 import goryachev.secdb.bplustree.BPlusTreeNode;
 import goryachev.secdb.bplustree.InternalNode;
 import goryachev.secdb.bplustree.LeafNode;
+import goryachev.secdb.bplustree.RemovalListener;
+import java.util.List;
 
 
 /**
@@ -15,24 +16,56 @@ import goryachev.secdb.bplustree.LeafNode;
 public class DBInternalNode<R extends IRef>
 	extends InternalNode<SKey,DataHolder<R>>
 {
-	private final IStore<R> store;
-	protected final CList<NodeHolder> children = new CList();
+	private final NodeCache<R> cache;
+	protected final CList<NodeHolder<R>> children = new CList();
 	
 	
-	public DBInternalNode(IStore store)
+	public DBInternalNode(NodeCache<R> cache)
 	{
-		this.store = store;
+		this.cache = cache;
 	}
 	
 	
-	public static DBInternalNode createModified(IStore store)
+	public static DBInternalNode createModified(NodeCache cache)
 	{
-		DBInternalNode n = new DBInternalNode(store);
+		DBInternalNode n = new DBInternalNode(cache);
 		n.setModified();
 		return n;
 	}
 	
 	
+	/** returns a modifiable copy of this node */
+	public DBInternalNode<R> copy()
+	{
+		DBInternalNode<R> n = new DBInternalNode<>(cache);
+		n.keys.addAll(keys);
+		for(NodeHolder<R> h: children)
+		{
+			n.children.add(h.copy());
+		}
+		if(isModified())
+		{
+			// a copy of a frozen node (see NodeCache.freeze()) must still be stored
+			n.setModified();
+		}
+		return n;
+	}
+	
+	
+	/** marks the private copies of the children read-only */
+	protected void freezeChildren()
+	{
+		for(NodeHolder<R> h: children)
+		{
+			BPlusTreeNode<SKey,DataHolder<R>> n = h.getNode();
+			if(n != null)
+			{
+				NodeCache.freeze(n);
+			}
+		}
+	}
+	
+	
 	protected void addChild(BPlusTreeNode<SKey,DataHolder<R>> n)
 	{
 		children.add(new NodeHolder(n));
@@ -47,8 +80,10 @@ public class DBInternalNode<R extends IRef>
 
 	protected BPlusTreeNode<SKey,DataHolder<R>> childAt(int ix) throws Exception
 	{
-		NodeHolder h = children.get(ix);
-		return h.getNode();
+		// a read-only node is shared, its children come from the cache.
+		// a modifiable node keeps private copies of its children.
+		NodeHolder<R> h = children.get(ix);
+		return h.getNode(cache, !isReadOnly());
 	}
 
 
@@ -70,15 +105,144 @@ public class DBInternalNode<R extends IRef>
 	}
 	
 	
+	protected void moveChildrenTo(InternalNode<SKey,DataHolder<R>> target, int start)
+	{
+		// moving the holders avoids loading and rewriting the children
+		List<NodeHolder<R>> moved = children.subList(start, children.size());
+		((DBInternalNode<R>)target).children.addAll(moved);
+		moved.clear();
+	}
+	
+	
+	/** reports the stored subtrees as a whole, and the contents of the private copies */
+	protected void unlinkChildren(int from, int to, RemovalListener<SKey,DataHolder<R>> listener) throws Exception
+	{
+		List<NodeHolder<R>> removed = children.subList(from, to + 1);
+		if(listener != null)
+		{
+			for(NodeHolder<R> h: removed)
+			{
+				unlinked(h, listener);
+			}
+		}
+		removed.clear();
+	}
+	
+	
+	private static <R extends IRef> void unlinked(NodeHolder<R> h, RemovalListener<SKey,DataHolder<R>> listener) throws Exception
+	{
+		BPlusTreeNode<SKey,DataHolder<R>> n = h.getNode();
+		if(n == null)
+		{
+			listener.subtreeRemoved(h.getDataHolder());
+		}
+		else if(n instanceof DBInternalNode)
+		{
+			for(NodeHolder<R> ch: ((DBInternalNode<R>)n).children)
+			{
+				unlinked(ch, listener);
+			}
+		}
+		else
+		{
+			DBLeafNode<R> leaf = (DBLeafNode<R>)n;
+			int sz = leaf.getValueCount();
+			for(int i=0; i<sz; i++)
+			{
+				DataHolder<R> v = leaf.valueAt(i);
+				listener.valueRemoved(v);
+			}
+		}
+	}
+	
+	
+	/** marks the private copies of the nodes on the path to the key as modified.  a null key selects the leftmost path */
+	public void rewritePath(SKey key) throws Exception
+	{
+		int ix = (key == null) ? 0 : findInsertIndex(key);
+		BPlusTreeNode<SKey,DataHolder<R>> ch = childAt(ix);
+		ch.setModified();
+		
+		if(ch instanceof DBInternalNode)
+		{
+			((DBInternalNode<R>)ch).rewritePath(key);
+		}
+	}
+	
+	
+	/** requests the stored children to be loaded into the cache in the background */
+	protected void readAhead(int from, int to)
+	{
+		for(int i=from; i<=to; i++)
+		{
+			NodeHolder<R> h = children.get(i);
+			if(h.getNode() == null)
+			{
+				R ref = h.getRef();
+				if(ref != null)
+				{
+					cache.prefetch(ref);
+				}
+			}
+		}
+	}
+	
+	
+	protected int getReadAheadLimit()
+	{
+		// a modifiable node is being scanned within a transaction, its children are private copies
+		return isReadOnly() ? cache.getReadAhead() : 0;
+	}
+	
+	
+	/** the node is size-aware: the limit is the target page size in bytes */
+	public boolean isOverflow(int pageSize)
+	{
+		int sz = size();
+		return (sz > 2) && (DBEngineIO.estimateSize(this) > pageSize);
+	}
+	
+	
+	/** the node is size-aware: the limit is the target page size in bytes */
+	public boolean isUnderflow(int pageSize)
+	{
+		if(getChildCount() < 2)
+		{
+			return true;
+		}
+		
+		// less than a quarter full
+		return DBEngineIO.estimateSize(this) < (pageSize / 4);
+	}
+	
+	
+	/** splits the node in two halves of approximately the same serialized size */
+	protected int splitIndex()
+	{
+		int sz = size();
+		int half = DBEngineIO.estimateSize(this) / 2;
+		int total = 0;
+		for(int i=0; i<sz; i++)
+		{
+			total += DBEngineIO.estimateEntrySize(this, i);
+			if(total >= half)
+			{
+				return Math.max(2, Math.min(i + 1, sz - 1));
+			}
+		}
+		return sz / 2 + 1;
+	}
+	
+	
 	protected LeafNode<SKey,DataHolder<R>> newLeafNode()
 	{
-		return DBLeafNode.createModified(store);
+		return DBLeafNode.createModified(cache);
 	}
 	
 	
 	protected InternalNode newInternalNode()
 	{
-		return DBInternalNode.createModified(store);
+		return DBInternalNode.createModified(cache);
 	}
 
 
@@ -87,10 +251,46 @@ public class DBInternalNode<R extends IRef>
 		NodeHolder h = new NodeHolder(d);
 		children.add(h);
 	}
+	
+	
+	protected void addChild(DataHolder d, long count)
+	{
+		NodeHolder h = new NodeHolder(d, count);
+		children.add(h);
+	}
+	
+	
+	/** returns the number of entries in this subtree */
+	public long getCount() throws Exception
+	{
+		long rv = 0;
+		for(NodeHolder<R> h: children)
+		{
+			rv += h.getCount(cache);
+		}
+		return rv;
+	}
+
+
+	/** returns the number of entries in this subtree without reading the stored nodes, or -1 if unknown */
+	public long getKnownCount()
+	{
+		long rv = 0;
+		for(NodeHolder<R> h: children)
+		{
+			long c = h.getKnownCount();
+			if(c < 0)
+			{
+				return -1;
+			}
+			rv += c;
+		}
+		return rv;
+	}
 
 
-	public NodeHolder nodeHolderAt(int ix)
+	public NodeHolder<R> nodeHolderAt(int ix)
 	{
 		return children.get(ix);
 	}
-}
\ No newline at end of file
+}
@@ -2,7 +2,6 @@
 package goryachev.secdb.internal;
 import goryachev.common.util.SKey;
 import goryachev.secdb.IRef;
-import goryachev.secdb.IStore;
 import goryachev.secdb.bplustree.InternalNode;
 import goryachev.secdb.bplustree.LeafNode;
 
@@ -13,32 +12,81 @@ import goryachev.secdb.bplustree.LeafNode;
 public class DBLeafNode<R extends IRef>
 	extends LeafNode<SKey,DataHolder<R>>
 {
-	private final IStore store;
+	private final NodeCache<R> cache;
 
 	
-	public DBLeafNode(IStore store)
+	public DBLeafNode(NodeCache<R> cache)
 	{
-		this.store = store;
+		this.cache = cache;
 	}
 	
 	
-	public static DBLeafNode createModified(IStore store)
+	public static DBLeafNode createModified(NodeCache cache)
 	{
-		DBLeafNode n = new DBLeafNode(store);
+		DBLeafNode n = new DBLeafNode(cache);
 		n.setModified();
 		return n;
 	}
 	
 	
+	/** returns a modifiable copy of this node */
+	public DBLeafNode<R> copy()
+	{
+		DBLeafNode<R> n = new DBLeafNode<>(cache);
+		n.keys.addAll(keys);
+		n.values.addAll(values);
+		if(isModified())
+		{
+			// a copy of a frozen node (see NodeCache.freeze()) must still be stored
+			n.setModified();
+		}
+		return n;
+	}
+	
+	
+	/** the node is size-aware: the limit is the target page size in bytes */
+	public boolean isOverflow(int pageSize)
+	{
+		int sz = size();
+		return (sz > 1) && (DBEngineIO.estimateSize(this) > pageSize);
+	}
+	
+	
+	/** the node is size-aware: the limit is the target page size in bytes */
+	public boolean isUnderflow(int pageSize)
+	{
+		// less than a quarter full
+		return DBEngineIO.estimateSize(this) < (pageSize / 4);
+	}
+	
+	
+	/** splits the node in two halves of approximately the same serialized size */
+	protected int splitIndex()
+	{
+		int sz = size();
+		int half = DBEngineIO.estimateSize(this) / 2;
+		int total = 0;
+		for(int i=0; i<sz; i++)
+		{
+			total += DBEngineIO.estimateEntrySize(this, i);
+			if(total >= half)
+			{
+				return Math.max(1, Math.min(i + 1, sz - 1));
+			}
+		}
+		return sz / 2;
+	}
+	
+	
 	protected LeafNode<SKey,DataHolder<R>> newLeafNode()
 	{
-		return createModified(store);
+		return createModified(cache);
 	}
 	
 	
 	protected InternalNode newInternalNode()
 	{
-		return DBInternalNode.createModified(store);
+		return DBInternalNode.createModified(cache);
 	}
 
 
@@ -58,4 +106,4 @@ public class DBLeafNode<R extends IRef>
 	{
 		return values.get(ix);
 	}
-}
\ No newline at end of file
+}
@@ -1,173 +1,338 @@
-// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb.internal;
-import goryachev.secdb.IRef;
-import goryachev.secdb.IStore;
-import goryachev.secdb.IStored;
-import goryachev.secdb.IStream;
-import goryachev.secdb.util.ByteArrayIStream;
-
-
-/**
- * Data Holder: stores a reference to and, if possible, the cached value of
- * - short inline value
- * - BPlusTreeNode
- * - large object (reference only)
- */
-public abstract class DataHolder<R>
-{
-	public abstract boolean hasValue();
-	
-	public abstract R getRef();
-	
-	public abstract boolean isRef();
-	
-	public abstract IStored getStoredValue();
-	
-	/** returns underlying byte array, internal method */
-	protected abstract byte[] getBytes();
-	
-	//
-	
-	protected final IStore<R> store;
-	
-	
-	public DataHolder(IStore<R> store)
-	{
-		this.store = store;
-	}
-	
-	
-	public IStore<R> getIStore()
-	{
-		return store;
-	}
-	
-
-	//
-	
-	
-	public static class RefHolder<R extends IRef> extends DataHolder<R>
-	{
-		protected final R ref;
-		
-		
-		public RefHolder(IStore store, R ref)
-		{
-			super(store);
-			this.ref = ref;
-		}
-		
-		
-		public String toString()
-		{
-			return "RefHolder[ref=" + ref + "]";
-		}
-
-
-		public boolean hasValue()
-		{
-			return false;
-		}
-		
-		
-		public IStored getStoredValue()
-		{
-			return new IStored()
-			{
-				public long getLength()
-				{
-					long len = ref.getLength();
-					return store.convertLength(len, false);
-				}
-
-
-				public IStream getIStream() throws Exception
-				{
-					return store.load(ref);
-				}
-			};
-		}
-
-
-		public R getRef()
-		{
-			return ref;
-		}
-
-
-		public boolean isRef()
-		{
-			return true;
-		}
-
-
-		protected byte[] getBytes()
-		{
-			return null;
-		}
-	}
-	
-	
-	//
-	
-	
-	public static class ValueHolder<R extends IRef> extends DataHolder<R>
-	{
-		protected final byte[] bytes;
-		
-		
-		public ValueHolder(IStore store, byte[] bytes)
-		{
-			super(store);
-			this.bytes = bytes;
-		}
-		
-		
-		public String toString()
-		{
-			return "ValueHolder[size=" + bytes.length + "]";
-		}
-
-
-		public boolean hasValue()
-		{
-			return true;
-		}
-		
-		
-		public IStored getStoredValue()
-		{
-			return new IStored()
-			{
-				public long getLength()
-				{
-					return bytes.length;
-				}
-
-
-				public IStream getIStream()
-				{
-					return new ByteArrayIStream(bytes);
-				}
-			};
-		}
-
-		
-		public R getRef()
-		{
-			return null;
-		}
-		
-		
-		public boolean isRef()
-		{
-			return false;
-		}
-		
-		
-		protected byte[] getBytes()
-		{
-			return bytes;
-		}
-	}
-}
+// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import goryachev.secdb.IRef;
+import goryachev.secdb.IStore;
+import goryachev.secdb.IStored;
+import goryachev.secdb.IStream;
+import goryachev.secdb.util.ByteArrayIStream;
+
+
+/**
+ * Data Holder: stores a reference to and, if possible, the cached value of
+ * - short inline value
+ * - BPlusTreeNode
+ * - large object (reference only)
+ * - medium-sized value packed into a shared block (see ValueLog)
+ */
+public abstract class DataHolder<R>
+{
+	public abstract boolean hasValue();
+	
+	public abstract R getRef();
+	
+	public abstract boolean isRef();
+	
+	public abstract IStored getStoredValue();
+	
+	/** returns underlying byte array, internal method */
+	protected abstract byte[] getBytes();
+	
+	//
+	
+	protected final IStore<R> store;
+	
+	
+	public DataHolder(IStore<R> store)
+	{
+		this.store = store;
+	}
+	
+	
+	public IStore<R> getIStore()
+	{
+		return store;
+	}
+	
+	
+	/** returns true if the value is packed into a shared block (see PackedHolder) */
+	public boolean isPacked()
+	{
+		return false;
+	}
+	
+
+	//
+	
+	
+	public static class RefHolder<R extends IRef> extends DataHolder<R>
+	{
+		protected final R ref;
+		
+		
+		public RefHolder(IStore store, R ref)
+		{
+			super(store);
+			this.ref = ref;
+		}
+		
+		
+		public String toString()
+		{
+			return "RefHolder[ref=" + ref + "]";
+		}
+
+
+		public boolean hasValue()
+		{
+			return false;
+		}
+		
+		
+		public IStored getStoredValue()
+		{
+			return new IStored()
+			{
+				public long getLength()
+				{
+					long len = ref.getLength();
+					return store.convertLength(len, false);
+				}
+
+
+				public IStream getIStream() throws Exception
+				{
+					return store.load(ref);
+				}
+			};
+		}
+
+
+		public R getRef()
+		{
+			return ref;
+		}
+
+
+		public boolean isRef()
+		{
+			return true;
+		}
+
+
+		protected byte[] getBytes()
+		{
+			return null;
+		}
+	}
+	
+	
+	//
+	
+	
+	public static class ValueHolder<R extends IRef> extends DataHolder<R>
+	{
+		protected final byte[] bytes;
+		
+		
+		public ValueHolder(IStore store, byte[] bytes)
+		{
+			super(store);
+			this.bytes = bytes;
+		}
+		
+		
+		public String toString()
+		{
+			return "ValueHolder[size=" + bytes.length + "]";
+		}
+
+
+		public boolean hasValue()
+		{
+			return true;
+		}
+		
+		
+		public IStored getStoredValue()
+		{
+			return new IStored()
+			{
+				public long getLength()
+				{
+					return bytes.length;
+				}
+
+
+				public IStream getIStream()
+				{
+					return new ByteArrayIStream(bytes);
+				}
+			};
+		}
+
+		
+		public R getRef()
+		{
+			return null;
+		}
+		
+		
+		public boolean isRef()
+		{
+			return false;
+		}
+		
+		
+		protected byte[] getBytes()
+		{
+			return bytes;
+		}
+	}
+	
+	
+	//
+	
+	
+	/**
+	 * A value packed into a shared value log block.
+	 * Until committed, the holder keeps the value itself, which is then written to a block 
+	 * along with the other values of the same commit (see ValueLog.pack()).
+	 */
+	public static class PackedHolder<R extends IRef> extends DataHolder<R>
+	{
+		protected final ValueLog<R> valueLog;
+		protected final int length;
+		private volatile R block;
+		private int offset;
+		/** the value not yet written to a block */
+		private byte[] bytes;
+		
+		
+		/** creates a value to be packed at commit */
+		public PackedHolder(IStore store, ValueLog<R> valueLog, byte[] bytes)
+		{
+			super(store);
+			this.valueLog = valueLog;
+			this.length = bytes.length;
+			this.bytes = bytes;
+		}
+		
+		
+		/** creates a reference to a packed value */
+		public PackedHolder(IStore store, ValueLog<R> valueLog, R block, int offset, int length)
+		{
+			super(store);
+			this.valueLog = valueLog;
+			this.block = block;
+			this.offset = offset;
+			this.length = length;
+		}
+		
+		
+		public String toString()
+		{
+			return "PackedHolder[block=" + block + ", offset=" + offset + ", length=" + length + "]";
+		}
+
+
+		public boolean hasValue()
+		{
+			return (bytes != null);
+		}
+		
+		
+		public IStored getStoredValue()
+		{
+			return new IStored()
+			{
+				public long getLength()
+				{
+					return length;
+				}
+
+
+				public IStream getIStream() throws Exception
+				{
+					byte[] b = bytes;
+					if(b == null)
+					{
+						b = valueLog.read(block, offset, length);
+					}
+					return new ByteArrayIStream(b);
+				}
+			};
+		}
+
+
+		/** returns null, the block is shared with other values (see getBlock()) */
+		public R getRef()
+		{
+			return null;
+		}
+
+
+		public boolean isRef()
+		{
+			return false;
+		}
+		
+		
+		public boolean isPacked()
+		{
+			return true;
+		}
+		
+		
+		/** returns true if the value has not yet been written to a block */
+		public boolean isPending()
+		{
+			return (block == null);
+		}
+		
+		
+		/** returns the block containing the value, or null if the value has not been written yet */
+		public R getBlock()
+		{
+			return block;
+		}
+		
+		
+		public int getOffset()
+		{
+			return offset;
+		}
+		
+		
+		public int getLength()
+		{
+			return length;
+		}
+		
+		
+		protected void setStored(R block, int offset)
+		{
+			this.offset = offset;
+			this.block = block;
+			bytes = null;
+		}
+
+
+		/** returns the value not yet written to a block, or null */
+		protected byte[] getBytes()
+		{
+			return bytes;
+		}
+		
+		
+		/** the packed values are equal when located at the same place */
+		public boolean equals(Object x)
+		{
+			if(x == this)
+			{
+				return true;
+			}
+			else if(x instanceof PackedHolder)
+			{
+				PackedHolder h = (PackedHolder)x;
+				return (block != null) && block.equals(h.block) && (offset == h.offset);
+			}
+			return false;
+		}
+		
+		
+		public int hashCode()
+		{
+			return (block == null) ? System.identityHashCode(this) : (block.hashCode() * 31 + offset);
+		}
+	}
+}
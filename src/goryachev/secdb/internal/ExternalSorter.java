@@ -0,0 +1,257 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import goryachev.common.io.DReader;
+import goryachev.common.io.DWriterBytes;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IRef;
+import goryachev.secdb.IStore;
+import goryachev.secdb.util.ByteArrayIStream;
+import java.io.BufferedInputStream;
+import java.util.Collections;
+
+
+/**
+ * Sorts entries which may not fit in memory.
+ * 
+ * The entries are accumulated in memory up to the run size, then sorted and written to the store
+ * as a sorted run.  The runs are stored like any other value, so the keys and the inline values 
+ * never reach the disk unencrypted.  The sorted runs are then merged.
+ * 
+ * When the same key is added more than once, the last entry wins.
+ */
+public class ExternalSorter<R extends IRef>
+{
+	public static final long DEFAULT_RUN_SIZE = CKit.mebi(16);
+	/** approximate memory overhead of an entry */
+	private static final int ENTRY_OVERHEAD = 64;
+	private final IStore<R> store;
+	private final long runSize;
+	private final CList<Entry<R>> buffer = new CList<>();
+	private final CList<R> runs = new CList<>();
+	private long bufferSize;
+	
+	
+	public ExternalSorter(IStore<R> store, long runSize)
+	{
+		this.store = store;
+		this.runSize = runSize;
+	}
+	
+	
+	public ExternalSorter(IStore<R> store)
+	{
+		this(store, DEFAULT_RUN_SIZE);
+	}
+	
+	
+	public void add(SKey key, DataHolder<R> value) throws Exception
+	{
+		buffer.add(new Entry<>(key, value));
+		
+		bufferSize += ENTRY_OVERHEAD + (2 * key.toString().length()) + DBEngineIO.estimateValueSize(value);
+		if(bufferSize >= runSize)
+		{
+			spill();
+		}
+	}
+	
+	
+	/** returns the sorted runs written to the store, which are not needed once the entries have been read */
+	public CList<R> getRuns()
+	{
+		return runs;
+	}
+	
+	
+	/** returns the number of runs written to the store */
+	public int getRunCount()
+	{
+		return runs.size();
+	}
+	
+	
+	private void spill() throws Exception
+	{
+		ListSource<R> src = sortBuffer();
+		
+		DWriterBytes wr = new DWriterBytes();
+		try
+		{
+			while(src.next())
+			{
+				wr.writeUInt8(1);
+				wr.writeString(src.getKey().toString());
+				DBEngineIO.writeValue(store, wr, src.getValue());
+			}
+			wr.writeUInt8(0);
+			
+			R ref = store.store(new ByteArrayIStream(wr.toByteArray()), false);
+			runs.add(ref);
+		}
+		finally
+		{
+			CKit.close(wr);
+		}
+		
+		buffer.clear();
+		bufferSize = 0;
+	}
+	
+	
+	private ListSource<R> sortBuffer()
+	{
+		// the sort is stable: the entries with the same key remain in the order they were added
+		Collections.sort(buffer, (a, b) -> a.key.compareTo(b.key));
+		return new ListSource<>(buffer);
+	}
+	
+	
+	/** 
+	 * returns the source of all the entries added so far, in ascending key order.
+	 * no entries may be added afterwards.
+	 */
+	public IEntrySource<R> getSortedSource() throws Exception
+	{
+		ListSource<R> last = sortBuffer();
+		if(runs.size() == 0)
+		{
+			return last;
+		}
+		
+		CList<IEntrySource<R>> sources = new CList<>(runs.size() + 1);
+		for(R ref: runs)
+		{
+			sources.add(new RunSource<>(store, ref));
+		}
+		sources.add(last);
+		
+		return new MergedEntrySource<>(sources);
+	}
+	
+	
+	//
+	
+	
+	protected static class Entry<R extends IRef>
+	{
+		public final SKey key;
+		public final DataHolder<R> value;
+		
+		
+		public Entry(SKey key, DataHolder<R> value)
+		{
+			this.key = key;
+			this.value = value;
+		}
+	}
+	
+	
+	/** iterates over a sorted list, skipping all but the last of the entries with the same key */
+	protected static class ListSource<R extends IRef>
+		implements IEntrySource<R>
+	{
+		private final CList<Entry<R>> entries;
+		private int index = -1;
+		
+		
+		public ListSource(CList<Entry<R>> entries)
+		{
+			this.entries = entries;
+		}
+
+
+		public boolean next()
+		{
+			index++;
+			int sz = entries.size();
+			if(index >= sz)
+			{
+				return false;
+			}
+			
+			while(((index + 1) < sz) && entries.get(index + 1).key.equals(entries.get(index).key))
+			{
+				index++;
+			}
+			return true;
+		}
+
+
+		public SKey getKey()
+		{
+			return entries.get(index).key;
+		}
+
+
+		public DataHolder<R> getValue()
+		{
+			return entries.get(index).value;
+		}
+	}
+	
+	
+	/** reads a sorted run from the store */
+	protected static class RunSource<R extends IRef>
+		implements IEntrySource<R>
+	{
+		private final IStore<R> store;
+		private final R ref;
+		private DReader rd;
+		private boolean done;
+		private SKey key;
+		private DataHolder<R> value;
+		
+		
+		public RunSource(IStore<R> store, R ref)
+		{
+			this.store = store;
+			this.ref = ref;
+		}
+
+
+		public boolean next() throws Exception
+		{
+			if(done)
+			{
+				return false;
+			}
+			else if(rd == null)
+			{
+				rd = new DReader(new BufferedInputStream(store.load(ref).getStream()));
+			}
+			
+			try
+			{
+				if(rd.readUInt8() == 0)
+				{
+					CKit.close(rd);
+					done = true;
+					return false;
+				}
+				
+				key = new SKey(rd.readString());
+				value = DBEngineIO.readValue(store, rd);
+				return true;
+			}
+			catch(Throwable e)
+			{
+				CKit.close(rd);
+				throw e;
+			}
+		}
+
+
+		public SKey getKey()
+		{
+			return key;
+		}
+
+
+		public DataHolder<R> getValue()
+		{
+			return value;
+		}
+	}
+}
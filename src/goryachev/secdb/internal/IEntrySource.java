@@ -0,0 +1,20 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IRef;
+
+
+/**
+ * A Source of Key-Value Entries, in ascending key order.
+ */
+public interface IEntrySource<R extends IRef>
+{
+	/** advances to the next entry.  returns false when no more entries are available */
+	public boolean next() throws Exception;
+	
+	/** returns the key of the current entry */
+	public SKey getKey();
+	
+	/** returns the value of the current entry */
+	public DataHolder<R> getValue();
+}
@@ -0,0 +1,112 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IRef;
+import java.util.List;
+import java.util.PriorityQueue;
+
+
+/**
+ * Merges several sorted sources into one.
+ * When more than one source contains the same key, the entry from the source 
+ * which comes later in the list wins.
+ */
+public class MergedEntrySource<R extends IRef>
+	implements IEntrySource<R>
+{
+	private final PriorityQueue<Item<R>> queue;
+	private final List<? extends IEntrySource<R>> sources;
+	private boolean started;
+	private SKey key;
+	private DataHolder<R> value;
+	
+	
+	public MergedEntrySource(List<? extends IEntrySource<R>> sources)
+	{
+		this.sources = sources;
+		this.queue = new PriorityQueue<>(Math.max(1, sources.size()), (a, b) ->
+		{
+			int c = a.source.getKey().compareTo(b.source.getKey());
+			if(c == 0)
+			{
+				// the later source first
+				c = b.priority - a.priority;
+			}
+			return c;
+		});
+	}
+	
+	
+	public boolean next() throws Exception
+	{
+		if(!started)
+		{
+			started = true;
+			for(int i=0; i<sources.size(); i++)
+			{
+				IEntrySource<R> src = sources.get(i);
+				if(src.next())
+				{
+					queue.add(new Item<>(src, i));
+				}
+			}
+		}
+		
+		Item<R> it = queue.poll();
+		if(it == null)
+		{
+			key = null;
+			value = null;
+			return false;
+		}
+		
+		key = it.source.getKey();
+		value = it.source.getValue();
+		advance(it);
+		
+		// skip the overridden entries
+		while(!queue.isEmpty() && queue.peek().source.getKey().equals(key))
+		{
+			advance(queue.poll());
+		}
+		return true;
+	}
+	
+	
+	private void advance(Item<R> it) throws Exception
+	{
+		if(it.source.next())
+		{
+			queue.add(it);
+		}
+	}
+	
+	
+	public SKey getKey()
+	{
+		return key;
+	}
+	
+	
+	public DataHolder<R> getValue()
+	{
+		return value;
+	}
+	
+	
+	//
+	
+	
+	protected static class Item<R extends IRef>
+	{
+		public final IEntrySource<R> source;
+		public final int priority;
+		
+		
+		public Item(IEntrySource<R> source, int priority)
+		{
+			this.source = source;
+			this.priority = priority;
+		}
+	}
+}
@@ -0,0 +1,418 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import goryachev.common.log.Log;
+import goryachev.common.util.CKit;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IRef;
+import goryachev.secdb.IStore;
+import goryachev.secdb.IStream;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Node Cache.
+ *
+ * Loads and keeps a bounded number of decoded tree nodes, keyed by their reference.
+ * Since the stored nodes never change, the cached instances are marked read-only
+ * and shared between all the readers.  A transaction must copy a node before modifying it
+ * (see copy()).
+ *
+ * The cache evicts least recently used nodes when the total serialized size of the cached
+ * nodes exceeds the capacity.
+ *
+ * The range scans request the nodes they are about to visit in advance (see prefetch()),
+ * which are then loaded and decoded by a small pool of background threads.
+ *
+ * The blocks of the packed values are cached separately (see ValueLog).
+ */
+public class NodeCache<R extends IRef>
+{
+	public static final long DEFAULT_CAPACITY = CKit.mebi(16);
+	/** the maximum size of a serialized node */
+	public static final int NODE_SIZE_LIMIT = 1_000_000;
+	/** default maximum number of sibling nodes requested ahead of a range scan */
+	public static final int DEFAULT_READ_AHEAD = 8;
+	private static final int READ_AHEAD_THREADS = 2;
+	private static final int READ_AHEAD_QUEUE = 64;
+	protected static final Log log = Log.get("NodeCache");
+	private final IStore<R> store;
+	private final ValueLog<R> valueLog;
+	private final LinkedHashMap<R,Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+	private long capacity;
+	private long size;
+	private long hits;
+	private long misses;
+	private int readAhead = DEFAULT_READ_AHEAD;
+	/** nodes being loaded in the background */
+	private final HashMap<R,CompletableFuture<Void>> pending = new HashMap<>();
+	private ThreadPoolExecutor executor;
+
+
+	public NodeCache(IStore<R> store, long capacity)
+	{
+		this.store = store;
+		this.capacity = capacity;
+		this.valueLog = new ValueLog<>(store);
+	}
+
+
+	public IStore<R> getStore()
+	{
+		return store;
+	}
+
+
+	public ValueLog<R> getValueLog()
+	{
+		return valueLog;
+	}
+
+
+	/** returns the shared, read-only node, loading it from the store if necessary */
+	public BPlusTreeNode<SKey,DataHolder<R>> getNode(R ref) throws Exception
+	{
+		CompletableFuture<Void> f;
+		synchronized(this)
+		{
+			Entry en = entries.get(ref);
+			if(en != null)
+			{
+				hits++;
+				return en.node;
+			}
+
+			misses++;
+			f = pending.get(ref);
+		}
+		
+		if(f != null)
+		{
+			// the node is being loaded in the background
+			f.join();
+			
+			synchronized(this)
+			{
+				Entry en = entries.get(ref);
+				if(en != null)
+				{
+					return en.node;
+				}
+			}
+		}
+		
+		return load(ref);
+	}
+	
+	
+	/** 
+	 * returns the shared node if cached, otherwise reads the node without adding it to the cache.
+	 * used by the full tree scans which would otherwise evict the working set.
+	 */
+	public BPlusTreeNode<SKey,DataHolder<R>> readNode(R ref) throws Exception
+	{
+		synchronized(this)
+		{
+			Entry en = entries.get(ref);
+			if(en != null)
+			{
+				return en.node;
+			}
+		}
+		
+		byte[] b = read(ref);
+		return decode(ref, b);
+	}
+	
+	
+	private BPlusTreeNode<SKey,DataHolder<R>> load(R ref) throws Exception
+	{
+		// decoding happens outside of the lock.
+		// two threads might load the same node, which is harmless
+		byte[] b = read(ref);
+		BPlusTreeNode<SKey,DataHolder<R>> n = decode(ref, b);
+		put(ref, n, b.length);
+		return n;
+	}
+	
+	
+	private byte[] read(R ref) throws Exception
+	{
+		try
+		{
+			IStream in = store.load(ref);
+			return in.readBytes(NODE_SIZE_LIMIT);
+		}
+		catch(Throwable e)
+		{
+			throw new Exception("at ref=" + ref, e);
+		}
+	}
+	
+	
+	private BPlusTreeNode<SKey,DataHolder<R>> decode(R ref, byte[] b) throws Exception
+	{
+		BPlusTreeNode<SKey,DataHolder<R>> n;
+		try
+		{
+			n = DBEngineIO.read(this, b);
+		}
+		catch(Throwable e)
+		{
+			throw new Exception("at ref=" + ref, e);
+		}
+
+		n.setReadOnly();
+		return n;
+	}
+
+
+	/** 
+	 * requests the node to be loaded into the cache in the background, unless it is already cached 
+	 * or being loaded.  the request is ignored when the background threads are too busy.
+	 */
+	public void prefetch(R ref)
+	{
+		CompletableFuture<Void> f = new CompletableFuture<>();
+		synchronized(this)
+		{
+			if((readAhead == 0) || (capacity == 0) || entries.containsKey(ref) || pending.containsKey(ref))
+			{
+				return;
+			}
+			
+			if(executor == null)
+			{
+				executor = new ThreadPoolExecutor
+				(
+					READ_AHEAD_THREADS, 
+					READ_AHEAD_THREADS, 
+					1, TimeUnit.SECONDS, 
+					new ArrayBlockingQueue<>(READ_AHEAD_QUEUE), 
+					(r) ->
+					{
+						Thread t = new Thread(r, "NodeCache.readAhead");
+						t.setDaemon(true);
+						return t;
+					}
+				);
+				executor.allowCoreThreadTimeOut(true);
+			}
+			
+			pending.put(ref, f);
+		}
+		
+		try
+		{
+			executor.execute(() ->
+			{
+				try
+				{
+					load(ref);
+				}
+				catch(Throwable e)
+				{
+					// the reader will encounter the same error
+					log.debug(e);
+				}
+				finally
+				{
+					done(ref, f);
+				}
+			});
+		}
+		catch(RejectedExecutionException e)
+		{
+			done(ref, f);
+		}
+	}
+	
+	
+	private void done(R ref, CompletableFuture<Void> f)
+	{
+		synchronized(this)
+		{
+			pending.remove(ref);
+		}
+		f.complete(null);
+	}
+	
+	
+	/** sets the maximum number of sibling nodes requested ahead of a range scan.  zero disables read-ahead */
+	public synchronized void setReadAhead(int nodes)
+	{
+		if(nodes < 0)
+		{
+			throw new IllegalArgumentException("negative read-ahead: " + nodes);
+		}
+		readAhead = nodes;
+	}
+	
+	
+	public synchronized int getReadAhead()
+	{
+		return readAhead;
+	}
+
+
+	/**
+	 * adds a node that has just been stored to the cache.
+	 * the node must be read-only.
+	 */
+	public synchronized void put(R ref, BPlusTreeNode<SKey,DataHolder<R>> node, int length)
+	{
+		if(!node.isReadOnly())
+		{
+			throw new Error("node must be read-only");
+		}
+
+		if(length > capacity)
+		{
+			return;
+		}
+
+		Entry prev = entries.put(ref, new Entry(node, length));
+		if(prev != null)
+		{
+			size -= prev.length;
+		}
+		size += length;
+
+		evict();
+	}
+
+
+	private void evict()
+	{
+		if(size > capacity)
+		{
+			Iterator<Map.Entry<R,Entry>> it = entries.entrySet().iterator();
+			while(it.hasNext() && (size > capacity))
+			{
+				Entry en = it.next().getValue();
+				size -= en.length;
+				it.remove();
+			}
+		}
+	}
+
+
+	/** sets the cache capacity, in bytes.  zero capacity disables the cache */
+	public synchronized void setCapacity(long bytes)
+	{
+		if(bytes < 0)
+		{
+			throw new IllegalArgumentException("negative capacity: " + bytes);
+		}
+
+		capacity = bytes;
+		evict();
+	}
+
+
+	public synchronized long getCapacity()
+	{
+		return capacity;
+	}
+
+
+	/** returns the total serialized size of the cached nodes */
+	public synchronized long getSize()
+	{
+		return size;
+	}
+
+
+	public synchronized int getNodeCount()
+	{
+		return entries.size();
+	}
+
+
+	public synchronized long getHitCount()
+	{
+		return hits;
+	}
+
+
+	public synchronized long getMissCount()
+	{
+		return misses;
+	}
+
+
+	public synchronized void clear()
+	{
+		entries.clear();
+		size = 0;
+	}
+
+
+	public synchronized String toString()
+	{
+		return "NodeCache[nodes=" + entries.size() + ", size=" + size + ", capacity=" + capacity + ", hits=" + hits + ", misses=" + misses + "]";
+	}
+
+
+	/** returns a modifiable copy of a read-only node */
+	public static <R extends IRef> BPlusTreeNode<SKey,DataHolder<R>> copy(BPlusTreeNode<SKey,DataHolder<R>> n)
+	{
+		if(n instanceof DBLeafNode)
+		{
+			return ((DBLeafNode<R>)n).copy();
+		}
+		else if(n instanceof DBInternalNode)
+		{
+			return ((DBInternalNode<R>)n).copy();
+		}
+		else
+		{
+			throw new Error("?" + n);
+		}
+	}
+	
+	
+	/** 
+	 * marks the node and its private (not yet stored) descendants read-only, creating a savepoint:
+	 * any subsequent modification copies the affected nodes, leaving the frozen tree intact.
+	 * the frozen nodes retain their modified flag, so the modified nodes are still stored on commit.
+	 */
+	public static <R extends IRef> void freeze(BPlusTreeNode<SKey,DataHolder<R>> n)
+	{
+		// the descendants of a read-only node are either frozen or stored
+		if(!n.isReadOnly())
+		{
+			n.setReadOnly();
+			
+			if(n instanceof DBInternalNode)
+			{
+				((DBInternalNode<R>)n).freezeChildren();
+			}
+		}
+	}
+
+
+	//
+
+
+	protected static class Entry
+	{
+		public final BPlusTreeNode node;
+		public final int length;
+
+
+		public Entry(BPlusTreeNode node, int length)
+		{
+			this.node = node;
+			this.length = length;
+		}
+	}
+}
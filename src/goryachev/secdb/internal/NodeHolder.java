@@ -1,63 +1,196 @@
-// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb.internal;
-import goryachev.common.util.SKey;
-import goryachev.secdb.IRef;
-import goryachev.secdb.IStream;
-import goryachev.secdb.bplustree.BPlusTreeNode;
-
-
-/**
- * DBEngine Node Holder.
- */
-public class NodeHolder<R extends IRef>
-{
-	private DataHolder<R> dataHolder;
-	private BPlusTreeNode<SKey,DataHolder<R>> node;
-
-	
-	public NodeHolder(DataHolder<R> h)
-	{
-		this.dataHolder = h;
-	}
-	
-
-	public NodeHolder(BPlusTreeNode<SKey,DataHolder<R>> node)
-	{
-		this.node = node;
-	}
-
-	
-	public BPlusTreeNode<SKey,DataHolder<R>> getNode() throws Exception
-	{
-		if(node == null)
-		{
-			IStream is = dataHolder.getStoredValue().getIStream();
-			byte[] b = is.readBytes(Integer.MAX_VALUE);
-			node = DBEngineIO.read(dataHolder.getIStore(), b);
-		}
-		return node;
-	}
-
-
-	public R getRef()
-	{
-		return dataHolder.getRef();
-	}
-
-
-	public boolean isModified()
-	{
-		if(node == null)
-		{
-			return false;
-		}
-		else if(dataHolder == null)
-		{
-			return true;
-		}
-		else
-		{
-			return node.isModified();
-		}
-	}
-}
+// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IRef;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+
+
+/**
+ * DBEngine Node Holder.
+ * 
+ * Holds a reference to the stored node and/or a private (modifiable) copy of the node,
+ * along with the number of entries in the stored subtree.
+ */
+public class NodeHolder<R extends IRef>
+{
+	private DataHolder<R> dataHolder;
+	private BPlusTreeNode<SKey,DataHolder<R>> node;
+	/** the number of entries in the stored subtree, or -1 if unknown (see DBEngineIO, format version 5) */
+	private volatile long count = -1;
+
+	
+	public NodeHolder(DataHolder<R> h)
+	{
+		this.dataHolder = h;
+	}
+	
+	
+	public NodeHolder(DataHolder<R> h, long count)
+	{
+		this.dataHolder = h;
+		this.count = count;
+	}
+	
+
+	public NodeHolder(BPlusTreeNode<SKey,DataHolder<R>> node)
+	{
+		this.node = node;
+	}
+	
+	
+	private NodeHolder(DataHolder<R> h, BPlusTreeNode<SKey,DataHolder<R>> node, long count)
+	{
+		this.dataHolder = h;
+		this.node = node;
+		this.count = count;
+	}
+	
+	
+	public NodeHolder<R> copy()
+	{
+		return new NodeHolder<>(dataHolder, node, count);
+	}
+
+	
+	/** 
+	 * returns the node.  
+	 * When forUpdate is false, the returned node might be a shared read-only instance obtained from the cache.
+	 * When forUpdate is true, the holder makes and retains a private modifiable copy.
+	 */
+	public BPlusTreeNode<SKey,DataHolder<R>> getNode(NodeCache<R> cache, boolean forUpdate) throws Exception
+	{
+		BPlusTreeNode<SKey,DataHolder<R>> n = node;
+		if(n == null)
+		{
+			n = cache.getNode(dataHolder.getRef());
+		}
+		
+		if(forUpdate && n.isReadOnly())
+		{
+			n = NodeCache.copy(n);
+			node = n;
+		}
+		return n;
+	}
+	
+	
+	/** returns the private copy of the node, or null */
+	public BPlusTreeNode<SKey,DataHolder<R>> getNode()
+	{
+		return node;
+	}
+
+
+	/** returns the reference to the stored node, or null */
+	public DataHolder<R> getDataHolder()
+	{
+		return dataHolder;
+	}
+
+
+	public R getRef()
+	{
+		return dataHolder == null ? null : dataHolder.getRef();
+	}
+	
+	
+	/** 
+	 * returns the number of entries in the subtree.
+	 * the count of a private copy is computed from the node, since it might have been modified.
+	 * an unknown count is computed by reading the whole subtree, bypassing the cache, and retained by this holder.
+	 * the count is only unknown for the subtrees containing the nodes written before format version 3.
+	 */
+	public long getCount(NodeCache<R> cache) throws Exception
+	{
+		BPlusTreeNode<SKey,DataHolder<R>> n = node;
+		if(n != null)
+		{
+			return count(n);
+		}
+		
+		long c = count;
+		if(c < 0)
+		{
+			// the count is not stored in the nodes written in version 1 or 2 format
+			c = count(cache.readNode(dataHolder.getRef()));
+			count = c;
+		}
+		return c;
+	}
+	
+	
+	/** returns the number of entries in the subtree rooted at the specified node */
+	public static <R extends IRef> long count(BPlusTreeNode<SKey,DataHolder<R>> n) throws Exception
+	{
+		if(n instanceof DBInternalNode)
+		{
+			return ((DBInternalNode<R>)n).getCount();
+		}
+		else
+		{
+			return n.size();
+		}
+	}
+	
+	
+	/** returns the number of entries in the subtree without reading the stored nodes, or -1 if unknown */
+	public long getKnownCount()
+	{
+		BPlusTreeNode<SKey,DataHolder<R>> n = node;
+		if(n != null)
+		{
+			return getKnownCount(n);
+		}
+		return count;
+	}
+	
+	
+	/** returns the number of entries in the subtree rooted at the specified node without reading the stored nodes, or -1 */
+	public static <R extends IRef> long getKnownCount(BPlusTreeNode<SKey,DataHolder<R>> n)
+	{
+		if(n instanceof DBInternalNode)
+		{
+			return ((DBInternalNode<R>)n).getKnownCount();
+		}
+		else
+		{
+			return n.size();
+		}
+	}
+	
+	
+	/** called after the node has been stored: releases the private copy */
+	protected void setStored(DataHolder<R> h, long count)
+	{
+		dataHolder = h;
+		node = null;
+		this.count = count;
+	}
+	
+	
+	/** releases the unmodified private copy, if any */
+	protected void release()
+	{
+		if(dataHolder != null)
+		{
+			node = null;
+		}
+	}
+
+
+	public boolean isModified()
+	{
+		if(node == null)
+		{
+			return false;
+		}
+		else if(dataHolder == null)
+		{
+			return true;
+		}
+		else
+		{
+			return node.isModified();
+		}
+	}
+}
@@ -0,0 +1,390 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IRef;
+import goryachev.secdb.QueryClient;
+import goryachev.secdb.QueryMapper;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * Parallel Range Scan.
+ * 
+ * Splits the key range [start, end) at the internal node boundaries and processes the subtrees
+ * on a ForkJoinPool, so the nodes and values are read and decrypted by several threads at once.
+ * Either bound might be null (unbounded).
+ * 
+ * The unordered scan delivers the entries to the client in the pool threads.
+ * The ordered scan maps the entries in the pool threads and delivers the results in key order
+ * in the calling thread, keeping a bounded number of leaves in flight.
+ */
+public class ParallelScan<R extends IRef>
+{
+	private final NodeCache<R> cache;
+	private final BPlusTreeNode<SKey,DataHolder<R>> root;
+	private final SKey start;
+	private final SKey end;
+	private final ForkJoinPool pool;
+	private int window;
+	private volatile boolean stopped;
+	
+	
+	public ParallelScan(NodeCache<R> cache, BPlusTreeNode<SKey,DataHolder<R>> root, SKey start, SKey end, ForkJoinPool pool)
+	{
+		this.cache = cache;
+		this.root = root;
+		this.start = start;
+		this.end = end;
+		this.pool = pool;
+		this.window = 4 * pool.getParallelism();
+	}
+	
+	
+	/** sets the maximum number of leaves processed ahead of the client in the ordered scan */
+	public void setWindow(int leaves)
+	{
+		if(leaves < 1)
+		{
+			throw new IllegalArgumentException("window must be positive: " + leaves);
+		}
+		window = leaves;
+	}
+	
+	
+	/** 
+	 * delivers the entries in no particular order.  
+	 * the client must be thread safe, as it is invoked from several threads at once.
+	 * when the client returns false, the scan stops as soon as possible.
+	 */
+	public void scan(QueryClient<SKey,DataHolder<R>> client) throws Exception
+	{
+		try
+		{
+			pool.invoke(new SubtreeTask(root, null, client));
+		}
+		catch(RuntimeException e)
+		{
+			throw unwrap(e);
+		}
+	}
+	
+	
+	/** 
+	 * maps the entries in the pool threads and delivers the results to the client in key order, in the calling thread.
+	 * the scan stops when the client returns false.
+	 */
+	public <T> void scanOrdered(QueryMapper<SKey,DataHolder<R>,T> mapper, QueryClient<SKey,T> client) throws Exception
+	{
+		ArrayDeque<LeafTask<T>> tasks = new ArrayDeque<>();
+		try
+		{
+			int depth = root.getDepth();
+			if(depth == 1)
+			{
+				LeafTask<T> t = new LeafTask<>(root, null, mapper);
+				tasks.add(t);
+				pool.execute(t);
+			}
+			else
+			{
+				submitLeaves((DBInternalNode<R>)root, depth - 1, mapper, client, tasks);
+			}
+			
+			while(!stopped && (tasks.size() > 0))
+			{
+				deliver(tasks.removeFirst(), client);
+			}
+		}
+		catch(RuntimeException e)
+		{
+			throw unwrap(e);
+		}
+		finally
+		{
+			stopped = true;
+			for(LeafTask<T> t: tasks)
+			{
+				t.cancel(false);
+			}
+		}
+	}
+	
+	
+	/** walks the internal nodes in key order, submitting a task for each leaf within the range */
+	private <T> void submitLeaves(DBInternalNode<R> n, int height, QueryMapper<SKey,DataHolder<R>,T> mapper, QueryClient<SKey,T> client, ArrayDeque<LeafTask<T>> tasks) throws Exception
+	{
+		int from = firstChild(n);
+		int to = lastChild(n);
+		for(int i=from; i<=to; i++)
+		{
+			if(stopped)
+			{
+				return;
+			}
+			
+			NodeHolder<R> h = n.nodeHolderAt(i);
+			if(height == 1)
+			{
+				if(tasks.size() >= window)
+				{
+					deliver(tasks.removeFirst(), client);
+				}
+				
+				LeafTask<T> t = new LeafTask<>(null, h, mapper);
+				tasks.add(t);
+				pool.execute(t);
+			}
+			else
+			{
+				DBInternalNode<R> ch = (DBInternalNode)h.getNode(cache, false);
+				submitLeaves(ch, height - 1, mapper, client, tasks);
+			}
+		}
+	}
+	
+	
+	private <T> void deliver(LeafTask<T> t, QueryClient<SKey,T> client) throws Exception
+	{
+		if(stopped)
+		{
+			return;
+		}
+		
+		Batch<T> b = t.join();
+		int sz = b.keys.size();
+		for(int i=0; i<sz; i++)
+		{
+			if(!client.acceptQueryResult(b.keys.get(i), b.values.get(i)))
+			{
+				stopped = true;
+				return;
+			}
+		}
+	}
+	
+	
+	/** returns the index of the first child which might contain keys within the range */
+	private int firstChild(DBInternalNode<R> n)
+	{
+		return (start == null) ? 0 : n.findInsertIndex(start);
+	}
+	
+	
+	/** returns the index of the last child which might contain keys within the range */
+	private int lastChild(DBInternalNode<R> n)
+	{
+		return (end == null) ? n.getChildCount() - 1 : n.findInsertIndex(end);
+	}
+	
+	
+	/** returns the index of the first entry within the range */
+	private int firstEntry(BPlusTreeNode<SKey,DataHolder<R>> leaf)
+	{
+		if(start == null)
+		{
+			return 0;
+		}
+		
+		int ix = leaf.indexOf(start);
+		return (ix < 0) ? (-ix - 1) : ix;
+	}
+	
+	
+	private boolean isBeforeEnd(SKey key)
+	{
+		return (end == null) || (key.compareTo(end) < 0);
+	}
+	
+	
+	/** finds the original exception thrown by a task */
+	private static Exception unwrap(RuntimeException e)
+	{
+		Throwable t = e;
+		while(t != null)
+		{
+			if(t instanceof TaskException)
+			{
+				return (Exception)t.getCause();
+			}
+			t = t.getCause();
+		}
+		return e;
+	}
+	
+	
+	//
+	
+	
+	/** carries a checked exception out of a task */
+	protected static class TaskException
+		extends RuntimeException
+	{
+		private static final long serialVersionUID = 1L;
+		
+		
+		public TaskException(Exception e)
+		{
+			super(e);
+		}
+	}
+	
+	
+	//
+	
+	
+	/** the entries of one leaf */
+	protected static class Batch<T>
+	{
+		public final CList<SKey> keys = new CList<>();
+		public final CList<T> values = new CList<>();
+	}
+	
+	
+	//
+	
+	
+	/** scans a subtree, forking a task per child of an internal node */
+	protected class SubtreeTask
+		extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private final BPlusTreeNode<SKey,DataHolder<R>> node;
+		private final NodeHolder<R> holder;
+		private final QueryClient<SKey,DataHolder<R>> client;
+		
+		
+		public SubtreeTask(BPlusTreeNode<SKey,DataHolder<R>> node, NodeHolder<R> holder, QueryClient<SKey,DataHolder<R>> client)
+		{
+			this.node = node;
+			this.holder = holder;
+			this.client = client;
+		}
+		
+		
+		protected void compute()
+		{
+			try
+			{
+				process();
+			}
+			catch(RuntimeException e)
+			{
+				stopped = true;
+				throw e;
+			}
+			catch(Exception e)
+			{
+				stopped = true;
+				throw new TaskException(e);
+			}
+		}
+		
+		
+		private void process() throws Exception
+		{
+			if(stopped)
+			{
+				return;
+			}
+			
+			BPlusTreeNode<SKey,DataHolder<R>> n = (node == null) ? holder.getNode(cache, false) : node;
+			if(n instanceof DBInternalNode)
+			{
+				DBInternalNode<R> p = (DBInternalNode)n;
+				int from = firstChild(p);
+				int to = lastChild(p);
+				
+				CList<SubtreeTask> tasks = new CList<>();
+				for(int i=from; i<=to; i++)
+				{
+					tasks.add(new SubtreeTask(null, p.nodeHolderAt(i), client));
+				}
+				invokeAll(tasks);
+			}
+			else
+			{
+				int sz = n.size();
+				for(int i=firstEntry(n); i<sz; i++)
+				{
+					SKey k = n.keyAt(i);
+					if(stopped || !isBeforeEnd(k))
+					{
+						return;
+					}
+					
+					if(!client.acceptQueryResult(k, ((DBLeafNode<R>)n).valueAt(i)))
+					{
+						stopped = true;
+						return;
+					}
+				}
+			}
+		}
+	}
+	
+	
+	//
+	
+	
+	/** reads a leaf and maps its entries within the range */
+	protected class LeafTask<T>
+		extends RecursiveTask<Batch<T>>
+	{
+		private static final long serialVersionUID = 1L;
+		private final BPlusTreeNode<SKey,DataHolder<R>> node;
+		private final NodeHolder<R> holder;
+		private final QueryMapper<SKey,DataHolder<R>,T> mapper;
+		
+		
+		public LeafTask(BPlusTreeNode<SKey,DataHolder<R>> node, NodeHolder<R> holder, QueryMapper<SKey,DataHolder<R>,T> mapper)
+		{
+			this.node = node;
+			this.holder = holder;
+			this.mapper = mapper;
+		}
+		
+		
+		protected Batch<T> compute()
+		{
+			try
+			{
+				return process();
+			}
+			catch(RuntimeException e)
+			{
+				throw e;
+			}
+			catch(Exception e)
+			{
+				throw new TaskException(e);
+			}
+		}
+		
+		
+		private Batch<T> process() throws Exception
+		{
+			Batch<T> b = new Batch<>();
+			BPlusTreeNode<SKey,DataHolder<R>> n = (node == null) ? holder.getNode(cache, false) : node;
+			int sz = n.size();
+			for(int i=firstEntry(n); i<sz; i++)
+			{
+				SKey k = n.keyAt(i);
+				if(stopped || !isBeforeEnd(k))
+				{
+					break;
+				}
+				
+				DataHolder<R> v = ((DBLeafNode<R>)n).valueAt(i);
+				b.keys.add(k);
+				b.values.add(mapper.map(k, v));
+			}
+			return b;
+		}
+	}
+}
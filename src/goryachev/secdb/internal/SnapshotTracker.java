@@ -0,0 +1,78 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import java.io.Closeable;
+import java.util.WeakHashMap;
+
+
+/**
+ * Snapshot Tracker.
+ *
+ * Keeps track of the open snapshots and cursors by the commit sequence number of the version they see,
+ * so the storage occupied by the older versions is not reclaimed while it might still be read.
+ * A pin is released by close(), or when it becomes unreachable.
+ */
+public class SnapshotTracker
+{
+	private final WeakHashMap<Pin,Long> pins = new WeakHashMap<>();
+
+
+	public SnapshotTracker()
+	{
+	}
+
+
+	/** registers a reader of the specified version.  the returned pin must be closed when the reader is done */
+	public Closeable open(long sequence)
+	{
+		Pin p = new Pin();
+		synchronized(pins)
+		{
+			pins.put(p, sequence);
+		}
+		return p;
+	}
+
+
+	/** returns the smallest sequence number among the open pins, or Long.MAX_VALUE if none */
+	public long getOldest()
+	{
+		long rv = Long.MAX_VALUE;
+		synchronized(pins)
+		{
+			for(Long seq: pins.values())
+			{
+				if(seq < rv)
+				{
+					rv = seq;
+				}
+			}
+		}
+		return rv;
+	}
+
+
+	/** returns the number of open pins */
+	public int getCount()
+	{
+		synchronized(pins)
+		{
+			return pins.size();
+		}
+	}
+
+
+	//
+
+
+	protected class Pin
+		implements Closeable
+	{
+		public void close()
+		{
+			synchronized(pins)
+			{
+				pins.remove(this);
+			}
+		}
+	}
+}
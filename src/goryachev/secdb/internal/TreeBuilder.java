@@ -0,0 +1,355 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IRef;
+import goryachev.secdb.IStore;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+
+
+/**
+ * Builds a tree bottom-up from the entries supplied in strictly ascending key order.
+ * 
+ * The leaves are packed to the target fill factor and stored as soon as they are complete,
+ * followed by the internal nodes of each level.  The root node is returned unstored, 
+ * to be written by the transaction commit.
+ */
+public class TreeBuilder<R extends IRef>
+{
+	/** the nodes are filled up to this fraction of the page size, leaving room for subsequent inserts */
+	public static final double DEFAULT_FILL_FACTOR = 0.8;
+	private final NodeCache<R> cache;
+	private final IStore<R> store;
+	private final int pageSize;
+	private final int limit;
+	private final CList<Level> levels = new CList<>();
+	private final CList<R> storedNodes = new CList<>();
+	private SKey lastKey;
+	private long count;
+	
+	
+	public TreeBuilder(NodeCache<R> cache, int pageSize, double fillFactor)
+	{
+		this.cache = cache;
+		this.store = cache.getStore();
+		this.pageSize = pageSize;
+		this.limit = (int)(pageSize * fillFactor);
+	}
+	
+	
+	public TreeBuilder(NodeCache<R> cache, int pageSize)
+	{
+		this(cache, pageSize, DEFAULT_FILL_FACTOR);
+	}
+	
+	
+	/** returns the number of entries added */
+	public long getCount()
+	{
+		return count;
+	}
+	
+	
+	/** returns the nodes stored so far */
+	public CList<R> getStoredNodes()
+	{
+		return storedNodes;
+	}
+	
+	
+	/** adds an entry.  the key must be greater than the key of the previous entry */
+	public void add(SKey key, DataHolder<R> value) throws Exception
+	{
+		if((lastKey != null) && (key.compareTo(lastKey) <= 0))
+		{
+			throw new IllegalArgumentException("keys must be in ascending order: " + key + " after " + lastKey);
+		}
+		
+		lastKey = key;
+		count++;
+		add(0, key, value, 1);
+	}
+	
+	
+	/** adds all the entries from the source */
+	public void addAll(IEntrySource<R> src) throws Exception
+	{
+		while(src.next())
+		{
+			add(src.getKey(), src.getValue());
+		}
+	}
+	
+	
+	/** adds an entry to the specified level, the count is the number of entries in the subtree */
+	private void add(int depth, SKey key, DataHolder<R> value, long count) throws Exception
+	{
+		if(depth == levels.size())
+		{
+			levels.add(new Level(depth == 0));
+		}
+		
+		Level lev = levels.get(depth);
+		if(lev.isFull(key, value))
+		{
+			if(lev.previous != null)
+			{
+				// the previous node is no longer needed for balancing
+				emit(depth, lev.previous);
+			}
+			lev.previous = lev.current;
+			lev.current = new Chunk();
+		}
+		lev.add(key, value, count);
+	}
+	
+	
+	/** stores the node and adds a reference to it to the next level */
+	private void emit(int depth, Chunk c) throws Exception
+	{
+		BPlusTreeNode<SKey,DataHolder<R>> n = createNode(depth, c);
+		R ref = DBEngineIO.store(cache, n);
+		storedNodes.add(ref);
+		add(depth + 1, c.keys.get(0), new DataHolder.RefHolder(store, ref), c.getCount());
+	}
+	
+	
+	/** completes the tree and returns the new (unstored) root node */
+	public BPlusTreeNode<SKey,DataHolder<R>> finish() throws Exception
+	{
+		if(levels.size() == 0)
+		{
+			return DBLeafNode.createModified(cache);
+		}
+		
+		for(int depth=0; ; depth++)
+		{
+			Level lev = levels.get(depth);
+			boolean top = (depth == levels.size() - 1);
+			
+			if(top && (lev.previous == null))
+			{
+				// single node at the top level
+				return createNode(depth, lev.current);
+			}
+			
+			Chunk last = lev.current;
+			Chunk prev = lev.previous;
+			if(lev.isUnderflow(last))
+			{
+				// rebalance the last two nodes
+				prev.append(last);
+				if(lev.estimateSize(prev) <= pageSize)
+				{
+					last = null;
+				}
+				else
+				{
+					last = prev.split(lev.isLeaf);
+				}
+			}
+			
+			emit(depth, prev);
+			if(last != null)
+			{
+				emit(depth, last);
+			}
+		}
+	}
+	
+	
+	private BPlusTreeNode<SKey,DataHolder<R>> createNode(int depth, Chunk c)
+	{
+		int sz = c.keys.size();
+		if(depth == 0)
+		{
+			DBLeafNode<R> n = DBLeafNode.createModified(cache);
+			for(int i=0; i<sz; i++)
+			{
+				n.addKey(c.keys.get(i));
+				n.addValue(c.values.get(i));
+			}
+			return n;
+		}
+		else
+		{
+			// the first key of each child, except for the very first one, separates the children
+			DBInternalNode<R> n = DBInternalNode.createModified(cache);
+			for(int i=0; i<sz; i++)
+			{
+				if(i > 0)
+				{
+					n.addKey(c.keys.get(i));
+				}
+				n.addChild(c.values.get(i), c.counts.get(i));
+			}
+			return n;
+		}
+	}
+	
+	
+	//
+	
+	
+	/** the entries of a node under construction */
+	protected class Chunk
+	{
+		public final CList<SKey> keys = new CList<>();
+		public final CList<DataHolder<R>> values = new CList<>();
+		/** the number of entries in the subtree of each value */
+		public final CList<Long> counts = new CList<>();
+		public int size;
+		
+		
+		public void append(Chunk c)
+		{
+			keys.addAll(c.keys);
+			values.addAll(c.values);
+			counts.addAll(c.counts);
+		}
+		
+		
+		/** returns the number of entries in the subtree */
+		public long getCount()
+		{
+			long rv = 0;
+			for(long c: counts)
+			{
+				rv += c;
+			}
+			return rv;
+		}
+		
+		
+		/** 
+		 * splits the entries in two halves of approximately the same size, returns the second half,
+		 * or null if there are too few entries to split
+		 */
+		public Chunk split(boolean leaf)
+		{
+			// each internal node must have at least two children
+			int min = leaf ? 1 : 2;
+			int sz = keys.size();
+			if(sz < (2 * min))
+			{
+				return null;
+			}
+			
+			int total = 0;
+			for(int i=0; i<sz; i++)
+			{
+				total += entrySize(i, leaf);
+			}
+			
+			int half = total / 2;
+			int ix = sz / 2;
+			total = 0;
+			for(int i=0; i<sz; i++)
+			{
+				total += entrySize(i, leaf);
+				if(total >= half)
+				{
+					ix = i + 1;
+					break;
+				}
+			}
+			
+			ix = Math.max(min, Math.min(ix, sz - min));
+			
+			Chunk c = new Chunk();
+			c.keys.addAll(keys.subList(ix, sz));
+			c.values.addAll(values.subList(ix, sz));
+			c.counts.addAll(counts.subList(ix, sz));
+			keys.subList(ix, sz).clear();
+			values.subList(ix, sz).clear();
+			counts.subList(ix, sz).clear();
+			return c;
+		}
+		
+		
+		public int entrySize(int ix, boolean leaf)
+		{
+			SKey prev = (ix == 0) ? null : keys.get(ix - 1);
+			if(leaf)
+			{
+				return DBEngineIO.estimateKeySize(prev, keys.get(ix)) + DBEngineIO.estimateValueSize(values.get(ix));
+			}
+			else if(ix == 0)
+			{
+				// the first child has no separator key
+				return 0;
+			}
+			else
+			{
+				return DBEngineIO.estimateKeySize(prev, keys.get(ix)) + DBEngineIO.estimateRefSize();
+			}
+		}
+	}
+	
+	
+	/** one level of the tree under construction */
+	protected class Level
+	{
+		public final boolean isLeaf;
+		public Chunk current = new Chunk();
+		/** the last completed node is kept until the next one is complete, so the last two nodes can be balanced */
+		public Chunk previous;
+		
+		
+		public Level(boolean isLeaf)
+		{
+			this.isLeaf = isLeaf;
+		}
+		
+		
+		public boolean isFull(SKey key, DataHolder<R> value)
+		{
+			int sz = current.keys.size();
+			if(sz < (isLeaf ? 1 : 2))
+			{
+				return false;
+			}
+			
+			SKey prev = current.keys.get(sz - 1);
+			int add = DBEngineIO.estimateKeySize(prev, key) + (isLeaf ? DBEngineIO.estimateValueSize(value) : DBEngineIO.estimateRefSize());
+			return (headerSize() + current.size + add) > limit;
+		}
+		
+		
+		public void add(SKey key, DataHolder<R> value, long count)
+		{
+			current.keys.add(key);
+			current.values.add(value);
+			current.counts.add(count);
+			current.size += current.entrySize(current.keys.size() - 1, isLeaf);
+		}
+		
+		
+		public boolean isUnderflow(Chunk c)
+		{
+			if(!isLeaf && (c.keys.size() < 2))
+			{
+				return true;
+			}
+			return estimateSize(c) < (pageSize / 4);
+		}
+		
+		
+		public int estimateSize(Chunk c)
+		{
+			int total = headerSize();
+			int sz = c.keys.size();
+			for(int i=0; i<sz; i++)
+			{
+				total += c.entrySize(i, isLeaf);
+			}
+			return total;
+		}
+		
+		
+		private int headerSize()
+		{
+			return isLeaf ? DBEngineIO.estimateLeafHeaderSize() : DBEngineIO.estimateInternalHeaderSize();
+		}
+	}
+}
@@ -0,0 +1,439 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import goryachev.common.io.DReader;
+import goryachev.common.io.DWriterBytes;
+import goryachev.common.util.Base64;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IRef;
+import goryachev.secdb.IStore;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import java.io.Closeable;
+
+
+/**
+ * Pull-based Tree Cursor.
+ * 
+ * Iterates over the entries of a tree snapshot within a key range, in either direction.
+ * The range includes the start key and excludes the end key, either of which might be null (unbounded).
+ * When iterating backward, the start key is greater than the end key.
+ * 
+ * The cursor holds the root node it started from, and a stack of the decoded nodes 
+ * on the path to the current leaf.  The cursor is not thread safe, but may be used 
+ * by any one thread at a time.
+ */
+public class TreeCursor<R extends IRef>
+	implements IEntrySource<R>, Closeable
+{
+	private static final int TOKEN_VERSION = 1;
+	private static final int FLAG_FORWARD = 0x01;
+	private static final int FLAG_ROOT = 0x02;
+	private static final int FLAG_START = 0x04;
+	private static final int FLAG_END = 0x08;
+	private static final int FLAG_CURRENT = 0x10;
+	private static final int FLAG_DONE = 0x20;
+	private final NodeCache<R> cache;
+	private final R rootRef;
+	private final boolean forward;
+	private final SKey start;
+	private final SKey end;
+	private BPlusTreeNode<SKey,DataHolder<R>> root;
+	private final CList<DBInternalNode<R>> path = new CList<>();
+	private final CList<Integer> indexes = new CList<>();
+	private DBLeafNode<R> leaf;
+	/** the index of the current entry, or the position just before the first entry to be returned */
+	private int index;
+	private boolean current;
+	private boolean done;
+	/** keeps the version of the tree from being reclaimed while the cursor is open, or null */
+	private Closeable pin;
+	
+	
+	/** creates a cursor positioned before the first entry of the range */
+	public TreeCursor(NodeCache<R> cache, R rootRef, BPlusTreeNode<SKey,DataHolder<R>> root, SKey start, SKey end, boolean forward) throws Exception
+	{
+		this.cache = cache;
+		this.rootRef = rootRef;
+		this.root = root;
+		this.start = start;
+		this.end = end;
+		this.forward = forward;
+		
+		position(start, true);
+	}
+	
+	
+	/** creates a cursor from the continuation token (see getToken()) */
+	public static <R extends IRef> TreeCursor<R> fromToken(NodeCache<R> cache, String token) throws Exception
+	{
+		IStore<R> store = cache.getStore();
+		DReader rd = new DReader(Base64.decode(token));
+		try
+		{
+			int ver = rd.readUInt8();
+			if(ver != TOKEN_VERSION)
+			{
+				throw new Exception("unsupported token version: " + ver);
+			}
+			
+			int flags = rd.readUInt8();
+			R ref = ((flags & FLAG_ROOT) == 0) ? null : store.readRef(rd);
+			SKey start = ((flags & FLAG_START) == 0) ? null : new SKey(rd.readString());
+			SKey end = ((flags & FLAG_END) == 0) ? null : new SKey(rd.readString());
+			SKey pos = ((flags & FLAG_CURRENT) == 0) ? null : new SKey(rd.readString());
+			
+			BPlusTreeNode<SKey,DataHolder<R>> root = (ref == null) ? DBLeafNode.createModified(cache) : cache.getNode(ref);
+			TreeCursor<R> c = new TreeCursor<>(cache, ref, root, start, end, (flags & FLAG_FORWARD) != 0);
+			if(pos != null)
+			{
+				// resume after the last returned entry
+				c.position(pos, false);
+			}
+			c.done = ((flags & FLAG_DONE) != 0);
+			return c;
+		}
+		finally
+		{
+			CKit.close(rd);
+		}
+	}
+	
+	
+	/** 
+	 * returns an opaque token which allows to resume the iteration after the current entry,
+	 * using the same snapshot of the tree.
+	 * the token contains the keys in the clear.
+	 */
+	public String getToken() throws Exception
+	{
+		IStore<R> store = cache.getStore();
+		DWriterBytes wr = new DWriterBytes();
+		try
+		{
+			int flags = 0;
+			if(forward)
+			{
+				flags |= FLAG_FORWARD;
+			}
+			if(rootRef != null)
+			{
+				flags |= FLAG_ROOT;
+			}
+			if(start != null)
+			{
+				flags |= FLAG_START;
+			}
+			if(end != null)
+			{
+				flags |= FLAG_END;
+			}
+			if(current)
+			{
+				flags |= FLAG_CURRENT;
+			}
+			if(done)
+			{
+				flags |= FLAG_DONE;
+			}
+			
+			wr.writeUInt8(TOKEN_VERSION);
+			wr.writeUInt8(flags);
+			if(rootRef != null)
+			{
+				store.writeRef(rootRef, wr);
+			}
+			if(start != null)
+			{
+				wr.writeString(start.toString());
+			}
+			if(end != null)
+			{
+				wr.writeString(end.toString());
+			}
+			if(current)
+			{
+				wr.writeString(getKey().toString());
+			}
+			
+			return Base64.encode(wr.toByteArray());
+		}
+		finally
+		{
+			CKit.close(wr);
+		}
+	}
+	
+	
+	public boolean isForward()
+	{
+		return forward;
+	}
+	
+	
+	/** 
+	 * positions the cursor so that the next call to next() returns the first entry at or after the key 
+	 * in the direction of iteration.  a key outside of the range is clamped to the start of the range.
+	 */
+	public void seek(SKey key) throws Exception
+	{
+		if((key == null) || isBeforeStart(key))
+		{
+			key = start;
+		}
+		position(key, true);
+	}
+	
+	
+	private boolean isBeforeStart(SKey key)
+	{
+		if(start == null)
+		{
+			return false;
+		}
+		
+		int c = key.compareTo(start);
+		return forward ? (c < 0) : (c > 0);
+	}
+	
+	
+	/** descends from the root to the leaf containing the key */
+	private void position(SKey key, boolean inclusive) throws Exception
+	{
+		checkOpen();
+		
+		path.clear();
+		indexes.clear();
+		current = false;
+		done = false;
+		
+		BPlusTreeNode<SKey,DataHolder<R>> n = root;
+		while(n instanceof DBInternalNode)
+		{
+			DBInternalNode<R> p = (DBInternalNode)n;
+			int ix;
+			if(key == null)
+			{
+				ix = forward ? 0 : p.getChildCount() - 1;
+			}
+			else
+			{
+				ix = p.findInsertIndex(key);
+			}
+			
+			path.add(p);
+			indexes.add(ix);
+			n = p.nodeHolderAt(ix).getNode(cache, false);
+		}
+		
+		leaf = (DBLeafNode)n;
+		
+		if(key == null)
+		{
+			index = forward ? -1 : leaf.size();
+		}
+		else
+		{
+			int ix = leaf.indexOf(key);
+			if(forward)
+			{
+				if(ix < 0)
+				{
+					index = -ix - 2;
+				}
+				else
+				{
+					index = inclusive ? ix - 1 : ix;
+				}
+			}
+			else
+			{
+				if(ix < 0)
+				{
+					index = -ix - 1;
+				}
+				else
+				{
+					index = inclusive ? ix + 1 : ix;
+				}
+			}
+		}
+	}
+	
+	
+	/** advances to the next entry.  returns false when no more entries are available */
+	public boolean next() throws Exception
+	{
+		if(done || (leaf == null))
+		{
+			current = false;
+			return false;
+		}
+		
+		for(;;)
+		{
+			int lim = limit();
+			if(forward ? (index < lim) : (index > lim))
+			{
+				index += (forward ? 1 : -1);
+				current = true;
+				return true;
+			}
+			
+			if(isBoundInLeaf(lim) || !moveToAdjacentLeaf())
+			{
+				done = true;
+				current = false;
+				return false;
+			}
+		}
+	}
+	
+	
+	/** 
+	 * skips up to the specified number of entries, returns the number of entries skipped.
+	 * the last skipped entry becomes the current entry.
+	 */
+	public int skip(int count) throws Exception
+	{
+		int skipped = 0;
+		DBLeafNode<R> lastLeaf = leaf;
+		int lastIndex = index;
+		while((skipped < count) && !done && (leaf != null))
+		{
+			int lim = limit();
+			int avail = forward ? (lim - index) : (index - lim);
+			if(avail > 0)
+			{
+				int k = Math.min(avail, count - skipped);
+				index += (forward ? k : -k);
+				skipped += k;
+				current = true;
+				lastLeaf = leaf;
+				lastIndex = index;
+			}
+			else if(isBoundInLeaf(lim) || !moveToAdjacentLeaf())
+			{
+				// the last skipped entry remains current
+				done = true;
+				leaf = lastLeaf;
+				index = lastIndex;
+			}
+		}
+		return skipped;
+	}
+	
+	
+	/** returns the index of the last entry in the current leaf (in the direction of iteration) within the range */
+	private int limit()
+	{
+		int sz = leaf.size();
+		if(end == null)
+		{
+			return forward ? sz - 1 : 0;
+		}
+		
+		int ix = leaf.indexOf(end);
+		if(forward)
+		{
+			return (ix < 0) ? (-ix - 2) : (ix - 1);
+		}
+		else
+		{
+			return (ix < 0) ? (-ix - 1) : (ix + 1);
+		}
+	}
+	
+	
+	/** returns true if the end of the range is within the current leaf */
+	private boolean isBoundInLeaf(int limit)
+	{
+		return forward ? (limit < leaf.size() - 1) : (limit > 0);
+	}
+	
+	
+	private boolean moveToAdjacentLeaf() throws Exception
+	{
+		while(path.size() > 0)
+		{
+			int last = path.size() - 1;
+			DBInternalNode<R> p = path.get(last);
+			int ix = indexes.get(last) + (forward ? 1 : -1);
+			if((ix >= 0) && (ix < p.getChildCount()))
+			{
+				indexes.set(last, ix);
+				
+				// descend to the first (or last) leaf of the subtree
+				BPlusTreeNode<SKey,DataHolder<R>> n = p.nodeHolderAt(ix).getNode(cache, false);
+				while(n instanceof DBInternalNode)
+				{
+					DBInternalNode<R> c = (DBInternalNode)n;
+					int cix = forward ? 0 : c.getChildCount() - 1;
+					path.add(c);
+					indexes.add(cix);
+					n = c.nodeHolderAt(cix).getNode(cache, false);
+				}
+				
+				leaf = (DBLeafNode)n;
+				index = forward ? -1 : leaf.size();
+				return true;
+			}
+			
+			path.remove(last);
+			indexes.remove(last);
+		}
+		return false;
+	}
+	
+	
+	private void checkOpen()
+	{
+		if(root == null)
+		{
+			throw new IllegalStateException("closed");
+		}
+	}
+	
+	
+	/** returns the key of the current entry */
+	public SKey getKey()
+	{
+		if(!current)
+		{
+			throw new IllegalStateException("no current entry");
+		}
+		return leaf.keyAt(index);
+	}
+	
+	
+	/** returns the value of the current entry */
+	public DataHolder<R> getValue()
+	{
+		if(!current)
+		{
+			throw new IllegalStateException("no current entry");
+		}
+		return leaf.valueAt(index);
+	}
+	
+	
+	/** pins the version of the tree being iterated over, the pin is released by close() */
+	public void setPin(Closeable p)
+	{
+		pin = p;
+	}
+	
+	
+	/** releases the snapshot */
+	public void close()
+	{
+		CKit.close(pin);
+		pin = null;
+		root = null;
+		leaf = null;
+		path.clear();
+		indexes.clear();
+		current = false;
+		done = true;
+	}
+}
@@ -0,0 +1,234 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.secdb.IRef;
+import goryachev.secdb.IStore;
+import goryachev.secdb.util.ByteArrayIStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Value Log.
+ *
+ * Packs the medium-sized values written by a commit into shared blocks, so each value does not incur
+ * the cost of a separate block (the key derivation, the authentication tag, and the write itself).
+ * The leaf nodes reference a packed value by its block, offset, and length (see DataHolder.PackedHolder).
+ *
+ * Reading a packed value loads and decrypts the whole block, which is then kept in a cache
+ * bounded by the total size of the cached blocks.  The blocks which hold few live values
+ * can be rewritten with DBEngine.repackValues().
+ *
+ * Disabled by default.
+ */
+public class ValueLog<R extends IRef>
+{
+	public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+	public static final long DEFAULT_CACHE_CAPACITY = CKit.mebi(4);
+	private final IStore<R> store;
+	private final LinkedHashMap<R,byte[]> blocks = new LinkedHashMap<>(64, 0.75f, true);
+	/** the largest value which is packed, or 0 when disabled */
+	private volatile int maxValueSize;
+	private volatile int blockSize = DEFAULT_BLOCK_SIZE;
+	private long capacity = DEFAULT_CACHE_CAPACITY;
+	private long size;
+	private long hits;
+	private long misses;
+
+
+	public ValueLog(IStore<R> store)
+	{
+		this.store = store;
+	}
+
+
+	/**
+	 * enables packing of the values up to the specified size into blocks of the specified target size.
+	 * the values shorter than the inline limit are still stored in the leaf nodes (see DBEngine.setInlineLimit()).
+	 * zero maxValueSize disables packing, the values already packed remain readable.
+	 */
+	public void setLimits(int maxValueSize, int blockSize)
+	{
+		if(blockSize < 1)
+		{
+			throw new IllegalArgumentException("block size must be positive: " + blockSize);
+		}
+		else if(maxValueSize < 0)
+		{
+			throw new IllegalArgumentException("negative value size: " + maxValueSize);
+		}
+		else if(maxValueSize > blockSize)
+		{
+			throw new IllegalArgumentException("value size " + maxValueSize + " exceeds block size " + blockSize);
+		}
+
+		this.maxValueSize = maxValueSize;
+		this.blockSize = blockSize;
+	}
+
+
+	public int getMaxValueSize()
+	{
+		return maxValueSize;
+	}
+
+
+	public int getBlockSize()
+	{
+		return blockSize;
+	}
+
+
+	/** returns true if a value of the specified length is to be packed */
+	public boolean accepts(long length)
+	{
+		return length <= maxValueSize;
+	}
+
+
+	/**
+	 * writes the values into as few blocks as possible, in the order given.
+	 * each holder is then bound to its block and offset.  called at commit, before the tree is stored.
+	 */
+	public void pack(CList<DataHolder.PackedHolder<R>> values) throws Exception
+	{
+		int sz = values.size();
+		int start = 0;
+		while(start < sz)
+		{
+			int end = start;
+			int len = 0;
+			while(end < sz)
+			{
+				int n = values.get(end).getLength();
+				if((end > start) && ((len + n) > blockSize))
+				{
+					break;
+				}
+				len += n;
+				end++;
+			}
+
+			byte[] b = new byte[len];
+			int off = 0;
+			for(int i=start; i<end; i++)
+			{
+				byte[] v = values.get(i).getBytes();
+				System.arraycopy(v, 0, b, off, v.length);
+				off += v.length;
+			}
+
+			R ref = store.store(new ByteArrayIStream(b), false);
+
+			off = 0;
+			for(int i=start; i<end; i++)
+			{
+				DataHolder.PackedHolder<R> h = values.get(i);
+				h.setStored(ref, off);
+				off += h.getLength();
+			}
+
+			// the values just written are likely to be read soon
+			put(ref, b);
+			start = end;
+		}
+	}
+
+
+	/** returns a copy of the packed value */
+	public byte[] read(R block, int offset, int length) throws Exception
+	{
+		byte[] b;
+		synchronized(this)
+		{
+			b = blocks.get(block);
+			if(b == null)
+			{
+				misses++;
+			}
+			else
+			{
+				hits++;
+			}
+		}
+
+		if(b == null)
+		{
+			// two threads might load the same block, which is harmless
+			b = store.load(block).readBytes(Integer.MAX_VALUE);
+			put(block, b);
+		}
+
+		if((offset + length) > b.length)
+		{
+			throw new Exception("value out of block bounds: offset=" + offset + " length=" + length + " block=" + block);
+		}
+		return Arrays.copyOfRange(b, offset, offset + length);
+	}
+
+
+	private synchronized void put(R ref, byte[] b)
+	{
+		if(b.length > capacity)
+		{
+			return;
+		}
+
+		byte[] prev = blocks.put(ref, b);
+		if(prev != null)
+		{
+			size -= prev.length;
+		}
+		size += b.length;
+
+		evict();
+	}
+
+
+	private void evict()
+	{
+		if(size > capacity)
+		{
+			Iterator<Map.Entry<R,byte[]>> it = blocks.entrySet().iterator();
+			while(it.hasNext() && (size > capacity))
+			{
+				size -= it.next().getValue().length;
+				it.remove();
+			}
+		}
+	}
+
+
+	/** sets the capacity of the block cache, in bytes.  zero capacity disables the cache */
+	public synchronized void setCacheCapacity(long bytes)
+	{
+		if(bytes < 0)
+		{
+			throw new IllegalArgumentException("negative capacity: " + bytes);
+		}
+
+		capacity = bytes;
+		evict();
+	}
+
+
+	public synchronized long getCacheCapacity()
+	{
+		return capacity;
+	}
+
+
+	public synchronized long getHitCount()
+	{
+		return hits;
+	}
+
+
+	public synchronized long getMissCount()
+	{
+		return misses;
+	}
+}
@@ -0,0 +1,178 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.internal;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IRef;
+import goryachev.secdb.QueryClient;
+import goryachev.secdb.ValuePrefetch;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+
+
+/**
+ * Value Prefetch Pipeline.
+ *
+ * Sits between a range query and its client.  The stored (out-of-line) values of the results
+ * are read and decrypted in the pool threads while the tree walk continues, and delivered
+ * to the client in the original order as in-memory values.  At most 'count' results are held
+ * ahead of the client, with the total size of the values being read within 'maxBytes'.
+ *
+ * The query must be followed by finish(), which delivers the remaining results,
+ * and by cancel() in a finally block.
+ */
+public class ValuePrefetcher<R extends IRef>
+	implements QueryClient<SKey,DataHolder<R>>
+{
+	private final QueryClient<SKey,DataHolder<R>> client;
+	private final int count;
+	private final long maxBytes;
+	private final ForkJoinPool pool;
+	private final ArrayDeque<Pending<R>> queue = new ArrayDeque<>();
+	private long bytes;
+	private boolean stopped;
+
+
+	public ValuePrefetcher(ValuePrefetch p, ForkJoinPool pool, QueryClient<SKey,DataHolder<R>> client)
+	{
+		this.client = client;
+		this.count = p.count;
+		this.maxBytes = p.maxBytes;
+		this.pool = pool;
+	}
+
+
+	public boolean acceptQueryResult(SKey key, DataHolder<R> h) throws Exception
+	{
+		Pending<R> p;
+		if(h.isRef())
+		{
+			long len = h.getStoredValue().getLength();
+			if(len > maxBytes)
+			{
+				// does not fit into the budget
+				p = new Pending<>(key, h, null, 0);
+			}
+			else
+			{
+				while((bytes + len > maxBytes) && !queue.isEmpty())
+				{
+					if(!deliver())
+					{
+						return false;
+					}
+				}
+
+				// FutureTask reports the original exception
+				FutureTask<DataHolder<R>> f = new FutureTask<>(() ->
+				{
+					byte[] b = h.getStoredValue().readBytes(Integer.MAX_VALUE);
+					return new DataHolder.ValueHolder<R>(h.getIStore(), b);
+				});
+				pool.execute(f);
+				p = new Pending<>(key, h, f, len);
+				bytes += len;
+			}
+		}
+		else
+		{
+			p = new Pending<>(key, h, null, 0);
+		}
+
+		queue.add(p);
+
+		while(queue.size() > count)
+		{
+			if(!deliver())
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/** delivers the head of the queue, waiting for its value if necessary */
+	private boolean deliver() throws Exception
+	{
+		Pending<R> p = queue.removeFirst();
+		bytes -= p.length;
+
+		DataHolder<R> h = p.getValue();
+		if(!client.acceptQueryResult(p.key, h))
+		{
+			stopped = true;
+			return false;
+		}
+		return true;
+	}
+
+
+	/** delivers the remaining results after the tree walk has completed */
+	public void finish() throws Exception
+	{
+		while(!stopped && !queue.isEmpty())
+		{
+			deliver();
+		}
+	}
+
+
+	/** abandons the results which have not been delivered */
+	public void cancel()
+	{
+		for(Pending<R> p: queue)
+		{
+			if(p.future != null)
+			{
+				p.future.cancel(false);
+			}
+		}
+		queue.clear();
+		bytes = 0;
+	}
+
+
+	//
+
+
+	protected static class Pending<R extends IRef>
+	{
+		public final SKey key;
+		public final DataHolder<R> holder;
+		public final FutureTask<DataHolder<R>> future;
+		public final long length;
+
+
+		public Pending(SKey key, DataHolder<R> holder, FutureTask<DataHolder<R>> future, long length)
+		{
+			this.key = key;
+			this.holder = holder;
+			this.future = future;
+			this.length = length;
+		}
+
+
+		public DataHolder<R> getValue() throws Exception
+		{
+			if(future == null)
+			{
+				return holder;
+			}
+
+			try
+			{
+				return future.get();
+			}
+			catch(ExecutionException e)
+			{
+				Throwable err = e.getCause();
+				if(err instanceof Exception)
+				{
+					throw (Exception)err;
+				}
+				throw e;
+			}
+		}
+	}
+}
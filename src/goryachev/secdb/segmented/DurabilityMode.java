@@ -0,0 +1,22 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+
+
+/**
+ * SecDB Durability Modes.
+ */
+public enum DurabilityMode
+{
+	/** the data is never forced to the storage device, a power failure may lose recent commits */
+	NONE,
+	
+	/** each commit (a batch of the transactions queued at the time) forces the segment data, then the HEAD record */
+	PER_COMMIT,
+	
+	/** 
+	 * transactions are batched: the commit pipeline waits briefly for more transactions,
+	 * and a single force covers the segment data and the HEAD record of the whole batch
+	 * (see SecDB.setGroupCommitLimits())
+	 */
+	GROUP
+}
@@ -0,0 +1,80 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IStored;
+import goryachev.secdb.internal.TreeCursor;
+import java.io.Closeable;
+
+
+/**
+ * Pull-based cursor over a snapshot of the database.
+ * 
+ * The cursor sees the database as it was when the cursor was created, regardless of the transactions 
+ * committed afterwards.  The continuation token allows to resume the iteration later, 
+ * possibly by a different cursor instance.
+ */
+public class SecCursor
+	implements Closeable
+{
+	private final TreeCursor<Ref> cursor;
+	
+	
+	protected SecCursor(TreeCursor<Ref> c)
+	{
+		this.cursor = c;
+	}
+	
+	
+	public boolean isForward()
+	{
+		return cursor.isForward();
+	}
+	
+	
+	/** advances to the next entry.  returns false when no more entries are available */
+	public boolean next() throws Exception
+	{
+		return cursor.next();
+	}
+	
+	
+	/** positions the cursor so that the next call to next() returns the first entry at or after the key */
+	public void seek(SKey key) throws Exception
+	{
+		cursor.seek(key);
+	}
+	
+	
+	/** skips up to the specified number of entries, returns the number of entries skipped */
+	public int skip(int count) throws Exception
+	{
+		return cursor.skip(count);
+	}
+	
+	
+	/** returns the key of the current entry */
+	public SKey getKey()
+	{
+		return cursor.getKey();
+	}
+	
+	
+	/** returns the value of the current entry */
+	public IStored getValue()
+	{
+		return cursor.getValue().getStoredValue();
+	}
+	
+	
+	/** returns an opaque token which allows to resume the iteration after the current entry */
+	public String getToken() throws Exception
+	{
+		return cursor.getToken();
+	}
+	
+	
+	public void close()
+	{
+		cursor.close();
+	}
+}
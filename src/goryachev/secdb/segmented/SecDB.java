@@ -1,177 +1,511 @@
-// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb.segmented;
-import goryachev.common.util.SKey;
-import goryachev.secdb.DBEngine;
-import goryachev.secdb.IStored;
-import goryachev.secdb.IStream;
-import goryachev.secdb.QueryClient;
-import goryachev.secdb.internal.DataHolder;
-import java.io.Closeable;
-import java.io.File;
-import java.io.IOException;
-import java.util.Collection;
-
-
-/**
- * Secure Key-Value Database with range and prefix queries.
- */
-public class SecDB
-	implements Closeable
-{
-	protected final SecStore store;
-	protected final DBEngine<Ref> engine;
-	
-	
-	private SecDB(SecStore s)
-	{
-		store = s;
-		engine = new DBEngine(store);
-	}
-	
-	
-	/** checks the directory for database files, returns true if all required files are present. */
-	public static boolean isPresent(File dir)
-	{
-		return SecStore.isPresent(dir);
-	}
-	
-	
-	public static void create(File dir, IEncHelper encHelper) throws Exception
-	{
-		SecStore.create(dir, encHelper);
-	}
-	
-	
-	public static SecDB open(File dir, IEncHelper encHelper) throws Exception, SecException
-	{
-		SecStore st = SecStore.open(dir, encHelper);
-		return new SecDB(st);
-	}
-	
-	
-	public void close() throws IOException
-	{
-		store.close();
-	}
-	
-	
-	public void execute(Transaction tx) throws Exception
-	{
-		engine.execute(tx);
-	}
-	
-	
-	/** executes a Transaction which inserts a single value */
-	public void store(SKey key, IStream in) throws Exception
-	{
-		execute(new Transaction()
-		{
-			protected void body() throws Exception
-			{
-				insert(key, in);
-			}
-		});
-	}
-	
-	
-	public void remove(SKey key) throws Exception
-	{
-		execute(new Transaction()
-		{
-			protected void body() throws Exception
-			{
-				remove(key);
-			}
-		});
-	}
-	
-	
-	public void remove(Collection<SKey> keys) throws Exception
-	{
-		execute(new Transaction()
-		{
-			protected void body() throws Exception
-			{
-				for(SKey k: keys)
-				{
-					remove(k);
-				}
-			}
-		});
-	}
-	
-	
-	public IStored load(SKey key) throws Exception
-	{
-		DataHolder<Ref> ref = engine.getValue(key);
-		return ref == null ? null : ref.getStoredValue();
-	}
-	
-	
-	/** range query.  'start' may be less than, greater than, or equal to 'end'. */
-	public void rangeQuery(SKey start, boolean includeStart, SKey end, boolean includeEnd, QueryClient<SKey,IStored> client) throws Exception
-	{
-		engine.rangeQuery(start, includeStart, end, includeEnd, new QueryClient<SKey,DataHolder<Ref>>()
-		{
-			public boolean acceptQueryResult(SKey key, DataHolder<Ref> h) throws Exception
-			{
-				IStored v = h.getStoredValue();
-				return client.acceptQueryResult(key, v);
-			}
-		});
-	}
-	
-	
-	/** prefix query */
-	public void prefixQuery(SKey prefix, QueryClient<SKey,IStored> client) throws Exception
-	{
-		engine.prefixQuery(prefix, new QueryClient<SKey,DataHolder<Ref>>()
-		{
-			public boolean acceptQueryResult(SKey key, DataHolder<Ref> h) throws Exception
-			{
-				IStored v = h.getStoredValue();
-				return client.acceptQueryResult(key, v);
-			}
-		});
-	}
-	
-	
-	/** reverse prefix query */
-	public void prefixQueryReverse(SKey prefix, QueryClient<SKey,IStored> client) throws Exception
-	{
-		engine.prefixReverseQuery(prefix, new QueryClient<SKey,DataHolder<Ref>>()
-		{
-			public boolean acceptQueryResult(SKey key, DataHolder<Ref> h) throws Exception
-			{
-				IStored v = h.getStoredValue();
-				return client.acceptQueryResult(key, v);
-			}
-		});
-	}
-
-
-	public void dump()
-	{
-		try
-		{
-			engine.dump(System.err, " ");
-		}
-		catch(Throwable e)
-		{
-			e.printStackTrace();
-		}
-	}
-	
-	
-	public void dumpKeys()
-	{
-		try
-		{
-			engine.dumpKeys(System.err, " ");
-		}
-		catch(Throwable e)
-		{
-			e.printStackTrace();
-		}
-	}
-}
+// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import goryachev.secdb.DBEngine;
+import goryachev.secdb.IStored;
+import goryachev.secdb.IStream;
+import goryachev.secdb.QueryClient;
+import goryachev.secdb.QueryMapper;
+import goryachev.secdb.ValuePrefetch;
+import goryachev.secdb.internal.NodeCache;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Secure Key-Value Database with range and prefix queries.
+ */
+public class SecDB
+	implements Closeable
+{
+	/** the names of the settings recorded in the log */
+	protected static final String SETTING_PAGE_SIZE = "pageSize";
+	protected static final String SETTING_INLINE_LIMIT = "inlineLimit";
+	protected final SecStore store;
+	protected final DBEngine<Ref> engine;
+	private SegmentCompactor compactor;
+	
+	
+	private SecDB(SecStore s)
+	{
+		store = s;
+		engine = new DBEngine(store);
+		
+		// the settings recorded by the previous sessions
+		int pageSize = store.getSetting(SETTING_PAGE_SIZE, -1);
+		if(pageSize > 0)
+		{
+			engine.setPageSize(pageSize);
+		}
+		
+		int inlineLimit = store.getSetting(SETTING_INLINE_LIMIT, -1);
+		if(inlineLimit >= 0)
+		{
+			engine.setInlineLimit(inlineLimit);
+		}
+	}
+	
+	
+	/** checks the directory for database files, returns true if all required files are present. */
+	public static boolean isPresent(File dir)
+	{
+		return SecStore.isPresent(dir);
+	}
+	
+	
+	public static void create(File dir, IEncHelper encHelper) throws Exception
+	{
+		SecStore.create(dir, encHelper);
+	}
+	
+	
+	public static SecDB open(File dir, IEncHelper encHelper) throws Exception, SecException
+	{
+		SecStore st = SecStore.open(dir, encHelper);
+		return new SecDB(st);
+	}
+	
+	
+	public void close() throws IOException
+	{
+		SegmentCompactor c;
+		synchronized(this)
+		{
+			c = compactor;
+		}
+		
+		try
+		{
+			if(c != null)
+			{
+				c.stop();
+			}
+			
+			// commit the queued transactions
+			engine.close();
+		}
+		catch(InterruptedException e)
+		{
+			throw new IOException(e);
+		}
+		finally
+		{
+			store.close();
+		}
+	}
+	
+	
+	/** 
+	 * sets the target size of a serialized tree node, in bytes (see DBEngine.setPageSize()).
+	 * the setting is recorded in the log, and applies after the database is reopened.
+	 */
+	public void setPageSize(int size) throws Exception
+	{
+		engine.setPageSize(size);
+		store.setSetting(SETTING_PAGE_SIZE, size);
+	}
+	
+	
+	/** 
+	 * enables packing of the medium-sized values written by a commit into shared encrypted blocks 
+	 * (see DBEngine.setValueLog()).  zero maxValueSize disables packing.
+	 */
+	public void setValueLog(int maxValueSize, int blockSize)
+	{
+		engine.setValueLog(maxValueSize, blockSize);
+	}
+	
+	
+	/** 
+	 * rewrites the packed values out of the blocks which hold fewer live bytes than the threshold ratio
+	 * (see DBEngine.repackValues()).  returns the number of blocks released.
+	 */
+	public int repackValues(double threshold) throws Exception
+	{
+		return engine.repackValues(threshold);
+	}
+	
+	
+	/** 
+	 * sets the size threshold below which the values are stored in the leaf nodes (see DBEngine.setInlineLimit()).
+	 * the setting is recorded in the log, and applies after the database is reopened.
+	 */
+	public void setInlineLimit(int bytes) throws Exception
+	{
+		engine.setInlineLimit(bytes);
+		store.setSetting(SETTING_INLINE_LIMIT, bytes);
+	}
+	
+	
+	/** sets the capacity of the decoded tree node cache, in bytes.  zero capacity disables the cache */
+	public void setNodeCacheCapacity(long bytes)
+	{
+		engine.getNodeCache().setCapacity(bytes);
+	}
+	
+	
+	/** sets the maximum number of tree nodes loaded in the background ahead of a range scan (see DBEngine.setReadAhead()) */
+	public void setReadAhead(int count)
+	{
+		engine.setReadAhead(count);
+	}
+	
+	
+	/** 
+	 * returns the compactor which reclaims the space occupied by the data no longer reachable 
+	 * from the current version (see SegmentCompactor).  the compactor is stopped when the database is closed.
+	 */
+	public synchronized SegmentCompactor getCompactor()
+	{
+		if(compactor == null)
+		{
+			compactor = new SegmentCompactor(store, engine);
+		}
+		return compactor;
+	}
+
+
+	/** 
+	 * returns the length and the number of unreachable bytes of each segment, without reading the data.
+	 * the subtrees dropped by the range removals are counted once read by the compactor (see SegmentCompactor).
+	 */
+	public SpaceStats getSpaceStats()
+	{
+		return store.getSpaceStats();
+	}
+
+
+	/** sets the size limits of the segments which receive the tree nodes and the values (see SecStore.setSegmentSizes()) */
+	public void setSegmentSizes(long treeBytes, long valueBytes)
+	{
+		store.setSegmentSizes(treeBytes, valueBytes);
+	}
+
+
+	/** enables reading full segments via read-only memory mapping (see SecStore.setMemoryMapping()) */
+	public void setMemoryMapping(boolean on)
+	{
+		store.setMemoryMapping(on);
+	}
+	
+	
+	/** sets the durability mode (see DurabilityMode).  the default mode is NONE */
+	public void setDurability(DurabilityMode mode) throws Exception
+	{
+		store.setDurability(mode);
+	}
+	
+	
+	/** 
+	 * sets the maximum number of transactions in a batch, and the maximum time the commit pipeline
+	 * waits for the batch to fill up in GROUP durability mode
+	 */
+	public void setGroupCommitLimits(int maxCommits, long maxDelayMillis)
+	{
+		store.setGroupCommitLimits(maxCommits, maxDelayMillis);
+	}
+	
+	
+	/** returns the decoded tree node cache, which also provides the hit and miss counters */
+	public NodeCache<Ref> getNodeCache()
+	{
+		return engine.getNodeCache();
+	}
+	
+	
+	/** executes the transaction, blocking until it is committed according to the durability mode */
+	public void execute(Transaction tx) throws Exception
+	{
+		engine.execute(tx);
+	}
+	
+	
+	/** 
+	 * queues the transaction for execution by the commit pipeline.
+	 * the future completes after the batch containing the transaction has been committed 
+	 * according to the durability mode.
+	 */
+	public CompletableFuture<Void> submit(Transaction tx)
+	{
+		return engine.submit(tx);
+	}
+	
+	
+	/** 
+	 * loads a large number of entries in one transaction, replacing the existing entries with the same key.
+	 * the fastest way to import data is to supply the entries in ascending key order (see DBEngine.bulkLoad()).
+	 */
+	public void bulkLoad(Iterator<? extends Map.Entry<SKey,IStream>> entries) throws Exception
+	{
+		engine.bulkLoad(entries);
+	}
+	
+	
+	/** executes a Transaction which inserts a single value */
+	public void store(SKey key, IStream in) throws Exception
+	{
+		execute(new Transaction()
+		{
+			protected void body() throws Exception
+			{
+				insert(key, in);
+			}
+		});
+	}
+	
+	
+	public void remove(SKey key) throws Exception
+	{
+		execute(new Transaction()
+		{
+			protected void body() throws Exception
+			{
+				remove(key);
+			}
+		});
+	}
+	
+	
+	public void remove(Collection<SKey> keys) throws Exception
+	{
+		execute(new Transaction()
+		{
+			protected void body() throws Exception
+			{
+				for(SKey k: keys)
+				{
+					remove(k);
+				}
+			}
+		});
+	}
+	
+	
+	/** 
+	 * removes the entries with keys in the range [start, end), either bound might be null (unbounded).
+	 * much faster than removing the keys one by one (see DBTransaction.removeRange()).
+	 */
+	public void removeRange(SKey start, SKey end) throws Exception
+	{
+		execute(new Transaction()
+		{
+			protected void body() throws Exception
+			{
+				removeRange(start, end);
+			}
+		});
+	}
+	
+	
+	/** removes all the entries where the key "starts with" the given prefix */
+	public void removePrefix(SKey prefix) throws Exception
+	{
+		execute(new Transaction()
+		{
+			protected void body() throws Exception
+			{
+				removePrefix(prefix);
+			}
+		});
+	}
+	
+	
+	/** 
+	 * returns a read-only view of the current version of the database.
+	 * use the snapshot to make several reads which must see the same version.
+	 */
+	public SecSnapshot openSnapshot() throws Exception
+	{
+		return new SecSnapshot(engine.openSnapshot());
+	}
+	
+	
+	/** 
+	 * loads the value, or returns null if the key is not found.
+	 * the value keeps the current version from being reclaimed by the compactor for as long as it is reachable.
+	 */
+	public IStored load(SKey key) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			return s.pinned(s.load(key));
+		}
+	}
+	
+	
+	/** 
+	 * loads the values for the specified keys, returning them in the same order, with nulls for the keys not found.
+	 * the values keep the current version from being reclaimed by the compactor for as long as any of them is reachable.
+	 */
+	public CList<IStored> loadAll(Collection<SKey> keys) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			return s.pinned(s.loadAll(keys));
+		}
+	}
+	
+	
+	/** range query.  'start' may be less than, greater than, or equal to 'end'. */
+	public void rangeQuery(SKey start, boolean includeStart, SKey end, boolean includeEnd, QueryClient<SKey,IStored> client) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			s.rangeQuery(start, includeStart, end, includeEnd, client);
+		}
+	}
+	
+	
+	/** prefix query */
+	public void prefixQuery(SKey prefix, QueryClient<SKey,IStored> client) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			s.prefixQuery(prefix, client);
+		}
+	}
+	
+	
+	/** reverse prefix query */
+	public void prefixQueryReverse(SKey prefix, QueryClient<SKey,IStored> client) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			s.prefixQueryReverse(prefix, client);
+		}
+	}
+	
+	
+	/** range query which reads and decrypts the values ahead of the client in parallel (see ValuePrefetch) */
+	public void rangeQuery(SKey start, boolean includeStart, SKey end, boolean includeEnd, ValuePrefetch prefetch, QueryClient<SKey,IStored> client) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			s.rangeQuery(start, includeStart, end, includeEnd, prefetch, client);
+		}
+	}
+	
+	
+	/** prefix query with value prefetch (see ValuePrefetch) */
+	public void prefixQuery(SKey prefix, ValuePrefetch prefetch, QueryClient<SKey,IStored> client) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			s.prefixQuery(prefix, prefetch, client);
+		}
+	}
+	
+	
+	/** reverse prefix query with value prefetch (see ValuePrefetch) */
+	public void prefixQueryReverse(SKey prefix, ValuePrefetch prefetch, QueryClient<SKey,IStored> client) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			s.prefixQueryReverse(prefix, prefetch, client);
+		}
+	}
+
+
+
+	/** scans the range [start, end) in parallel, delivering the entries in no particular order (see SecSnapshot) */
+	public void parallelQuery(SKey start, SKey end, QueryClient<SKey,IStored> client) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			s.parallelQuery(start, end, client);
+		}
+	}
+	
+	
+	/** scans the range [start, end) in parallel, delivering the mapped values in key order (see SecSnapshot) */
+	public <T> void parallelQuery(SKey start, SKey end, QueryMapper<SKey,IStored,T> mapper, QueryClient<SKey,T> client) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			s.parallelQuery(start, end, mapper, client);
+		}
+	}
+
+
+	/** returns the number of entries with keys in the range [start, end), either of which might be null (unbounded) */
+	public long count(SKey start, SKey end) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			return s.count(start, end);
+		}
+	}
+
+
+	/** returns the number of entries with keys less than the specified key */
+	public long rank(SKey key) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			return s.rank(key);
+		}
+	}
+
+
+	/** returns the key at the specified offset in ascending key order, or null if the offset is out of range */
+	public SKey keyAt(long offset) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			return s.keyAt(offset);
+		}
+	}
+
+
+	/**
+	 * creates a cursor over the current snapshot of the database.
+	 * the range includes the start key and excludes the end key, either of which might be null (unbounded).
+	 * when iterating backward, start is expected to be greater than end.
+	 */
+	public SecCursor cursor(SKey start, SKey end, boolean forward) throws Exception
+	{
+		try(SecSnapshot s = openSnapshot())
+		{
+			return s.cursor(start, end, forward);
+		}
+	}
+
+
+	/** resumes the iteration using the continuation token obtained from SecCursor.getToken() */
+	public SecCursor cursor(String token) throws Exception
+	{
+		return new SecCursor(engine.cursor(token));
+	}
+
+
+	public void dump()
+	{
+		try
+		{
+			engine.dump(System.err, " ");
+		}
+		catch(Throwable e)
+		{
+			e.printStackTrace();
+		}
+	}
+	
+	
+	public void dumpKeys()
+	{
+		try
+		{
+			engine.dumpKeys(System.err, " ");
+		}
+		catch(Throwable e)
+		{
+			e.printStackTrace();
+		}
+	}
+}
@@ -0,0 +1,300 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import goryachev.secdb.DBSnapshot;
+import goryachev.secdb.IStored;
+import goryachev.secdb.IStream;
+import goryachev.secdb.QueryClient;
+import goryachev.secdb.QueryMapper;
+import goryachev.secdb.ValuePrefetch;
+import goryachev.secdb.internal.DataHolder;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.util.Collection;
+
+
+/**
+ * Read-only view of the database at the time the snapshot was taken.
+ * 
+ * All the reads made through the snapshot see the same version of the database,
+ * regardless of the transactions committed afterwards.  The snapshot is thread safe.
+ * 
+ * An open snapshot keeps the segments it reads from being deleted by the compactor,
+ * so it should be closed when no longer needed.
+ */
+public class SecSnapshot
+	implements Closeable
+{
+	private final DBSnapshot<Ref> snapshot;
+	
+	
+	protected SecSnapshot(DBSnapshot<Ref> s)
+	{
+		this.snapshot = s;
+	}
+	
+	
+	/** releases the snapshot.  the values loaded from the snapshot should be read before it is closed */
+	public void close()
+	{
+		snapshot.close();
+	}
+	
+	
+	public IStored load(SKey key) throws Exception
+	{
+		DataHolder<Ref> ref = snapshot.getValue(key);
+		return ref == null ? null : ref.getStoredValue();
+	}
+	
+	
+	/** 
+	 * loads the values for the specified keys, returning them in the same order, with nulls for the keys not found.
+	 * much faster than loading the keys one by one, since each tree node is visited at most once.
+	 */
+	public CList<IStored> loadAll(Collection<SKey> keys) throws Exception
+	{
+		CList<DataHolder<Ref>> hs = snapshot.getValues(new CList<>(keys));
+		CList<IStored> rv = new CList<>(hs.size());
+		for(DataHolder<Ref> h: hs)
+		{
+			rv.add(h == null ? null : h.getStoredValue());
+		}
+		return rv;
+	}
+	
+	
+	public boolean containsKey(SKey key) throws Exception
+	{
+		return snapshot.containsKey(key);
+	}
+	
+	
+	/** range query.  'start' may be less than, greater than, or equal to 'end'. */
+	public void rangeQuery(SKey start, boolean includeStart, SKey end, boolean includeEnd, QueryClient<SKey,IStored> client) throws Exception
+	{
+		snapshot.rangeQuery(start, includeStart, end, includeEnd, adapter(client));
+	}
+	
+	
+	/** prefix query */
+	public void prefixQuery(SKey prefix, QueryClient<SKey,IStored> client) throws Exception
+	{
+		snapshot.prefixQuery(prefix, adapter(client));
+	}
+	
+	
+	/** reverse prefix query */
+	public void prefixQueryReverse(SKey prefix, QueryClient<SKey,IStored> client) throws Exception
+	{
+		snapshot.prefixReverseQuery(prefix, adapter(client));
+	}
+
+	
+	
+	/** 
+	 * range query which reads and decrypts the values of the results ahead of the client in parallel.
+	 * the client receives the values already in memory (see ValuePrefetch).
+	 */
+	public void rangeQuery(SKey start, boolean includeStart, SKey end, boolean includeEnd, ValuePrefetch prefetch, QueryClient<SKey,IStored> client) throws Exception
+	{
+		snapshot.rangeQuery(start, includeStart, end, includeEnd, prefetch, adapter(client));
+	}
+	
+	
+	/** prefix query with value prefetch (see ValuePrefetch) */
+	public void prefixQuery(SKey prefix, ValuePrefetch prefetch, QueryClient<SKey,IStored> client) throws Exception
+	{
+		snapshot.prefixQuery(prefix, prefetch, adapter(client));
+	}
+	
+	
+	/** reverse prefix query with value prefetch (see ValuePrefetch) */
+	public void prefixQueryReverse(SKey prefix, ValuePrefetch prefetch, QueryClient<SKey,IStored> client) throws Exception
+	{
+		snapshot.prefixReverseQuery(prefix, prefetch, adapter(client));
+	}
+
+
+	/**
+	 * scans the range [start, end) using several threads, either bound might be null (unbounded).
+	 * the entries are delivered in no particular order, from several threads at once, 
+	 * so the client must be thread safe.  reading the values in the client decrypts them in parallel.
+	 */
+	public void parallelQuery(SKey start, SKey end, QueryClient<SKey,IStored> client) throws Exception
+	{
+		snapshot.parallelQuery(start, end, adapter(client));
+	}
+	
+	
+	/**
+	 * scans the range [start, end) using several threads, either bound might be null (unbounded).
+	 * the values are converted by the mapper in parallel (for example, read and decrypted), 
+	 * the results are delivered to the client in key order, in the calling thread.
+	 */
+	public <T> void parallelQuery(SKey start, SKey end, QueryMapper<SKey,IStored,T> mapper, QueryClient<SKey,T> client) throws Exception
+	{
+		snapshot.parallelQuery(start, end, (k, h) -> mapper.map(k, h.getStoredValue()), client);
+	}
+
+
+	/** returns the number of entries with keys in the range [start, end), either of which might be null (unbounded) */
+	public long count(SKey start, SKey end) throws Exception
+	{
+		return snapshot.count(start, end);
+	}
+
+
+	/** returns the number of entries with keys less than the specified key */
+	public long rank(SKey key) throws Exception
+	{
+		return snapshot.rank(key);
+	}
+
+
+	/** returns the key at the specified offset in ascending key order, or null if the offset is out of range */
+	public SKey keyAt(long offset) throws Exception
+	{
+		return snapshot.keyAt(offset);
+	}
+
+
+	/**
+	 * creates a cursor over this snapshot.
+	 * the range includes the start key and excludes the end key, either of which might be null (unbounded).
+	 * when iterating backward, start is expected to be greater than end.
+	 */
+	public SecCursor cursor(SKey start, SKey end, boolean forward) throws Exception
+	{
+		return new SecCursor(snapshot.cursor(start, end, forward));
+	}
+	
+	
+	/** 
+	 * returns the value which keeps this version pinned for as long as the value, or a stream obtained from it,
+	 * is reachable.  such a value can be read after the snapshot has been closed.
+	 */
+	protected IStored pinned(IStored v)
+	{
+		return (v == null) ? null : new PinnedValue(v, snapshot.pin());
+	}
+	
+	
+	/** returns the values which keep this version pinned, sharing one pin (see pinned()) */
+	protected CList<IStored> pinned(CList<IStored> vs)
+	{
+		Closeable pin = snapshot.pin();
+		CList<IStored> rv = new CList<>(vs.size());
+		for(IStored v: vs)
+		{
+			rv.add(v == null ? null : new PinnedValue(v, pin));
+		}
+		return rv;
+	}
+	
+	
+	private static QueryClient<SKey,DataHolder<Ref>> adapter(QueryClient<SKey,IStored> client)
+	{
+		return new QueryClient<SKey,DataHolder<Ref>>()
+		{
+			public boolean acceptQueryResult(SKey key, DataHolder<Ref> h) throws Exception
+			{
+				IStored v = h.getStoredValue();
+				return client.acceptQueryResult(key, v);
+			}
+		};
+	}
+	
+	
+	//
+	
+	
+	/** the value which holds a pin of the version it has been loaded from (see SnapshotTracker) */
+	protected static class PinnedValue
+		implements IStored
+	{
+		private final IStored value;
+		private final Closeable pin;
+		
+		
+		public PinnedValue(IStored value, Closeable pin)
+		{
+			this.value = value;
+			this.pin = pin;
+		}
+		
+		
+		public long getLength()
+		{
+			return value.getLength();
+		}
+		
+		
+		public IStream getIStream() throws Exception
+		{
+			IStream is = value.getIStream();
+			Closeable p = pin;
+			return new IStream()
+			{
+				public InputStream getStream()
+				{
+					return new PinnedInputStream(is.getStream(), p);
+				}
+				
+				
+				public long getLength()
+				{
+					return is.getLength();
+				}
+			};
+		}
+	}
+	
+	
+	//
+	
+	
+	/** keeps the pin reachable while the stream is being read */
+	protected static class PinnedInputStream
+		extends FilterInputStream
+	{
+		private final Closeable pin;
+		
+		
+		public PinnedInputStream(InputStream in, Closeable pin)
+		{
+			super(in);
+			this.pin = pin;
+		}
+		
+		
+		public int read() throws IOException
+		{
+			try
+			{
+				return super.read();
+			}
+			finally
+			{
+				Reference.reachabilityFence(pin);
+			}
+		}
+		
+		
+		public int read(byte[] b, int off, int len) throws IOException
+		{
+			try
+			{
+				return super.read(b, off, len);
+			}
+			finally
+			{
+				Reference.reachabilityFence(pin);
+			}
+		}
+	}
+}
@@ -5,9 +5,12 @@ import goryachev.common.io.DWriter;
 import goryachev.common.log.Log;
 import goryachev.common.util.CFileLock;
 import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
 import goryachev.common.util.CMap;
 import goryachev.common.util.GUID;
 import goryachev.common.util.Hex;
+import goryachev.common.util.IntHashtable;
+import goryachev.common.util.Parsers;
 import goryachev.memsafecrypto.OpaqueBytes;
 import goryachev.secdb.IStore;
 import goryachev.secdb.IStream;
@@ -20,7 +23,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -28,9 +33,11 @@ import java.util.List;
  * 
  * - stores encrypted blocks in append-only files named segments
  * - (long) data values are encrypted with a random key to enable sharing
+ * - segments are assigned compact ids (recorded in the log) which are used in serialized references
+ * - durability mode determines whether and when the data and the HEAD records are forced to disk
  */
 public class SecStore
-	implements Closeable,IStore<Ref>
+	implements Closeable,IStore<Ref>,Ref.SegmentResolver
 {
 	protected static final Log log = Log.get("SecStore");
 	protected static final String LOCK_FILE = "lock";
@@ -41,8 +48,23 @@ public class SecStore
 	private final LogFile logFile;
 	protected final IEncHelper encHelper;
 	private final CMap<String,SegmentFile> segments = new CMap();
-	private SegmentFile currentSegment;
-	private Ref root;
+	private final IntHashtable<SegmentFile> segmentsById = new IntHashtable<>();
+	private int nextSegmentId;
+	/** the segment receiving the tree nodes */
+	private volatile SegmentFile treeSegment;
+	/** the segment receiving the values */
+	private volatile SegmentFile valueSegment;
+	/** the value segment written to last, resumed after reopening */
+	private int lastValueSegmentId = -1;
+	private volatile long treeSegmentSize = Math.min(SegmentFile.TREE_SEGMENT_SIZE, SegmentFile.SEGMENT_SIZE);
+	private volatile long valueSegmentSize = SegmentFile.SEGMENT_SIZE;
+	private volatile Ref root;
+	private volatile boolean memoryMapping;
+	private volatile DurabilityMode durability = DurabilityMode.NONE;
+	private volatile int groupCommitCount = 100;
+	private volatile long groupCommitDelay = 10;
+	/** the subtrees dropped by the commits whose blocks have not been counted as dead yet, guarded by the log */
+	private final CList<Ref> droppedSubtrees;
 	
 	
 	public SecStore(File dir, CFileLock lock, LogFile logFile, IEncHelper h, Ref root)
@@ -52,6 +74,51 @@ public class SecStore
 		this.root = root;
 		this.lock = lock;
 		this.encHelper = h;
+		this.droppedSubtrees = new CList<>(logFile.getDroppedSubtrees());
+		
+		IntHashtable<String> names = logFile.getSegmentNames();
+		Enumeration<Integer> en = names.keys();
+		while(en.hasMoreElements())
+		{
+			int id = en.nextElement();
+			String name = names.get(id);
+			
+			SegmentFile sf = new SegmentFile(toSegmentFile(name), name);
+			sf.setId(id);
+			if(logFile.isValueSegment(id))
+			{
+				sf.setTree(false);
+				sf.setLimit(valueSegmentSize);
+				
+				if(id > lastValueSegmentId)
+				{
+					lastValueSegmentId = id;
+				}
+			}
+			else
+			{
+				sf.setLimit(treeSegmentSize);
+			}
+			segments.put(name, sf);
+			segmentsById.put(id, sf);
+			
+			if(id >= nextSegmentId)
+			{
+				nextSegmentId = id + 1;
+			}
+		}
+		
+		IntHashtable<Long> dead = logFile.getDeadBytes();
+		Enumeration<Integer> en2 = dead.keys();
+		while(en2.hasMoreElements())
+		{
+			int id = en2.nextElement();
+			SegmentFile sf = segmentsById.get(id);
+			if(sf != null)
+			{
+				sf.setDeadBytes(dead.get(id));
+			}
+		}
 	}
 	
 
@@ -164,16 +231,19 @@ public class SecStore
 	{
 		Throwable err = null;
 		
-		try
+		for(SegmentFile sf: new SegmentFile[] { treeSegment, valueSegment })
 		{
-			if(currentSegment != null)
+			try
 			{
-				currentSegment.closeWriter();
+				if(sf != null)
+				{
+					sf.closeWriter();
+				}
+			}
+			catch(Throwable e)
+			{
+				err = (err == null ? e : new IOException(e));
 			}
-		}
-		catch(Throwable e)
-		{
-			err = e;
 		}
 		
 		synchronized(segments)
@@ -225,6 +295,92 @@ public class SecStore
 	}
 	
 	
+	/** 
+	 * enables reading sealed (full) segments via read-only memory mapping.
+	 * the segment being written to always uses the file channel.  disabled by default.
+	 */
+	public void setMemoryMapping(boolean on)
+	{
+		memoryMapping = on;
+	}
+	
+	
+	public boolean isMemoryMapping()
+	{
+		return memoryMapping;
+	}
+	
+	
+	/** sets the durability mode.  the default mode is NONE */
+	public void setDurability(DurabilityMode mode) throws Exception
+	{
+		if(mode == null)
+		{
+			throw new IllegalArgumentException("null durability mode");
+		}
+		
+		durability = mode;
+	}
+	
+	
+	public DurabilityMode getDurability()
+	{
+		return durability;
+	}
+	
+	
+	/** 
+	 * sets the maximum number of transactions in a batch, and the maximum time the commit pipeline
+	 * waits for the batch to fill up in GROUP durability mode
+	 */
+	public void setGroupCommitLimits(int maxCommits, long maxDelayMillis)
+	{
+		if(maxCommits < 1)
+		{
+			throw new IllegalArgumentException("maxCommits must be positive: " + maxCommits);
+		}
+		
+		if(maxDelayMillis < 0)
+		{
+			throw new IllegalArgumentException("negative delay: " + maxDelayMillis);
+		}
+		
+		groupCommitCount = maxCommits;
+		groupCommitDelay = maxDelayMillis;
+	}
+	
+	
+	/** records the value of a database setting in the log, unless it has not changed */
+	public void setSetting(String name, int value) throws Exception
+	{
+		String s = String.valueOf(value);
+		if(!s.equals(logFile.getSetting(name)))
+		{
+			logFile.appendSettingEvent(name, s);
+		}
+	}
+	
+	
+	/** returns the value of a database setting recorded in the log, or the default value */
+	public int getSetting(String name, int defaultValue)
+	{
+		return Parsers.parseInt(logFile.getSetting(name), defaultValue);
+	}
+	
+	
+	/** in GROUP durability mode, the commit pipeline waits for the batch to fill up, so a single force covers it */
+	public long getCommitLinger()
+	{
+		return (durability == DurabilityMode.GROUP) ? groupCommitDelay : 0;
+	}
+	
+	
+	public int getCommitBatchSize()
+	{
+		return (durability == DurabilityMode.GROUP) ? groupCommitCount : Integer.MAX_VALUE;
+	}
+	
+	
 	public long convertLength(long len, boolean whenEncrypting)
 	{
 		return encHelper.convertLength(len, whenEncrypting);
@@ -239,11 +395,174 @@ public class SecStore
 
 	public void setRootRef(Ref ref) throws Exception
 	{
-		// TODO synchronize?
-		// TODO log HEAD
+		setRootRef(ref, null, null, null);
+	}
+
+
+	/** 
+	 * updates the root, adding the lengths of the unreachable blocks and packed values to the dead byte counts 
+	 * of their segments.  the updated counts and the dropped subtrees, whose blocks are counted later 
+	 * (see addUnreachable()), are recorded in the HEAD event.
+	 */
+	public void setRootRef(Ref ref, List<Ref> unreachable, Map<Ref,Long> unreachablePacked, List<Ref> dropped) throws Exception
+	{
+		// the data must be written before the HEAD record
+		SegmentFile tsf = treeSegment;
+		SegmentFile vsf = valueSegment;
+		if(tsf != null)
+		{
+			tsf.flush();
+		}
+		if(vsf != null)
+		{
+			vsf.flush();
+		}
+		
 		root = ref;
 		
-		logFile.appendEvent(LogEventCode.HEAD, ref);
+		switch(durability)
+		{
+		case GROUP:
+		case PER_COMMIT:
+			// in GROUP mode, each commit covers a batch of transactions (see getCommitLinger())
+			if(tsf != null)
+			{
+				tsf.sync();
+			}
+			if(vsf != null)
+			{
+				vsf.sync();
+			}
+			appendHeadEvent(ref, unreachable, unreachablePacked, dropped);
+			logFile.sync();
+			break;
+		default:
+			appendHeadEvent(ref, unreachable, unreachablePacked, dropped);
+			break;
+		}
+	}
+	
+	
+	/** 
+	 * the counts are updated and recorded while holding the log lock, 
+	 * so the events written by the commit and by addUnreachable() record them in order 
+	 */
+	private void appendHeadEvent(Ref ref, List<Ref> unreachable, Map<Ref,Long> unreachablePacked, List<Ref> dropped) throws Exception
+	{
+		synchronized(logFile)
+		{
+			String dead = (unreachable == null) ? null : addDeadBytes(unreachable, unreachablePacked);
+			logFile.appendHeadEvent(ref, dead, LogFile.formatRefs(dropped));
+			
+			if(dropped != null)
+			{
+				droppedSubtrees.addAll(dropped);
+			}
+		}
+	}
+	
+	
+	public List<Ref> getDroppedSubtrees()
+	{
+		synchronized(logFile)
+		{
+			return new CList<>(droppedSubtrees);
+		}
+	}
+	
+	
+	/** adds the blocks of a dropped subtree to the dead byte counts, recording the updated counts in the DEAD event */
+	public void addUnreachable(Ref subtree, List<Ref> unreachable, Map<Ref,Long> unreachablePacked) throws Exception
+	{
+		synchronized(logFile)
+		{
+			if(droppedSubtrees.remove(subtree))
+			{
+				String dead = addDeadBytes(unreachable, unreachablePacked);
+				logFile.appendDeadEvent(subtree, dead);
+			}
+		}
+	}
+	
+	
+	/** updates the dead byte counts, returns the new counts of the affected segments formatted for the log */
+	private String addDeadBytes(List<Ref> refs, Map<Ref,Long> packed) throws Exception
+	{
+		IntHashtable<Long> changed = new IntHashtable<>();
+		for(Ref ref: refs)
+		{
+			addDeadBytes(ref, ref.getLength(), changed);
+		}
+		
+		if(packed != null)
+		{
+			for(Map.Entry<Ref,Long> en: packed.entrySet())
+			{
+				// the share of the encryption overhead is added along with each value,
+				// so the whole block is dead once all its values are
+				Ref ref = en.getKey();
+				long stored = ref.getLength();
+				long len = convertLength(stored, false);
+				long n = (len == 0) ? stored : Math.min(stored, en.getValue() * stored / len);
+				addDeadBytes(ref, n, changed);
+			}
+		}
+		return LogFile.formatDeadBytes(changed);
+	}
+	
+	
+	/** adds the dead bytes to the segments of the block, in proportion to the length of each part */
+	private void addDeadBytes(Ref ref, long bytes, IntHashtable<Long> changed) throws Exception
+	{
+		long total = ref.getLength();
+		long[] parts = getPartLengths(ref);
+		for(int i=0; i<parts.length; i++)
+		{
+			long d = (bytes == total) ? parts[i] : (bytes * parts[i] / total);
+			SegmentFile sf = getSegmentFile(ref.getSegment(i));
+			long n = sf.getDeadBytes() + d;
+			sf.setDeadBytes(n);
+			changed.put(getSegmentId(sf.getName()), n);
+		}
+	}
+	
+	
+	/** returns the number of bytes the block occupies in each of its segments */
+	protected long[] getPartLengths(Ref ref)
+	{
+		int sz = ref.getSegmentCount();
+		long[] rv = new long[sz];
+		long remaining = ref.getLength();
+		for(int i=0; i<sz; i++)
+		{
+			long len = remaining;
+			if(i < (sz - 1))
+			{
+				// the block fills the segment up to its end
+				len = Math.min(remaining, getSegmentFile(ref.getSegment(i)).getLength() - ref.getOffset(i));
+			}
+			rv[i] = len;
+			remaining -= len;
+		}
+		return rv;
+	}
+	
+	
+	/** returns the space usage of the segments */
+	public SpaceStats getSpaceStats()
+	{
+		SegmentFile tsf = treeSegment;
+		SegmentFile vsf = valueSegment;
+		CList<SpaceStats.Segment> rv;
+		synchronized(segments)
+		{
+			rv = new CList<>(segments.size());
+			for(SegmentFile sf: segments.values())
+			{
+				rv.add(new SpaceStats.Segment(sf.getName(), sf.isTree(), sf.getLength(), sf.getDeadBytes(), (sf == tsf) || (sf == vsf)));
+			}
+		}
+		return new SpaceStats(rv);
 	}
 
 
@@ -281,21 +600,36 @@ public class SecStore
 	}
 	
 	
-	protected SegmentFile newSegmentFile()
+	protected SegmentFile newSegmentFile(boolean isTree) throws Exception
 	{
 		byte[] b = GUID.generate();
 		String name = Hex.toHexString(b, 0, SEGMENT_FILE_LENGTH/2);
 		File f = toSegmentFile(name);
 		SegmentFile sf =  new SegmentFile(f, name);
+		sf.setTree(isTree);
+		sf.setLimit(isTree ? treeSegmentSize : valueSegmentSize);
 
 		synchronized(segments)
 		{
 			segments.put(name, sf);
+			assignId(sf);
 		}
 		return sf;
 	}
 	
 	
+	/** assigns a new compact id to the segment and records it in the log.  must be called while holding the segments lock */
+	private int assignId(SegmentFile sf) throws Exception
+	{
+		int id = nextSegmentId++;
+		logFile.appendSegmentEvent(id, sf.getName(), sf.isTree());
+
+		sf.setId(id);
+		segmentsById.put(id, sf);
+		return id;
+	}
+	
+	
 	protected File toSegmentFile(String name)
 	{
 		if(name.length() != SEGMENT_FILE_LENGTH)
@@ -324,32 +658,216 @@ public class SecStore
 	}
 
 
-	protected SegmentFile segmentForLength(long length, boolean isTree) throws Exception
+	/** returns the segment file for the compact id */
+	protected SegmentFile getSegmentFile(int id) throws Exception
+	{
+		SegmentFile sf = segmentsById.get(id);
+		if(sf == null)
+		{
+			throw new SecException(SecErrorCode.MISSING_SEGMENT_FILE, "id=" + id);
+		}
+		return sf;
+	}
+	
+	
+	public int getSegmentId(String name) throws Exception
 	{
-		if(currentSegment == null)
+		SegmentFile sf = getSegmentFile(name);
+		synchronized(segments)
 		{
-			if(root == null)
+			int id = sf.getId();
+			if(id < 0)
 			{
-				currentSegment = newSegmentFile();
+				// segments written before the ids were introduced get their ids on first use
+				id = assignId(sf);
 			}
-			else
+			return id;
+		}
+	}
+	
+	
+	public String getSegmentName(int id) throws Exception
+	{
+		return getSegmentFile(id).getName();
+	}
+
+
+	/** 
+	 * returns the full segments which are not being written to.
+	 * these are the only segments which can be compacted and deleted (see SegmentCompactor).
+	 */
+	protected CList<SegmentFile> getSealedSegments()
+	{
+		SegmentFile tsf = treeSegment;
+		SegmentFile vsf = valueSegment;
+		Ref r = root;
+		String last = (r == null) ? null : r.getSegment(r.getSegmentCount() - 1);
+		
+		synchronized(segments)
+		{
+			CList<SegmentFile> rv = new CList<>(segments.size());
+			for(SegmentFile sf: segments.values())
 			{
-				String name = root.getSegment(root.getSegmentCount() - 1);
-				currentSegment = getSegmentFile(name);
-				if(currentSegment == null)
+				if((sf != tsf) && (sf != vsf) && !sf.getName().equals(last) && sf.isSealed())
 				{
-					throw new SecException(SecErrorCode.MISSING_SEGMENT_FILE, name);
+					rv.add(sf);
 				}
 			}
+			return rv;
+		}
+	}
+	
+	
+	/** 
+	 * removes the segment which contains no live data, and deletes its file.
+	 * the caller must ensure the segment is not referenced by the tree, nor by any open snapshot.
+	 */
+	protected void deleteSegment(SegmentFile sf) throws Exception
+	{
+		synchronized(segments)
+		{
+			if((sf == treeSegment) || (sf == valueSegment))
+			{
+				throw new Error("deleting current segment: " + sf.getName());
+			}
+			
+			segments.remove(sf.getName());
+			int id = sf.getId();
+			if(id >= 0)
+			{
+				segmentsById.remove(id);
+				if(id == lastValueSegmentId)
+				{
+					lastValueSegmentId = -1;
+				}
+				logFile.appendSegmentDeletedEvent(id, sf.getName());
+			}
+		}
+		
+		sf.closeReader();
+		
+		File f = toSegmentFile(sf.getName());
+		if(f.exists() && !f.delete())
+		{
+			throw new IOException("unable to delete " + f);
+		}
+		log.debug("deleted segment %s", sf.getName());
+	}
+
+
+	/** 
+	 * returns the segment to write to.  the tree nodes and the values are written to separate segments,
+	 * so the small, frequently rewritten nodes are not interleaved with the large, long-lived values.
+	 */
+	protected SegmentFile segmentForLength(long length, boolean isTree) throws Exception
+	{
+		SegmentFile sf = isTree ? treeSegment : valueSegment;
+		if(sf == null)
+		{
+			sf = resumeSegment(isTree);
+			if(sf != null)
+			{
+				sf.setLimit(isTree ? treeSegmentSize : valueSegmentSize);
+			}
 		}
 		
-		if(currentSegment.getLength() >= SegmentFile.SEGMENT_SIZE)
+		if(sf == null)
+		{
+			sf = newSegmentFile(isTree);
+		}
+		else if(sf.getLength() >= sf.getLimit())
 		{
-			currentSegment.closeWriter();
-			currentSegment = newSegmentFile();
+			closeSegment(sf);
+			sf = newSegmentFile(isTree);
 		}
 		
-		return currentSegment;
+		if(isTree)
+		{
+			treeSegment = sf;
+		}
+		else
+		{
+			valueSegment = sf;
+		}
+		return sf;
+	}
+	
+	
+	/** returns the segment written to last before the database has been opened, or null */
+	private SegmentFile resumeSegment(boolean isTree) throws Exception
+	{
+		if(isTree)
+		{
+			if(root != null)
+			{
+				// the root node is always written last
+				String name = root.getSegment(root.getSegmentCount() - 1);
+				return getSegmentFile(name);
+			}
+		}
+		else
+		{
+			if(lastValueSegmentId >= 0)
+			{
+				return segmentsById.get(lastValueSegmentId);
+			}
+		}
+		return null;
+	}
+	
+	
+	/** 
+	 * sets the size limits of the tree and value segments.  the new limits apply to the segments
+	 * being written to and to the new segments.
+	 */
+	public void setSegmentSizes(long treeBytes, long valueBytes)
+	{
+		if(treeBytes <= 0)
+		{
+			throw new IllegalArgumentException("tree segment size must be positive: " + treeBytes);
+		}
+		else if(valueBytes <= 0)
+		{
+			throw new IllegalArgumentException("value segment size must be positive: " + valueBytes);
+		}
+		
+		treeSegmentSize = treeBytes;
+		valueSegmentSize = valueBytes;
+		
+		SegmentFile sf = treeSegment;
+		if(sf != null)
+		{
+			sf.setLimit(treeBytes);
+		}
+		
+		sf = valueSegment;
+		if(sf != null)
+		{
+			sf.setLimit(valueBytes);
+		}
+	}
+	
+	
+	public long getTreeSegmentSize()
+	{
+		return treeSegmentSize;
+	}
+	
+	
+	public long getValueSegmentSize()
+	{
+		return valueSegmentSize;
+	}
+
+
+	/** closes the writer of a full segment, forcing the data to disk unless the durability mode is NONE */
+	protected void closeSegment(SegmentFile sf) throws Exception
+	{
+		if(durability != DurabilityMode.NONE)
+		{
+			sf.sync();
+		}
+		sf.closeWriter();
 	}
 
 
@@ -382,13 +900,13 @@ public class SecStore
 
 	public void writeRef(Ref ref, DWriter wr) throws Exception
 	{
-		ref.write(wr);
+		ref.write(wr, this);
 	}
 
 
 	public Ref readRef(DReader rd) throws Exception
 	{
-		return Ref.read(rd);
+		return Ref.read(rd, this);
 	}
 	
 	
@@ -0,0 +1,554 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.log.Log;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.CMap;
+import goryachev.common.util.CancelledException;
+import goryachev.common.util.SKey;
+import goryachev.secdb.DBEngine;
+import goryachev.secdb.DBSnapshot;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import goryachev.secdb.internal.DBInternalNode;
+import goryachev.secdb.internal.DBLeafNode;
+import goryachev.secdb.internal.DataHolder;
+import goryachev.secdb.internal.NodeCache;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+
+/**
+ * Segment Compactor.
+ *
+ * Reclaims the space occupied by the blocks which are no longer reachable from the current root.
+ * Each compaction pass:
+ * - counts the blocks of the subtrees dropped by the range removals as dead, since the commit does not read them
+ *   (see DBEngine.reportDroppedSubtrees())
+ * - picks the sealed segments whose live ratio is below the threshold for their kind, using the dead byte counters
+ *   maintained by the store at commit time (see SecStore.getSpaceStats())
+ * - finds the live blocks located in these segments by walking the tree from the current root
+ * - moves their live blocks to the current segment in small transactions, which store the affected
+ *   values and the paths to the affected nodes anew, and commit a new root
+ * - deletes the old segment files once no open snapshot or cursor sees an older version
+ *
+ * The blocks are encrypted with the nonce derived from their location, so moving a block means
+ * decrypting and encrypting it again.  The I/O is throttled to the configured rate.
+ * A pass is cancelled by interrupting the thread (see CKit.checkCancelled()).
+ *
+ * A pass does not necessarily leave nothing to compact.  Moving a block stores the path to it anew, and a block
+ * which spans several segments is moved as a whole, so the old copies of these blocks become dead in the segments
+ * outside of the pass, which might then fall below the threshold in turn.  Each pass moves less data than the one 
+ * before, the more so the larger the segments are relative to the blocks.
+ *
+ * The continuation tokens obtained before the compaction might not be usable after the old segments
+ * have been deleted.
+ */
+public class SegmentCompactor
+{
+	/** default live ratio below which a tree segment is compacted */
+	public static final double DEFAULT_THRESHOLD = 0.5;
+	/** default live ratio below which a value segment is compacted: moving the values costs more, and frees less often */
+	public static final double DEFAULT_VALUE_THRESHOLD = 0.25;
+	/** default limit of the compaction I/O, in bytes per second */
+	public static final long DEFAULT_RATE_LIMIT = CKit.mebi(32);
+	/** default amount of data moved by a single transaction */
+	public static final long DEFAULT_BATCH_SIZE = CKit.mebi(4);
+	protected static final Log log = Log.get("SegmentCompactor");
+	private final SecStore store;
+	private final DBEngine<Ref> engine;
+	/** the compacted segments waiting for the older snapshots to be closed, guarded by itself */
+	private final CList<Retired> retired = new CList<>();
+	/** serializes the compaction passes */
+	private final Object pass = new Object();
+	private volatile double threshold = DEFAULT_THRESHOLD;
+	private volatile double valueThreshold = DEFAULT_VALUE_THRESHOLD;
+	private volatile long rateLimit = DEFAULT_RATE_LIMIT;
+	private volatile long batchSize = DEFAULT_BATCH_SIZE;
+	private Thread thread;
+	private long started;
+	private long transferred;
+
+
+	protected SegmentCompactor(SecStore store, DBEngine<Ref> engine)
+	{
+		this.store = store;
+		this.engine = engine;
+	}
+
+
+	/** sets the ratio of live bytes to the segment length below which a segment of either kind is compacted */
+	public void setThreshold(double ratio)
+	{
+		setThresholds(ratio, ratio);
+	}
+	
+	
+	/** sets the ratios of live bytes to the segment length below which a tree segment and a value segment are compacted */
+	public void setThresholds(double tree, double value)
+	{
+		check(tree);
+		check(value);
+		threshold = tree;
+		valueThreshold = value;
+	}
+	
+	
+	private static void check(double ratio)
+	{
+		if((ratio < 0.0) || (ratio > 1.0))
+		{
+			throw new IllegalArgumentException("threshold out of range: " + ratio);
+		}
+	}
+
+
+	/** returns the threshold of the tree segments */
+	public double getThreshold()
+	{
+		return threshold;
+	}
+
+
+	/** returns the threshold of the value segments */
+	public double getValueThreshold()
+	{
+		return valueThreshold;
+	}
+
+
+	/** sets the limit of the compaction I/O, in bytes per second.  zero disables throttling */
+	public void setRateLimit(long bytesPerSecond)
+	{
+		if(bytesPerSecond < 0)
+		{
+			throw new IllegalArgumentException("negative rate: " + bytesPerSecond);
+		}
+		rateLimit = bytesPerSecond;
+	}
+
+
+	public long getRateLimit()
+	{
+		return rateLimit;
+	}
+
+
+	/** sets the amount of data moved by a single transaction, which determines how long the writer is held up */
+	public void setBatchSize(long bytes)
+	{
+		if(bytes < 1)
+		{
+			throw new IllegalArgumentException("batch size must be positive: " + bytes);
+		}
+		batchSize = bytes;
+	}
+
+
+	public long getBatchSize()
+	{
+		return batchSize;
+	}
+
+
+	/** starts compacting in a background thread, one pass every 'interval' milliseconds */
+	public synchronized void start(long intervalMillis)
+	{
+		if(intervalMillis < 0)
+		{
+			throw new IllegalArgumentException("negative interval: " + intervalMillis);
+		}
+
+		if(thread == null)
+		{
+			thread = new Thread(() -> run(intervalMillis), "SegmentCompactor");
+			thread.setDaemon(true);
+			thread.setPriority(Thread.MIN_PRIORITY);
+			thread.start();
+		}
+	}
+
+
+	/** interrupts the background thread and waits for it to exit */
+	public void stop() throws InterruptedException
+	{
+		Thread t;
+		synchronized(this)
+		{
+			t = thread;
+			thread = null;
+		}
+
+		if(t != null)
+		{
+			t.interrupt();
+			t.join();
+		}
+	}
+
+
+	private void run(long interval)
+	{
+		try
+		{
+			for(;;)
+			{
+				try
+				{
+					compact();
+				}
+				catch(CancelledException | InterruptedException e)
+				{
+					return;
+				}
+				catch(Throwable e)
+				{
+					log.error(e);
+				}
+
+				Thread.sleep(interval);
+			}
+		}
+		catch(InterruptedException e)
+		{
+			// stopped
+		}
+	}
+
+
+	/**
+	 * performs one compaction pass in the calling thread, returns the number of segments compacted.
+	 * the next pass might find more segments to compact (see the class comment).
+	 * the compacted segments are deleted once no open snapshot or cursor sees an older version (see deleteRetired()).
+	 */
+	public int compact() throws Exception
+	{
+		synchronized(pass)
+		{
+			started = System.currentTimeMillis();
+			transferred = 0;
+
+			deleteRetired();
+
+			CList<SegmentFile> sealed = store.getSealedSegments();
+			synchronized(retired)
+			{
+				for(Retired r: retired)
+				{
+					sealed.removeAll(r.segments);
+				}
+			}
+
+			if(sealed.isEmpty())
+			{
+				return 0;
+			}
+
+			// a transaction which was in progress when the segments were sealed might have written to them.
+			// once this transaction is executed, such blocks are either committed or abandoned
+			engine.execute(new Transaction()
+			{
+				protected void body() throws Exception
+				{
+				}
+			});
+			
+			engine.reportDroppedSubtrees();
+
+			CMap<String,SegmentFile> victims = new CMap<>();
+			for(SegmentFile sf: sealed)
+			{
+				long len = sf.getLength();
+				long n = len - sf.getDeadBytes();
+				double t = sf.isTree() ? threshold : valueThreshold;
+				if(n < t * len)
+				{
+					log.debug("segment %s live=%d length=%d", sf.getName(), n, len);
+					victims.put(sf.getName(), sf);
+				}
+			}
+
+			if(victims.isEmpty())
+			{
+				return 0;
+			}
+
+			CList<Block> blocks = new CList<>();
+			try(DBSnapshot<Ref> s = engine.openSnapshot())
+			{
+				walk(s.getRootRef(), (key, ref, isTree) ->
+				{
+					if(isLocated(ref, victims))
+					{
+						blocks.add(new Block(key, ref, isTree));
+					}
+				});
+			}
+
+			relocate(blocks, victims);
+
+			synchronized(retired)
+			{
+				retired.add(new Retired(victims.values(), engine.getCommitSequence()));
+			}
+
+			deleteRetired();
+			return victims.size();
+		}
+	}
+
+
+	/**
+	 * deletes the compacted segments which are not seen by any open snapshot or cursor,
+	 * returns the number of segments deleted.
+	 */
+	public int deleteRetired() throws Exception
+	{
+		long oldest = engine.getOldestSnapshotSequence();
+		CList<SegmentFile> ss = new CList<>();
+
+		synchronized(retired)
+		{
+			Iterator<Retired> it = retired.iterator();
+			while(it.hasNext())
+			{
+				Retired r = it.next();
+				if(r.sequence <= oldest)
+				{
+					ss.addAll(r.segments);
+					it.remove();
+				}
+			}
+		}
+
+		if(ss.size() > 0)
+		{
+			// the dropped subtrees might be located in these segments, and must be read first
+			engine.reportDroppedSubtrees();
+			
+			for(SegmentFile sf: ss)
+			{
+				store.deleteSegment(sf);
+			}
+		}
+		return ss.size();
+	}
+
+
+	/** returns the number of compacted segments waiting to be deleted */
+	public int getRetiredCount()
+	{
+		int rv = 0;
+		synchronized(retired)
+		{
+			for(Retired r: retired)
+			{
+				rv += r.segments.size();
+			}
+		}
+		return rv;
+	}
+
+
+	/**
+	 * visits the blocks of the subtree in key order: the values before the leaf, and the children
+	 * before the parent.  returns the first key of the subtree, or null if the subtree is empty.
+	 */
+	private SKey walk(Ref ref, IBlockVisitor v) throws Exception
+	{
+		if(ref == null)
+		{
+			return null;
+		}
+
+		NodeCache<Ref> cache = engine.getNodeCache();
+		BPlusTreeNode<SKey,DataHolder<Ref>> n = cache.readNode(ref);
+		throttle(ref.getLength());
+
+		SKey first = null;
+		if(n instanceof DBInternalNode)
+		{
+			DBInternalNode<Ref> p = (DBInternalNode)n;
+			int sz = p.size() + 1;
+			for(int i=0; i<sz; i++)
+			{
+				SKey k = walk(p.nodeHolderAt(i).getRef(), v);
+				if(i == 0)
+				{
+					first = k;
+				}
+			}
+		}
+		else
+		{
+			DBLeafNode<Ref> leaf = (DBLeafNode)n;
+			int sz = leaf.getValueCount();
+			for(int i=0; i<sz; i++)
+			{
+				Ref r = getBlock(leaf.valueAt(i));
+				if(r != null)
+				{
+					v.visitBlock(leaf.keyAt(i), r, false);
+				}
+			}
+
+			if(sz > 0)
+			{
+				first = leaf.keyAt(0);
+			}
+		}
+
+		// the node contains its first key, so the node is on the path to that key for as long as it is live
+		v.visitBlock(first, ref, true);
+		return first;
+	}
+
+
+	/** returns the block containing the value, or null if the value is stored in the leaf node */
+	private static Ref getBlock(DataHolder<Ref> h)
+	{
+		if(h.isRef())
+		{
+			return h.getRef();
+		}
+		else if(h.isPacked())
+		{
+			return ((DataHolder.PackedHolder<Ref>)h).getBlock();
+		}
+		return null;
+	}
+
+
+	private static boolean isLocated(Ref ref, CMap<String,SegmentFile> segments)
+	{
+		int sz = ref.getSegmentCount();
+		for(int i=0; i<sz; i++)
+		{
+			if(segments.containsKey(ref.getSegment(i)))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+
+	/**
+	 * moves the live blocks out of the segments being compacted, a batch per transaction.
+	 * the tree might have changed since it was walked, so each transaction checks the current state.
+	 */
+	private void relocate(CList<Block> blocks, CMap<String,SegmentFile> victims) throws Exception
+	{
+		int sz = blocks.size();
+		int start = 0;
+		while(start < sz)
+		{
+			CKit.checkCancelled();
+
+			int end = start;
+			long bytes = 0;
+			while((end < sz) && (bytes < batchSize))
+			{
+				bytes += blocks.get(end).ref.getLength();
+				end++;
+			}
+
+			List<Block> batch = blocks.subList(start, end);
+			engine.execute(new Transaction()
+			{
+				protected void body() throws Exception
+				{
+					for(Block b: batch)
+					{
+						if(b.isTree)
+						{
+							rewritePath(b.key);
+						}
+						else
+						{
+							// a packed value is packed again, along with the other values moved by this transaction
+							DataHolder<Ref> h = read(b.key);
+							Ref r = (h == null) ? null : getBlock(h);
+							if((r != null) && isLocated(r, victims))
+							{
+								insert(b.key, h.getStoredValue().getIStream());
+							}
+						}
+					}
+				}
+			});
+
+			// read and written
+			throttle(2 * bytes);
+			start = end;
+		}
+
+		log.debug("moved %d blocks", sz);
+	}
+
+
+	/** limits the compaction I/O to the configured rate */
+	private void throttle(long bytes) throws Exception
+	{
+		CKit.checkCancelled();
+
+		long rate = rateLimit;
+		if(rate > 0)
+		{
+			transferred += bytes;
+			long wait = started + (transferred * 1000 / rate) - System.currentTimeMillis();
+			if(wait > 0)
+			{
+				Thread.sleep(wait);
+			}
+		}
+	}
+
+
+	//
+
+
+	@FunctionalInterface
+	protected static interface IBlockVisitor
+	{
+		public void visitBlock(SKey key, Ref ref, boolean isTree) throws Exception;
+	}
+
+
+	//
+
+
+	/** a live block located in a segment being compacted, along with the key which leads to it */
+	protected static class Block
+	{
+		public final SKey key;
+		public final Ref ref;
+		public final boolean isTree;
+
+
+		public Block(SKey key, Ref ref, boolean isTree)
+		{
+			this.key = key;
+			this.ref = ref;
+			this.isTree = isTree;
+		}
+	}
+
+
+	//
+
+
+	/** the compacted segments, which can be deleted when no snapshot older than the sequence remains open */
+	protected static class Retired
+	{
+		public final CList<SegmentFile> segments;
+		public final long sequence;
+
+
+		public Retired(Collection<SegmentFile> segments, long sequence)
+		{
+			this.segments = new CList<>(segments);
+			this.sequence = sequence;
+		}
+	}
+}
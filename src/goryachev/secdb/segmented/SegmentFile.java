@@ -3,29 +3,63 @@ package goryachev.secdb.segmented;
 import goryachev.common.util.CKit;
 import java.io.File;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 
 
 /**
  * SecStore Segment File.
  * 
  * Uses RandomAccessFiles (one for writing, the other for reading).
- * A decision was made not to use MappedByteBuffer because of their sub-optimal 
+ * Reads use positional FileChannel access which requires no locking, 
+ * so any number of threads can read the same segment concurrently.
+ * Writes are appended to a write buffer, which is written to the file at the tail offset
+ * kept in memory when full or when flush() is called (at the commit boundary).
+ * A decision was made not to use MappedByteBuffer by default because of their sub-optimal 
  * implementation on Windows (i.e. cannot delete a mapped file).
  * 
- * or use read-only mmap, write with FileChannel
- * http://www.mapdb.org/blog/mmap_files_alloc_and_jvm_crash/
+ * Optionally, a sealed (full) segment can be mapped read-only, see SecStore.setMemoryMapping().
+ * The segments larger than 2 GB are never mapped.
+ * The mapping is never unmapped explicitly, to avoid crashing the JVM when another thread is still
+ * reading from it, see http://www.mapdb.org/blog/mmap_files_alloc_and_jvm_crash/
+ * Instead, the mapping is dropped when the reader is closed and gets released by the garbage collector.
  */
 public class SegmentFile
 {
 	// FIX make final after debugging
 	public static /*final*/ long SEGMENT_SIZE = CKit.mebi(512);
-	protected static final int BUF_SIZE = 4096;
+	/** default size limit of the segments which contain the tree nodes */
+	public static /*final*/ long TREE_SEGMENT_SIZE = CKit.mebi(64);
+	protected static final int BUF_SIZE = 64 * 1024;
 	protected final File file;
 	protected final String name;
 	private RandomAccessFile reader;
+	private volatile FileChannel channel;
+	private volatile MappedByteBuffer mapping;
+	/** true if the sealed segment is too large to be mapped */
+	private volatile boolean unmappable;
+	private volatile boolean sealed;
 	private RandomAccessFile writer;
 	/** only one writer is allowed */
-	private final byte[] writeBuffer = new byte[BUF_SIZE];
+	private final Object writeLock = new Object();
+	/** allocated on first write */
+	private byte[] writeBuffer;
+	/** number of bytes in the write buffer */
+	private int buffered;
+	/** length of the data in the file, or -1 if not yet known */
+	private volatile long flushed = -1;
+	/** compact id, or -1 if not yet assigned */
+	private int id = -1;
+	/** number of bytes occupied by the blocks no longer reachable from the current root */
+	private volatile long deadBytes;
+	/** true if the segment contains tree nodes, false if values */
+	private volatile boolean tree = true;
+	/** size limit */
+	private volatile long limit = SEGMENT_SIZE;
 	
 	
 	public SegmentFile(File file, String name)
@@ -41,23 +75,161 @@ public class SegmentFile
 	}
 	
 	
+	public int getId()
+	{
+		return id;
+	}
+	
+	
+	protected void setId(int id)
+	{
+		this.id = id;
+	}
+	
+	
+	/** returns the number of bytes occupied by the blocks no longer reachable from the current root */
+	public long getDeadBytes()
+	{
+		return deadBytes;
+	}
+	
+	
+	/** called by the committing thread only */
+	protected void setDeadBytes(long n)
+	{
+		deadBytes = n;
+	}
+	
+	
+	/** 
+	 * returns true if the segment receives the tree nodes, false if it receives the values.
+	 * the segments written before the two were separated are reported as tree segments.
+	 */
+	public boolean isTree()
+	{
+		return tree;
+	}
+	
+	
+	protected void setTree(boolean on)
+	{
+		tree = on;
+	}
+	
+	
+	/** returns the length at which the segment is considered full */
+	public long getLimit()
+	{
+		return limit;
+	}
+	
+	
+	protected void setLimit(long size)
+	{
+		limit = size;
+	}
+	
+	
+	/** returns the segment length, including the data not yet flushed to the file */
 	public long getLength()
 	{
-		// this might query the file system each time
-		return file.length();
+		synchronized(writeLock)
+		{
+			if(flushed < 0)
+			{
+				// query the file system only once
+				flushed = file.length();
+			}
+			return flushed + buffered;
+		}
 	}
 
 	
-	/** writes as much as possible to the segment file.  returns the number of bytes written, or -1 if the segment is full */
+	/** 
+	 * appends as much as possible to the segment file.  returns the number of bytes written, or -1 if the segment is full.
+	 * small writes are accumulated in the write buffer until flush() is called or the buffer becomes full.
+	 */
 	public int write(byte[] buf, int off, int len) throws Exception
 	{
-		long seglen = getLength();
-		long available = SEGMENT_SIZE - seglen;
-		if(available <= 0)
+		synchronized(writeLock)
+		{
+			long available = limit - getLength();
+			if(available <= 0)
+			{
+				return -1;
+			}
+			
+			if(writeBuffer == null)
+			{
+				writeBuffer = new byte[BUF_SIZE];
+			}
+			
+			int sz = (int)Math.min(available, len);
+			if((buffered + sz) > writeBuffer.length)
+			{
+				flush();
+			}
+			
+			if(sz >= writeBuffer.length)
+			{
+				// large writes bypass the buffer
+				writeAt(flushed, ByteBuffer.wrap(buf, off, sz));
+				flushed += sz;
+			}
+			else
+			{
+				System.arraycopy(buf, off, writeBuffer, buffered, sz);
+				buffered += sz;
+			}
+			return sz;
+		}
+	}
+	
+	
+	/** writes the buffered data to the file using a single positioned write */
+	public void flush() throws Exception
+	{
+		synchronized(writeLock)
+		{
+			if(buffered > 0)
+			{
+				writeAt(flushed, ByteBuffer.wrap(writeBuffer, 0, buffered));
+				flushed += buffered;
+				buffered = 0;
+			}
+		}
+	}
+	
+	
+	/** writes the buffered data and forces it to the storage device */
+	public void sync() throws Exception
+	{
+		FileChannel ch;
+		synchronized(writeLock)
 		{
-			return -1;
+			flush();
+			
+			if(writer == null)
+			{
+				return;
+			}
+			ch = writer.getChannel();
 		}
 		
+		// forcing outside of the lock allows for concurrent appends
+		try
+		{
+			ch.force(false);
+		}
+		catch(ClosedChannelException e)
+		{
+			// the writer has been closed, and synced, by SecStore.closeSegment()
+		}
+	}
+	
+	
+	private void writeAt(long position, ByteBuffer bb) throws Exception
+	{
 		if(writer == null)
 		{
 			File pf = file.getParentFile();
@@ -68,21 +240,27 @@ public class SegmentFile
 			writer = new RandomAccessFile(file, "rw");
 		}
 		
-		int sz = (int)Math.min(available, len);
-		
-		writer.seek(seglen);
-		writer.write(buf, off, sz);
-		
-		return sz;
+		FileChannel ch = writer.getChannel();
+		while(bb.hasRemaining())
+		{
+			position += ch.write(bb, position);
+		}
 	}
 	
 	
 	public void closeWriter() throws Exception
 	{
-		if(writer != null)
+		synchronized(writeLock)
 		{
-			writer.close();
-			writer = null;
+			flush();
+			
+			writeBuffer = null;
+			
+			if(writer != null)
+			{
+				writer.close();
+				writer = null;
+			}
 		}
 	}
 	
@@ -94,6 +272,8 @@ public class SegmentFile
 		{
 			rd = reader;
 			reader = null;
+			channel = null;
+			mapping = null;
 		}
 		
 		if(rd != null)
@@ -103,25 +283,163 @@ public class SegmentFile
 	}
 
 
+	/** returns true if the segment is full and will not be written to */
+	public boolean isSealed()
+	{
+		if(!sealed)
+		{
+			synchronized(writeLock)
+			{
+				if((writer != null) || (buffered > 0))
+				{
+					return false;
+				}
+				
+				sealed = (getLength() >= limit);
+			}
+		}
+		return sealed;
+	}
+	
+	
+	/** 
+	 * reads from the read-only mapping when allowed and the segment is sealed,
+	 * otherwise uses the channel.
+	 */
+	public int read(long position, byte[] buf, int off, int len, boolean allowMapping) throws Exception
+	{
+		if(allowMapping)
+		{
+			MappedByteBuffer m = getMapping();
+			if(m != null)
+			{
+				int max = m.limit();
+				if(position >= max)
+				{
+					return -1;
+				}
+				
+				int sz = (int)Math.min(len, max - position);
+				m.get((int)position, buf, off, sz);
+				return sz;
+			}
+		}
+		
+		return read(position, buf, off, len);
+	}
+	
+	
+	/** 
+	 * returns the read-only mapping of a sealed segment, or null if the segment is not sealed
+	 * or is too large to fit in a single buffer.
+	 */
+	private MappedByteBuffer getMapping() throws Exception
+	{
+		MappedByteBuffer m = mapping;
+		if(m == null)
+		{
+			if(unmappable || !isSealed())
+			{
+				return null;
+			}
+			
+			synchronized(this)
+			{
+				if(mapping == null)
+				{
+					try(RandomAccessFile rf = new RandomAccessFile(file, "r"))
+					{
+						// the mapping remains valid after the file is closed
+						FileChannel ch = rf.getChannel();
+						long size = ch.size();
+						if(size > Integer.MAX_VALUE)
+						{
+							// a buffer cannot exceed 2 GB, the segment is read with the channel instead
+							unmappable = true;
+							return null;
+						}
+						mapping = ch.map(MapMode.READ_ONLY, 0, size);
+					}
+				}
+				m = mapping;
+			}
+		}
+		return m;
+	}
+
+
 	public int read(long position, byte[] buf, int off, int len) throws Exception
 	{
+		long f = flushed;
+		if((f >= 0) && ((position + len) > f))
+		{
+			synchronized(writeLock)
+			{
+				if(position >= flushed)
+				{
+					// the data has not been flushed yet
+					int ix = (int)(position - flushed);
+					if(ix >= buffered)
+					{
+						return -1;
+					}
+					
+					int sz = Math.min(len, buffered - ix);
+					System.arraycopy(writeBuffer, ix, buf, off, sz);
+					return sz;
+				}
+				else
+				{
+					// read the flushed part only
+					len = (int)Math.min(len, flushed - position);
+				}
+			}
+		}
+		
 		// TODO we need to keep track of the total number of open readers 
 		// to avoid having too many open files
-		if(reader == null)
+		FileChannel ch = channel;
+		if(ch == null)
 		{
 			synchronized(this)
 			{
-				if(reader == null)
+				if(channel == null)
 				{
 					reader = new RandomAccessFile(file, "r");
+					channel = reader.getChannel();
 				}
+				ch = channel;
 			}
 		}
 		
-		synchronized(reader)
+		// positional read does not modify the channel position and is thread-safe
+		ByteBuffer bb = ByteBuffer.wrap(buf, off, len);
+		int rv = 0;
+		try
+		{
+			while(bb.hasRemaining())
+			{
+				int rd = ch.read(bb, position + rv);
+				if(rd < 0)
+				{
+					break;
+				}
+				rv += rd;
+			}
+		}
+		catch(ClosedByInterruptException e)
 		{
-			reader.seek(position);
-			return reader.read(buf, off, len);
+			// interrupting a reading thread closes the channel, the next read will reopen it
+			synchronized(this)
+			{
+				if(channel == ch)
+				{
+					channel = null;
+					reader = null;
+				}
+			}
+			throw e;
 		}
+		return (rv == 0) && (len > 0) ? -1 : rv;
 	}
 }
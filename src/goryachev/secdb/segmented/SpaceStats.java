@@ -0,0 +1,118 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.util.CList;
+import goryachev.common.util.SB;
+
+
+/**
+ * Space usage of the database segments.
+ *
+ * The dead bytes are occupied by the blocks no longer reachable from the current root,
+ * which can be reclaimed by the compactor once the older snapshots are closed (see SegmentCompactor).
+ */
+public class SpaceStats
+{
+	private final CList<Segment> segments;
+
+
+	public SpaceStats(CList<Segment> segments)
+	{
+		this.segments = segments;
+	}
+
+
+	public CList<Segment> getSegments()
+	{
+		return segments;
+	}
+
+
+	public int getSegmentCount()
+	{
+		return segments.size();
+	}
+
+
+	/** returns the total length of the segments */
+	public long getTotalBytes()
+	{
+		long rv = 0;
+		for(Segment s: segments)
+		{
+			rv += s.length;
+		}
+		return rv;
+	}
+
+
+	/** returns the total number of bytes occupied by the unreachable blocks */
+	public long getDeadBytes()
+	{
+		long rv = 0;
+		for(Segment s: segments)
+		{
+			rv += s.deadBytes;
+		}
+		return rv;
+	}
+
+
+	public long getLiveBytes()
+	{
+		return getTotalBytes() - getDeadBytes();
+	}
+
+
+	public String toString()
+	{
+		SB sb = new SB();
+		sb.a("segments=").a(getSegmentCount());
+		sb.a(" total=").a(getTotalBytes());
+		sb.a(" dead=").a(getDeadBytes());
+		return sb.toString();
+	}
+
+
+	//
+
+
+	public static class Segment
+	{
+		public final String name;
+		/** true if the segment contains tree nodes, false if values */
+		public final boolean tree;
+		public final long length;
+		public final long deadBytes;
+		/** the segment being written to */
+		public final boolean current;
+
+
+		public Segment(String name, boolean tree, long length, long deadBytes, boolean current)
+		{
+			this.name = name;
+			this.tree = tree;
+			this.length = length;
+			this.deadBytes = deadBytes;
+			this.current = current;
+		}
+
+
+		public long getLiveBytes()
+		{
+			return Math.max(0, length - deadBytes);
+		}
+
+
+		/** returns the fraction of the segment occupied by the reachable blocks */
+		public double getLiveRatio()
+		{
+			return (length == 0) ? 1.0 : getLiveBytes() / (double)length;
+		}
+
+
+		public String toString()
+		{
+			return name + (tree ? " tree" : " value") + " length=" + length + " dead=" + deadBytes;
+		}
+	}
+}
@@ -1,13 +1,13 @@
-// Copyright © 2020-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb.segmented;
-import goryachev.secdb.DBTransaction;
-
-
-/**
- * Transaction.
- */
-public abstract class Transaction
-	extends DBTransaction<Ref>
-{
-	protected abstract void body() throws Exception;
-}
+// Copyright © 2020-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.secdb.DBTransaction;
+
+
+/**
+ * Transaction.
+ */
+public abstract class Transaction
+	extends DBTransaction<Ref>
+{
+	protected abstract void body() throws Exception;
+}
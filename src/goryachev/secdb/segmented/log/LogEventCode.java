@@ -1,36 +1,44 @@
-// Copyright © 2020-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb.segmented.log;
-import goryachev.common.util.Keep;
-
-
-/**
- * Log Events are written to LogFile.
- */
-@Keep
-public enum LogEventCode
-{
-	CLOSED,
-	HEAD,
-//	OPENED, not needed
-	STATE,
-//	STORE,
-//	STORE_OK,
-//	STORE_DUP
-	SWITCH_TO,
-	SWITCHED_FROM,
-	;
-
-	//
-	
-	public static LogEventCode parse(String text) throws Exception
-	{
-		for(LogEventCode c: values())
-		{
-			if(c.toString().equals(text))
-			{
-				return c;
-			}
-		}
-		throw new Exception("?" + text);
-	}
-}
+// Copyright © 2020-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented.log;
+import goryachev.common.util.Keep;
+
+
+/**
+ * Log Events are written to LogFile.
+ */
+@Keep
+public enum LogEventCode
+{
+	CLOSED,
+	HEAD,
+	/** assigns a compact id to a segment file */
+	SEGMENT,
+	/** the segment file has been deleted after compaction */
+	SEGMENT_DELETED,
+	/** the dead byte counts updated after a subtree dropped by an earlier commit has been read */
+	DEAD,
+	/** a setting which applies to the database, the last value recorded wins */
+	SETTING,
+//	OPENED, not needed
+	STATE,
+//	STORE,
+//	STORE_OK,
+//	STORE_DUP
+	SWITCH_TO,
+	SWITCHED_FROM,
+	;
+
+	//
+	
+	public static LogEventCode parse(String text) throws Exception
+	{
+		for(LogEventCode c: values())
+		{
+			if(c.toString().equals(text))
+			{
+				return c;
+			}
+		}
+		throw new Exception("?" + text);
+	}
+}
@@ -1,222 +1,461 @@
-// Copyright © 2020-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb.segmented.log;
-import goryachev.common.io.CReader;
-import goryachev.common.util.CComparator;
-import goryachev.common.util.CKit;
-import goryachev.common.util.CList;
-import goryachev.common.util.SB;
-import goryachev.memsafecrypto.OpaqueBytes;
-import goryachev.secdb.segmented.Ref;
-import java.io.Closeable;
-import java.io.File;
-import java.io.FileFilter;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.util.Collections;
-import java.util.EnumMap;
-import java.util.List;
-
-
-/**
- * The purpose of Log File is to
- * 
- *   1. retain state between shutdowns
- *   2. assist in recovery
- */
-public class LogFile
-	implements Closeable
-{
-	protected static final String NAME_PREFIX = "log.";
-	protected static final MonotonicUniqueTimeStamp tstamp = new MonotonicUniqueTimeStamp();
-	protected final File file;
-	protected final OpaqueBytes key;
-	protected final EnumMap<LogEventCode,LogEvent> events = new EnumMap<>(LogEventCode.class);
-	private LogEvent lastEvent;
-	private FileOutputStream out;
-	private boolean error;
-	private long lastTime;
-	
-	
-	public LogFile(File f, OpaqueBytes key)
-	{
-		this.file = f;
-		this.key = key;
-	}
-	
-	
-	/** creates an empty log file.  assumes the directory exists */
-	public static LogFile create(File dir, OpaqueBytes key) throws Exception
-	{
-		File f = File.createTempFile(NAME_PREFIX, "", dir); 
-		return new LogFile(f, key);
-	}
-	
-	
-	/** 
-	 * returns a list of all log files found in the base directory,
-	 * sorted most recent first.
-	 */
-	// TODO log key
-	public static List<LogFile> open(File dir, OpaqueBytes key) throws Exception
-	{
-		// pick the oldest log file
-		
-		File[] fs = dir.listFiles(new FileFilter()
-		{
-			public boolean accept(File f)
-			{
-				return f.isFile() && f.getName().startsWith(NAME_PREFIX);
-			}
-		});
-		
-		CList<LogFile> lfs = new CList();
-		if(fs != null)
-		{
-			for(File f: fs)
-			{
-				LogFile lf = LogFile.load(f, key);
-				lfs.add(lf);
-			}
-		}
-		
-		// recent first
-		Collections.sort(lfs, new CComparator<LogFile>()
-		{
-			public int compare(LogFile a, LogFile b)
-			{
-				return compareLong(b.getLastTime(), a.getLastTime());
-			}
-		});
-		
-		return lfs;
-	}
-	
-	
-	protected long getLastTime()
-	{
-		return lastTime;
-	}
-	
-	
-	public String getName()
-	{
-		return file.getAbsolutePath();
-	}
-
-
-	protected static LogFile load(File f, OpaqueBytes key) throws Exception
-	{
-		LogFile lf = new LogFile(f, key);
-		lf.load();
-		
-		if(lf.lastEvent != null)
-		{
-			lf.lastTime = lf.lastEvent.getTimeStamp();
-		}
-		
-		return lf;
-	}
-	
-	
-	@SuppressWarnings("resource") // compiler is wrong
-	protected void load() throws Exception
-	{
-		CReader rd = new CReader(file);
-		long time = 0;
-		
-		try
-		{
-			String line;
-			while((line = rd.readLine()) != null)
-			{
-				LogEvent ev = LogEvent.parse(line);
-				if(ev.getTimeStamp() < time)
-				{
-					throw new Exception("timestamp jump: last=" + time + " loading=" + ev);
-				}
-				time = ev.getTimeStamp();
-
-				events.put(ev.getCode(), ev);
-				lastEvent = ev;
-			}
-		}
-		catch(Exception e)
-		{
-			error = true;
-		}
-		finally
-		{
-			CKit.close(rd);
-		}
-	}
-	
-	
-	public void appendEvent(LogEventCode cd) throws Exception
-	{
-		appendEvent(new LogEvent.Save(cd, null));
-	}
-	
-	
-	public void appendEvent(LogEventCode cd, Object data) throws Exception
-	{
-		appendEvent(new LogEvent.Save(cd, data));
-	}
-	
-	
-	protected void appendEvent(LogEvent ev) throws Exception
-	{
-		SB sb = new SB(256);
-		ev.write(sb);
-		byte[] b = sb.toString().getBytes(CKit.CHARSET_UTF8);
-
-		if(out == null)
-		{
-			out = new FileOutputStream(file, true);
-		}
-		out.write(b);
-	}
-
-
-	public void close() throws IOException
-	{
-		CKit.close(out);
-		out = null;
-	}
-
-
-	public static long timestamp()
-	{
-		return tstamp.nextTimeStamp();
-	}
-	
-	
-	public boolean isRecoveryNeeded()
-	{
-		if(lastEvent == null)
-		{
-			return true;
-		}
-		
-		// TODO instead, we should probably determine if the last write has been successful or not.
-		// perhaps write to a file and delete it?  or create a marker file?
-		// or perhaps write in the log: WRITING... HEAD
-//		switch(lastEvent.getCode())
-//		{
-//		case CLOSED:
-//			return false;
-//		}
-		
-		return false;
-	}
-
-
-	public Ref getRootRef()
-	{
-		LogEvent ev = events.get(LogEventCode.HEAD);
-		if(ev != null)
-		{
-			return ev.getRefData();
-		}
-		return null;
-	}
-}
+// Copyright © 2020-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented.log;
+import goryachev.common.io.CReader;
+import goryachev.common.util.CComparator;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.CMap;
+import goryachev.common.util.IntHashtable;
+import goryachev.common.util.Parsers;
+import goryachev.common.util.SB;
+import goryachev.memsafecrypto.OpaqueBytes;
+import goryachev.secdb.segmented.Ref;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Enumeration;
+import java.util.List;
+
+
+/**
+ * The purpose of Log File is to
+ * 
+ *   1. retain state between shutdowns
+ *   2. assist in recovery
+ */
+public class LogFile
+	implements Closeable
+{
+	protected static final String NAME_PREFIX = "log.";
+	/** marks the segments which receive the values rather than the tree nodes */
+	protected static final String VALUE_SEGMENT = "V";
+	protected static final MonotonicUniqueTimeStamp tstamp = new MonotonicUniqueTimeStamp();
+	protected final File file;
+	protected final OpaqueBytes key;
+	protected final EnumMap<LogEventCode,LogEvent> events = new EnumMap<>(LogEventCode.class);
+	protected final IntHashtable<String> segmentNames = new IntHashtable<>();
+	/** ids of the value segments */
+	protected final IntHashtable<Boolean> valueSegments = new IntHashtable<>();
+	/** dead bytes per segment id, as of the last HEAD or DEAD event */
+	protected final IntHashtable<Long> deadBytes = new IntHashtable<>();
+	/** the subtrees dropped by the commits which have not been counted as dead yet, as of loading */
+	protected final CList<Ref> droppedSubtrees = new CList<>();
+	/** the database settings, keyed by name */
+	protected final CMap<String,String> settings = new CMap<>();
+	private LogEvent lastEvent;
+	private FileOutputStream out;
+	private boolean error;
+	private long lastTime;
+	
+	
+	public LogFile(File f, OpaqueBytes key)
+	{
+		this.file = f;
+		this.key = key;
+	}
+	
+	
+	/** creates an empty log file.  assumes the directory exists */
+	public static LogFile create(File dir, OpaqueBytes key) throws Exception
+	{
+		File f = File.createTempFile(NAME_PREFIX, "", dir); 
+		return new LogFile(f, key);
+	}
+	
+	
+	/** 
+	 * returns a list of all log files found in the base directory,
+	 * sorted most recent first.
+	 */
+	// TODO log key
+	public static List<LogFile> open(File dir, OpaqueBytes key) throws Exception
+	{
+		// pick the oldest log file
+		
+		File[] fs = dir.listFiles(new FileFilter()
+		{
+			public boolean accept(File f)
+			{
+				return f.isFile() && f.getName().startsWith(NAME_PREFIX);
+			}
+		});
+		
+		CList<LogFile> lfs = new CList();
+		if(fs != null)
+		{
+			for(File f: fs)
+			{
+				LogFile lf = LogFile.load(f, key);
+				lfs.add(lf);
+			}
+		}
+		
+		// recent first
+		Collections.sort(lfs, new CComparator<LogFile>()
+		{
+			public int compare(LogFile a, LogFile b)
+			{
+				return compareLong(b.getLastTime(), a.getLastTime());
+			}
+		});
+		
+		return lfs;
+	}
+	
+	
+	protected long getLastTime()
+	{
+		return lastTime;
+	}
+	
+	
+	public String getName()
+	{
+		return file.getAbsolutePath();
+	}
+
+
+	protected static LogFile load(File f, OpaqueBytes key) throws Exception
+	{
+		LogFile lf = new LogFile(f, key);
+		lf.load();
+		
+		if(lf.lastEvent != null)
+		{
+			lf.lastTime = lf.lastEvent.getTimeStamp();
+		}
+		
+		return lf;
+	}
+	
+	
+	@SuppressWarnings("resource") // compiler is wrong
+	protected void load() throws Exception
+	{
+		CReader rd = new CReader(file);
+		long time = 0;
+		
+		try
+		{
+			String line;
+			while((line = rd.readLine()) != null)
+			{
+				LogEvent.Read ev = LogEvent.parse(line);
+				if(ev.getTimeStamp() < time)
+				{
+					throw new Exception("timestamp jump: last=" + time + " loading=" + ev);
+				}
+				time = ev.getTimeStamp();
+
+				events.put(ev.getCode(), ev);
+				lastEvent = ev;
+				
+				if(ev.getCode() == LogEventCode.SEGMENT)
+				{
+					int id = Parsers.parseInt(ev.getData(0), -1);
+					String name = ev.getData(1);
+					if((id < 0) || (name == null))
+					{
+						throw new Exception("invalid segment event: " + line);
+					}
+					segmentNames.put(id, name);
+					
+					if(VALUE_SEGMENT.equals(ev.getData(2)))
+					{
+						valueSegments.put(id, Boolean.TRUE);
+					}
+				}
+				else if(ev.getCode() == LogEventCode.SEGMENT_DELETED)
+				{
+					int id = Parsers.parseInt(ev.getData(0), -1);
+					segmentNames.remove(id);
+					valueSegments.remove(id);
+					deadBytes.remove(id);
+				}
+				else if(ev.getCode() == LogEventCode.HEAD)
+				{
+					parseDeadBytes(ev.getData(1));
+					parseDroppedSubtrees(ev.getData(2));
+				}
+				else if(ev.getCode() == LogEventCode.DEAD)
+				{
+					droppedSubtrees.remove(Ref.parse(ev.getData(0)));
+					parseDeadBytes(ev.getData(1));
+				}
+				else if(ev.getCode() == LogEventCode.SETTING)
+				{
+					String name = ev.getData(0);
+					String value = ev.getData(1);
+					if((name == null) || (value == null))
+					{
+						throw new Exception("invalid setting event: " + line);
+					}
+					settings.put(name, value);
+				}
+			}
+		}
+		catch(Exception e)
+		{
+			error = true;
+		}
+		finally
+		{
+			CKit.close(rd);
+		}
+	}
+	
+	
+	public void appendEvent(LogEventCode cd) throws Exception
+	{
+		appendEvent(new LogEvent.Save(cd, null));
+	}
+	
+	
+	public void appendEvent(LogEventCode cd, Object data) throws Exception
+	{
+		appendEvent(new LogEvent.Save(cd, data));
+	}
+	
+	
+	protected synchronized void appendEvent(LogEvent ev) throws Exception
+	{
+		SB sb = new SB(256);
+		ev.write(sb);
+		byte[] b = sb.toString().getBytes(CKit.CHARSET_UTF8);
+
+		if(out == null)
+		{
+			out = new FileOutputStream(file, true);
+		}
+		out.write(b);
+	}
+
+
+	/** records the assignment of a compact id to a segment, along with the kind of data it receives */
+	public void appendSegmentEvent(int id, String name, boolean isTree) throws Exception
+	{
+		String s = id + LogEvent.SEP + name;
+		if(!isTree)
+		{
+			s += LogEvent.SEP + VALUE_SEGMENT;
+		}
+		appendEvent(LogEventCode.SEGMENT, s);
+	}
+	
+	
+	/** records the deletion of a segment which no longer contains live data */
+	public void appendSegmentDeletedEvent(int id, String name) throws Exception
+	{
+		appendEvent(LogEventCode.SEGMENT_DELETED, id + LogEvent.SEP + name);
+	}
+	
+	
+	/** 
+	 * records the new root along with the updated dead byte counts of the segments affected by the commit, 
+	 * formatted by formatDeadBytes(), and the subtrees dropped by the commit, formatted by formatRefs()
+	 */
+	public void appendHeadEvent(Ref ref, String deadBytes, String dropped) throws Exception
+	{
+		String extra = deadBytes;
+		if(dropped != null)
+		{
+			extra = (deadBytes == null ? "" : deadBytes) + LogEvent.SEP + dropped;
+		}
+		appendEvent(new LogEvent.Save(LogEventCode.HEAD, ref, extra));
+	}
+	
+	
+	/** records the value of a database setting */
+	public synchronized void appendSettingEvent(String name, String value) throws Exception
+	{
+		appendEvent(LogEventCode.SETTING, name + LogEvent.SEP + value);
+		settings.put(name, value);
+	}
+	
+	
+	/** records the updated dead byte counts after the blocks of a dropped subtree have been counted */
+	public void appendDeadEvent(Ref subtree, String deadBytes) throws Exception
+	{
+		String s = subtree.toPersistentString();
+		if(deadBytes != null)
+		{
+			s += LogEvent.SEP + deadBytes;
+		}
+		appendEvent(LogEventCode.DEAD, s);
+	}
+	
+	
+	/** formats the references as a comma-separated list, or returns null if the list is empty */
+	public static String formatRefs(List<Ref> refs)
+	{
+		if((refs == null) || refs.isEmpty())
+		{
+			return null;
+		}
+		
+		SB sb = new SB();
+		for(Ref r: refs)
+		{
+			if(sb.length() > 0)
+			{
+				sb.a(',');
+			}
+			sb.a(r.toPersistentString());
+		}
+		return sb.toString();
+	}
+	
+	
+	private void parseDroppedSubtrees(String text) throws Exception
+	{
+		if(CKit.isNotBlank(text))
+		{
+			for(String s: CKit.split(text, ','))
+			{
+				droppedSubtrees.add(Ref.parse(s));
+			}
+		}
+	}
+	
+	
+	/** formats the dead byte counts as a comma-separated list of id:count pairs */
+	public static String formatDeadBytes(IntHashtable<Long> counts)
+	{
+		if(counts.isEmpty())
+		{
+			return null;
+		}
+		
+		SB sb = new SB();
+		Enumeration<Integer> en = counts.keys();
+		while(en.hasMoreElements())
+		{
+			int id = en.nextElement();
+			if(sb.length() > 0)
+			{
+				sb.a(',');
+			}
+			sb.a(id);
+			sb.a(':');
+			sb.a(counts.get(id));
+		}
+		return sb.toString();
+	}
+	
+	
+	private void parseDeadBytes(String text) throws Exception
+	{
+		if(CKit.isNotBlank(text))
+		{
+			for(String s: CKit.split(text, ','))
+			{
+				int ix = s.indexOf(':');
+				if(ix < 0)
+				{
+					throw new Exception("invalid dead bytes: " + text);
+				}
+				
+				int id = Parsers.parseInt(s.substring(0, ix), -1);
+				long n = Parsers.parseLong(s.substring(ix + 1), -1);
+				if((id < 0) || (n < 0))
+				{
+					throw new Exception("invalid dead bytes: " + text);
+				}
+				deadBytes.put(id, n);
+			}
+		}
+	}
+	
+	
+	/** forces the appended events to the storage device */
+	public synchronized void sync() throws IOException
+	{
+		if(out != null)
+		{
+			out.getChannel().force(false);
+		}
+	}
+	
+	
+	public synchronized void close() throws IOException
+	{
+		CKit.close(out);
+		out = null;
+	}
+
+
+	public static long timestamp()
+	{
+		return tstamp.nextTimeStamp();
+	}
+	
+	
+	public boolean isRecoveryNeeded()
+	{
+		if(lastEvent == null)
+		{
+			return true;
+		}
+		
+		// TODO instead, we should probably determine if the last write has been successful or not.
+		// perhaps write to a file and delete it?  or create a marker file?
+		// or perhaps write in the log: WRITING... HEAD
+//		switch(lastEvent.getCode())
+//		{
+//		case CLOSED:
+//			return false;
+//		}
+		
+		return false;
+	}
+
+
+	/** returns the dead byte counts keyed by segment ids */
+	public IntHashtable<Long> getDeadBytes()
+	{
+		return deadBytes;
+	}
+
+
+	/** returns the subtrees dropped by the commits which have not been counted as dead yet */
+	public CList<Ref> getDroppedSubtrees()
+	{
+		return droppedSubtrees;
+	}
+
+
+	/** returns the value of a database setting, or null */
+	public synchronized String getSetting(String name)
+	{
+		return settings.get(name);
+	}
+
+
+	/** returns true if the segment receives the values rather than the tree nodes */
+	public boolean isValueSegment(int id)
+	{
+		return valueSegments.containsKey(id);
+	}
+
+
+	/** returns segment names keyed by their ids */
+	public IntHashtable<String> getSegmentNames()
+	{
+		return segmentNames;
+	}
+
+
+	public Ref getRootRef()
+	{
+		LogEvent ev = events.get(LogEventCode.HEAD);
+		if(ev != null)
+		{
+			return ev.getRefData();
+		}
+		return null;
+	}
+}
@@ -1,31 +1,53 @@
-// Copyright © 2012-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb;
-import goryachev.common.test.TF;
-import goryachev.secdb.bplustree.TestBPlusTree;
-import goryachev.secdb.segmented.TestEncHelper;
-import goryachev.secdb.segmented.TestEncryption;
-import goryachev.secdb.segmented.TestLarge;
-import goryachev.secdb.segmented.TOffsetIStream;
-import goryachev.secdb.segmented.TestSecDB;
-import goryachev.secdb.segmented.TestSegments;
-import goryachev.secdb.segmented.TestStreams;
-
-
-/** all secDB tests */
-public class AllTests
-{
-	public static void main(String[] args)
-	{
-		TF.run
-		(
-			TestBPlusTree.class,
-			TestEncHelper.class,
-			TestEncryption.class,
-			TestInMemoryStore.class,
-//			TestLarge.class,
-			TestSecDB.class,
-			TestSegments.class,
-			TestStreams.class
-		);
-	}
-}
+// Copyright © 2012-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.secdb.bplustree.TestBPlusTree;
+import goryachev.secdb.segmented.TestCompactor;
+import goryachev.secdb.segmented.TestEncHelper;
+import goryachev.secdb.segmented.TestEncryption;
+import goryachev.secdb.segmented.TestLarge;
+import goryachev.secdb.segmented.TOffsetIStream;
+import goryachev.secdb.segmented.TestSecDB;
+import goryachev.secdb.segmented.TestSegments;
+import goryachev.secdb.segmented.TestSegmentStreams;
+import goryachev.secdb.segmented.TestSnapshot;
+import goryachev.secdb.segmented.TestSpaceStats;
+import goryachev.secdb.segmented.TestStreams;
+import goryachev.secdb.segmented.TestValueLog;
+
+
+/** all secDB tests */
+public class AllTests
+{
+	public static void main(String[] args)
+	{
+		TF.run
+		(
+			TestBPlusTree.class,
+			TestBulkLoad.class,
+			TestCommitQueue.class,
+			TestCompactor.class,
+			TestCount.class,
+			TestCursor.class,
+			TestEncHelper.class,
+			TestEncryption.class,
+			TestInMemoryStore.class,
+			TestMultiGet.class,
+			TestNodeCache.class,
+			TestNodeFormat.class,
+			TestParallelScan.class,
+			TestPageSize.class,
+			TestReadAhead.class,
+			TestRemoveRange.class,
+//			TestLarge.class,
+			TestSecDB.class,
+			TestSegments.class,
+			TestSegmentStreams.class,
+			TestSnapshot.class,
+			TestSpaceStats.class,
+			TestStreams.class,
+			TestValueLog.class,
+			TestValuePrefetch.class
+		);
+	}
+}
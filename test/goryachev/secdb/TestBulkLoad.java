@@ -0,0 +1,157 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import goryachev.secdb.internal.BulkLoader;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+
+/**
+ * Tests the bulk loader using InMemoryStore.
+ */
+public class TestBulkLoad
+{
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@Test
+	public void testSorted() throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.setPageSize(1024);
+
+		TreeMap<String,String> expected = new TreeMap<>();
+		for(int i=0; i<20_000; i++)
+		{
+			String k = String.format("%06d", i);
+			expected.put(k, value(k, i));
+		}
+
+		db.bulkLoad(entries(new CList<>(expected.entrySet())));
+		check(db, expected);
+
+		// the tree remains usable
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=0; i<20_000; i+=3)
+				{
+					String k = String.format("%06d", i);
+					remove(new SKey(k));
+					expected.remove(k);
+				}
+				insert(new SKey("x"), IStream.of("x"));
+				expected.put("x", "x");
+			}
+		});
+		check(db, expected);
+	}
+
+
+	@Test
+	public void testEmpty() throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.bulkLoad(Collections.emptyIterator());
+		check(db, new TreeMap<>());
+	}
+
+
+	/** unsorted input with duplicate keys, merged with the existing entries */
+	@Test
+	public void testUnsorted() throws Exception
+	{
+		Random r = new Random();
+		long seed = r.nextLong();
+		r.setSeed(seed);
+		TF.print("seed", seed);
+
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.setPageSize(TestUtils.SMALL_PAGE_SIZE * 4);
+
+		TreeMap<String,String> expected = new TreeMap<>();
+		for(int i=0; i<1000; i+=2)
+		{
+			String k = String.format("%06d", i);
+			expected.put(k, "old");
+		}
+		db.bulkLoad(entries(new CList<>(expected.entrySet())));
+
+		CList<Map.Entry<String,String>> input = new CList<>();
+		for(int i=0; i<5000; i++)
+		{
+			String k = String.format("%06d", r.nextInt(2000));
+			String v = value(k, i);
+			input.add(Map.entry(k, v));
+			// the last one wins
+			expected.put(k, v);
+		}
+
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				BulkLoader<InMemoryRef> loader = new BulkLoader<>(db.getNodeCache(), db.getPageSize());
+				// forces multiple sorted runs
+				loader.setRunSize(10_000);
+				replaceRoot(loader.load(getRoot(), entries(input)));
+			}
+		});
+
+		check(db, expected);
+	}
+
+
+	protected static String value(String key, int ix)
+	{
+		// spans inline and stored values
+		return key + "*".repeat(ix % 300);
+	}
+
+
+	protected static Iterator<Map.Entry<SKey,IStream>> entries(CList<Map.Entry<String,String>> list)
+	{
+		Iterator<Map.Entry<String,String>> it = list.iterator();
+		return new Iterator<Map.Entry<SKey,IStream>>()
+		{
+			public boolean hasNext()
+			{
+				return it.hasNext();
+			}
+
+
+			public Map.Entry<SKey,IStream> next()
+			{
+				Map.Entry<String,String> en = it.next();
+				return Map.entry(new SKey(en.getKey()), IStream.of(en.getValue()));
+			}
+		};
+	}
+
+
+	protected void check(DBEngine<InMemoryRef> db, TreeMap<String,String> expected) throws Exception
+	{
+		CList<String> keys = new CList<>();
+
+		db.rangeQuery(new SKey(""), true, new SKey("\uffff"), true, (key, h) ->
+		{
+			byte[] b = h.getStoredValue().readBytes(Integer.MAX_VALUE);
+			TF.eq(new String(b, CKit.CHARSET_UTF8), expected.get(key.toString()));
+			keys.add(key.toString());
+			return true;
+		});
+
+		TF.eq(keys, new CList<>(expected.keySet()));
+	}
+}
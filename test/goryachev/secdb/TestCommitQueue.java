@@ -0,0 +1,229 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.SKey;
+import goryachev.secdb.internal.DataHolder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Tests the single-writer commit pipeline using InMemoryStore.
+ */
+public class TestCommitQueue
+{
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	/** a failed transaction does not affect the other transactions in the same batch */
+	@Test
+	public void testFailure() throws Exception
+	{
+		CountingStore store = new CountingStore();
+		DBEngine<InMemoryRef> db = new DBEngine(store);
+		db.setPageSize(TestUtils.SMALL_PAGE_SIZE);
+		// collect the transactions into one batch
+		db.setBatchLimits(3, 10_000);
+
+		CompletableFuture<Void> f1 = db.submit(insert("a", "b"));
+		CompletableFuture<Void> f2 = db.submit(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=0; i<100; i++)
+				{
+					insert(new SKey("x" + i), IStream.of("x"));
+				}
+				remove(new SKey("a"));
+				throw new Exception("failed");
+			}
+		});
+		CompletableFuture<Void> f3 = db.submit(insert("c"));
+
+		f1.get();
+		f3.get();
+		TF.isTrue(f2.isCompletedExceptionally());
+		TF.eq(store.commits.get(), 1);
+
+		TF.eq(value(db, "a"), "a");
+		TF.eq(value(db, "b"), "b");
+		TF.eq(value(db, "c"), "c");
+		TF.isTrue(db.getValue(new SKey("x0")) == null);
+
+		db.close();
+	}
+
+
+	/** transactions in a batch see the changes made by the preceding transactions */
+	@Test
+	public void testOrder() throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.setBatchLimits(2, 10_000);
+
+		CompletableFuture<Void> f1 = db.submit(insert("a"));
+		CompletableFuture<Void> f2 = db.submit(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				TF.isTrue(containsKey(new SKey("a")));
+				remove(new SKey("a"));
+				insert(new SKey("b"), IStream.of("b"));
+			}
+		});
+
+		f1.get();
+		f2.get();
+
+		TF.isTrue(db.getValue(new SKey("a")) == null);
+		TF.eq(value(db, "b"), "b");
+
+		db.close();
+	}
+
+
+	/** the store can request batching without the engine's batch limits (see IStore.getCommitLinger()) */
+	@Test
+	public void testStoreLinger() throws Exception
+	{
+		CountingStore store = new CountingStore()
+		{
+			public long getCommitLinger()
+			{
+				return 10_000;
+			}
+			
+			
+			public int getCommitBatchSize()
+			{
+				return 3;
+			}
+		};
+		DBEngine<InMemoryRef> db = new DBEngine(store);
+
+		CompletableFuture<Void> f1 = db.submit(insert("a"));
+		CompletableFuture<Void> f2 = db.submit(insert("b"));
+		CompletableFuture<Void> f3 = db.submit(insert("c"));
+
+		f1.get();
+		f2.get();
+		f3.get();
+		TF.eq(store.commits.get(), 1);
+		TF.eq(value(db, "c"), "c");
+
+		db.close();
+	}
+
+
+	@Test
+	public void testConcurrentWriters() throws Exception
+	{
+		int threadCount = 8;
+		int perThread = 200;
+
+		CountingStore store = new CountingStore();
+		DBEngine<InMemoryRef> db = new DBEngine(store);
+		db.setPageSize(TestUtils.SMALL_PAGE_SIZE);
+
+		Throwable[] error = new Throwable[1];
+		Thread[] threads = new Thread[threadCount];
+		for(int i=0; i<threadCount; i++)
+		{
+			int t = i;
+			threads[i] = new Thread(() ->
+			{
+				try
+				{
+					for(int j=0; j<perThread; j++)
+					{
+						db.execute(insert(t + "." + j));
+					}
+				}
+				catch(Throwable e)
+				{
+					error[0] = e;
+				}
+			}, "writer-" + i);
+		}
+
+		for(Thread t: threads)
+		{
+			t.start();
+		}
+
+		for(Thread t: threads)
+		{
+			t.join();
+		}
+
+		if(error[0] != null)
+		{
+			throw new Exception(error[0]);
+		}
+
+		TF.print("transactions", threadCount * perThread, "commits", store.commits.get());
+		TF.isTrue(store.commits.get() <= threadCount * perThread);
+
+		for(int t=0; t<threadCount; t++)
+		{
+			for(int j=0; j<perThread; j++)
+			{
+				String k = t + "." + j;
+				TF.eq(value(db, k), k);
+			}
+		}
+
+		db.close();
+	}
+
+
+	protected static DBTransaction<InMemoryRef> insert(String ... keys)
+	{
+		return new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(String k: keys)
+				{
+					insert(new SKey(k), IStream.of(k));
+				}
+			}
+		};
+	}
+
+
+	protected static String value(DBEngine<InMemoryRef> db, String key) throws Exception
+	{
+		DataHolder<InMemoryRef> h = db.getValue(new SKey(key));
+		byte[] b = h.getStoredValue().readBytes(Integer.MAX_VALUE);
+		return new String(b, CKit.CHARSET_UTF8);
+	}
+
+
+	//
+
+
+	protected static class CountingStore
+		extends InMemoryStore
+	{
+		public final AtomicInteger commits = new AtomicInteger();
+
+
+		public CountingStore()
+		{
+			super(false);
+		}
+
+
+		public void setRootRef(InMemoryRef ref) throws Exception
+		{
+			commits.incrementAndGet();
+			super.setRootRef(ref);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+
+/**
+ * Tests the order-statistic queries (count, rank, keyAt) using InMemoryStore.
+ */
+public class TestCount
+{
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+	
+	
+	@Test
+	public void testRandom() throws Exception
+	{
+		Random r = new Random();
+		long seed = r.nextLong();
+		r.setSeed(seed);
+		TF.print("seed", seed);
+		
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.setPageSize(TestUtils.SMALL_PAGE_SIZE);
+		TreeSet<String> expected = new TreeSet<>();
+		check(db, expected, r);
+		
+		for(int i=0; i<30; i++)
+		{
+			db.execute(new DBTransaction<InMemoryRef>()
+			{
+				protected void body() throws Exception
+				{
+					for(int j=0; j<100; j++)
+					{
+						String k = key(r.nextInt(2000));
+						if(r.nextInt(3) == 0)
+						{
+							remove(new SKey(k));
+							expected.remove(k);
+						}
+						else
+						{
+							insert(new SKey(k), IStream.of(k));
+							expected.add(k);
+						}
+					}
+				}
+			});
+			
+			check(db, expected, r);
+		}
+		
+		db.close();
+	}
+	
+	
+	@Test
+	public void testBulkLoad() throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.setPageSize(1024);
+		
+		TreeSet<String> expected = new TreeSet<>();
+		CList<Map.Entry<String,String>> input = new CList<>();
+		for(int i=0; i<10_000; i++)
+		{
+			String k = key(i);
+			expected.add(k);
+			input.add(Map.entry(k, k));
+		}
+		db.bulkLoad(TestBulkLoad.entries(input));
+		
+		TF.isTrue(db.getDepth() > 2);
+		check(db, expected, new Random());
+		
+		db.close();
+	}
+	
+	
+	protected static String key(int ix)
+	{
+		return String.format("%05d", ix);
+	}
+	
+	
+	protected void check(DBEngine<InMemoryRef> db, TreeSet<String> expected, Random r) throws Exception
+	{
+		CList<String> keys = new CList<>(expected);
+		int sz = keys.size();
+		
+		TF.eq(db.count(null, null), (long)sz);
+		TF.isTrue(db.keyAt(sz) == null);
+		TF.isTrue(db.keyAt(-1) == null);
+		
+		for(int i=0; i<50; i++)
+		{
+			String a = key(r.nextInt(2100));
+			String b = key(r.nextInt(2100));
+			
+			long ct = (a.compareTo(b) > 0) ? 0 : expected.subSet(a, true, b, false).size();
+			TF.eq(db.count(new SKey(a), new SKey(b)), ct);
+			TF.eq(db.count(new SKey(a), null), (long)expected.tailSet(a, true).size());
+			TF.eq(db.rank(new SKey(a)), (long)expected.headSet(a, false).size());
+			
+			if(sz > 0)
+			{
+				int ix = r.nextInt(sz);
+				TF.eq(db.keyAt(ix), new SKey(keys.get(ix)));
+			}
+		}
+	}
+}
@@ -0,0 +1,347 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import goryachev.secdb.internal.TreeCursor;
+import java.util.Random;
+import java.util.TreeSet;
+
+
+/**
+ * Tests the pull-based tree cursor using InMemoryStore.
+ */
+public class TestCursor
+{
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+	
+	
+	@Test
+	public void testRandom() throws Exception
+	{
+		Random r = new Random();
+		long seed = r.nextLong();
+		r.setSeed(seed);
+		TF.print("seed", seed);
+		
+		TreeSet<String> keys = new TreeSet<>();
+		DBEngine<InMemoryRef> db = create(keys, 2000);
+		
+		for(int i=0; i<200; i++)
+		{
+			String a = r.nextInt(10) == 0 ? null : key(r.nextInt(2200));
+			String b = r.nextInt(10) == 0 ? null : key(r.nextInt(2200));
+			boolean forward = r.nextBoolean();
+			
+			try(TreeCursor<InMemoryRef> c = db.cursor(skey(a), skey(b), forward))
+			{
+				TF.eq(read(c, Integer.MAX_VALUE), expected(keys, a, b, forward));
+			}
+		}
+		
+		db.close();
+	}
+	
+	
+	@Test
+	public void testEmpty() throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		
+		try(TreeCursor<InMemoryRef> c = db.cursor(null, null, true))
+		{
+			TF.isFalse(c.next());
+			TF.eq(c.skip(5), 0);
+			
+			String token = c.getToken();
+			try(TreeCursor<InMemoryRef> c2 = db.cursor(token))
+			{
+				TF.isFalse(c2.next());
+			}
+		}
+	}
+	
+	
+	/** pages through the range using continuation tokens, while the tree is being modified */
+	@Test
+	public void testToken() throws Exception
+	{
+		for(boolean forward: new boolean[] { true, false })
+		{
+			TreeSet<String> keys = new TreeSet<>();
+			DBEngine<InMemoryRef> db = create(keys, 1000);
+			String a = forward ? key(100) : key(900);
+			String b = forward ? key(900) : key(100);
+			CList<String> expected = expected(keys, a, b, forward);
+			CList<String> result = new CList<>();
+			
+			TreeCursor<InMemoryRef> c = db.cursor(skey(a), skey(b), forward);
+			String token = null;
+			for(;;)
+			{
+				CList<String> page = read(c, 37);
+				if(page.size() == 0)
+				{
+					break;
+				}
+				result.addAll(page);
+				token = c.getToken();
+				c.close();
+				
+				// the token pins the snapshot
+				db.execute(new DBTransaction<InMemoryRef>()
+				{
+					protected void body() throws Exception
+					{
+						remove(new SKey(page.get(0)));
+						String k = page.get(0) + "x";
+						insert(new SKey(k), IStream.of(k));
+					}
+				});
+				
+				c = db.cursor(token);
+			}
+			c.close();
+			
+			TF.eq(result, expected);
+			db.close();
+		}
+	}
+	
+	
+	@Test
+	public void testSeekSkip() throws Exception
+	{
+		TreeSet<String> keys = new TreeSet<>();
+		DBEngine<InMemoryRef> db = create(keys, 1000);
+		
+		try(TreeCursor<InMemoryRef> c = db.cursor(skey(key(100)), skey(key(900)), true))
+		{
+			c.seek(new SKey(key(500) + "a"));
+			TF.isTrue(c.next());
+			TF.eq(c.getKey().toString(), key(501));
+			
+			// the key before the start of the range is clamped
+			c.seek(new SKey(key(5)));
+			TF.isTrue(c.next());
+			TF.eq(c.getKey().toString(), key(100));
+			
+			TF.eq(c.skip(300), 300);
+			TF.eq(c.getKey().toString(), key(400));
+			TF.isTrue(c.next());
+			TF.eq(c.getKey().toString(), key(401));
+			
+			TF.eq(c.skip(1000), 498);
+			TF.eq(c.getKey().toString(), key(899));
+			TF.isFalse(c.next());
+		}
+		
+		try(TreeCursor<InMemoryRef> c = db.cursor(null, null, false))
+		{
+			c.seek(new SKey(key(500)));
+			TF.isTrue(c.next());
+			TF.eq(c.getKey().toString(), key(500));
+			TF.eq(c.skip(500), 500);
+			TF.eq(c.getKey().toString(), key(0));
+			TF.isFalse(c.next());
+		}
+		
+		db.close();
+	}
+	
+	
+	/** the version is pinned before its root is read, so a concurrent commit cannot release its storage */
+	@Test
+	public void testPinBeforeRoot() throws Exception
+	{
+		HookStore store = new HookStore();
+		DBEngine<InMemoryRef> db = new DBEngine(store);
+		db.setPageSize(TestUtils.SMALL_PAGE_SIZE);
+		update(db, key(0));
+		
+		String token;
+		try(TreeCursor<InMemoryRef> c = db.cursor(null, null, true))
+		{
+			token = c.getToken();
+		}
+		
+		long[] oldest = new long[1];
+		store.hook = () ->
+		{
+			// commits from another thread while the root is being read
+			Thread t = new Thread(() ->
+			{
+				try
+				{
+					update(db, key(1));
+				}
+				catch(Exception e)
+				{
+					e.printStackTrace();
+				}
+			});
+			t.start();
+			t.join();
+			oldest[0] = db.getOldestSnapshotSequence();
+		};
+		
+		long seq = db.getCommitSequence();
+		db.openSnapshot().close();
+		TF.eq(oldest[0], seq);
+		
+		db.getNodeCache().clear();
+		store.hook = () -> oldest[0] = db.getOldestSnapshotSequence();
+		db.cursor(token).close();
+		TF.eq(oldest[0], 0L);
+		
+		db.close();
+	}
+	
+	
+	protected static void update(DBEngine<InMemoryRef> db, String k) throws Exception
+	{
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				insert(new SKey(k), IStream.of(k));
+			}
+		});
+	}
+	
+	
+	protected DBEngine<InMemoryRef> create(TreeSet<String> keys, int count) throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.setPageSize(TestUtils.SMALL_PAGE_SIZE);
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=0; i<count; i++)
+				{
+					String k = key(i);
+					insert(new SKey(k), IStream.of(k));
+					keys.add(k);
+				}
+			}
+		});
+		TF.isTrue(db.getDepth() > 2);
+		return db;
+	}
+	
+	
+	protected static String key(int ix)
+	{
+		return String.format("%05d", ix);
+	}
+	
+	
+	protected static SKey skey(String k)
+	{
+		return k == null ? null : new SKey(k);
+	}
+	
+	
+	protected static CList<String> read(TreeCursor<InMemoryRef> c, int max) throws Exception
+	{
+		CList<String> rv = new CList<>();
+		while((rv.size() < max) && c.next())
+		{
+			String k = c.getKey().toString();
+			byte[] b = c.getValue().getStoredValue().readBytes(Integer.MAX_VALUE);
+			TF.eq(new String(b, CKit.CHARSET_UTF8), k);
+			rv.add(k);
+		}
+		return rv;
+	}
+	
+	
+	protected static CList<String> expected(TreeSet<String> keys, String start, String end, boolean forward)
+	{
+		CList<String> rv = new CList<>();
+		for(String k: (forward ? keys : keys.descendingSet()))
+		{
+			if((start != null) && isBefore(k, start, forward))
+			{
+				continue;
+			}
+			if((end != null) && !isBefore(k, end, forward))
+			{
+				break;
+			}
+			rv.add(k);
+		}
+		return rv;
+	}
+	
+	
+	protected static boolean isBefore(String a, String b, boolean forward)
+	{
+		int c = a.compareTo(b);
+		return forward ? (c < 0) : (c > 0);
+	}
+	
+	
+	//
+	
+	
+	/** runs the hook once, on the first root or node read after the hook has been set */
+	protected static class HookStore
+		extends InMemoryStore
+	{
+		public volatile Hook hook;
+		
+		
+		public HookStore()
+		{
+			super(false);
+		}
+		
+		
+		public InMemoryRef getRootRef()
+		{
+			runHook();
+			return super.getRootRef();
+		}
+		
+		
+		public IStream load(InMemoryRef ref) throws Exception
+		{
+			runHook();
+			return super.load(ref);
+		}
+		
+		
+		protected void runHook()
+		{
+			Hook h = hook;
+			if(h != null)
+			{
+				hook = null;
+				try
+				{
+					h.run();
+				}
+				catch(Exception e)
+				{
+					throw new RuntimeException(e);
+				}
+			}
+		}
+	}
+	
+	
+	//
+	
+	
+	protected interface Hook
+	{
+		public void run() throws Exception;
+	}
+}
@@ -0,0 +1,94 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import goryachev.secdb.internal.DataHolder;
+import goryachev.secdb.internal.NodeCache;
+import goryachev.secdb.internal.TreeCursor;
+import java.util.Collections;
+import java.util.Random;
+
+
+/**
+ * Tests the batched multi-get using InMemoryStore.
+ */
+public class TestMultiGet
+{
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+	
+	
+	@Test
+	public void testOrder() throws Exception
+	{
+		Random r = new Random();
+		long seed = r.nextLong();
+		r.setSeed(seed);
+		TF.print("seed", seed);
+		
+		DBEngine<InMemoryRef> db = TestUtils.createDB(0, 1000);
+		
+		// random keys, including duplicates and missing keys
+		CList<SKey> keys = new CList<>();
+		for(int i=0; i<500; i++)
+		{
+			keys.add(TestUtils.key(r.nextInt(1200)));
+		}
+		
+		CList<DataHolder<InMemoryRef>> values = db.getValues(keys);
+		TF.eq(values.size(), keys.size());
+		
+		for(int i=0; i<keys.size(); i++)
+		{
+			SKey k = keys.get(i);
+			DataHolder<InMemoryRef> h = values.get(i);
+			if(Integer.parseInt(k.toString()) > 1000)
+			{
+				TF.isTrue(h == null);
+			}
+			else
+			{
+				byte[] b = h.getStoredValue().readBytes(Integer.MAX_VALUE);
+				TF.eq(new String(b, CKit.CHARSET_UTF8), k.toString());
+			}
+		}
+		
+		TF.eq(db.getValues(Collections.emptyList()).size(), 0);
+	}
+	
+	
+	/** each node is decoded at most once */
+	@Test
+	public void testSingleDescent() throws Exception
+	{
+		DBEngine<InMemoryRef> db = TestUtils.createDB(0, 1000);
+		NodeCache<InMemoryRef> cache = db.getNodeCache();
+		
+		// the full scan visits every node once
+		cache.clear();
+		long start = cache.getMissCount();
+		try(TreeCursor<InMemoryRef> c = db.cursor(null, null, true))
+		{
+			while(c.next())
+			{
+			}
+		}
+		long nodes = cache.getMissCount() - start;
+		
+		CList<SKey> keys = new CList<>();
+		for(int i=1000; i>=0; i--)
+		{
+			keys.add(TestUtils.key(i));
+		}
+		
+		cache.clear();
+		long misses = cache.getMissCount();
+		db.getValues(keys);
+		TF.eq(cache.getMissCount() - misses, nodes);
+	}
+}
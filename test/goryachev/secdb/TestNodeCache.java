@@ -0,0 +1,95 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.SKey;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import goryachev.secdb.internal.DataHolder;
+import goryachev.secdb.internal.NodeCache;
+
+
+/**
+ * Tests NodeCache using InMemoryStore.
+ */
+public class TestNodeCache
+{
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@Test
+	public void testHits() throws Exception
+	{
+		DBEngine<InMemoryRef> db = TestUtils.createDB(0, 1000);
+		NodeCache<InMemoryRef> cache = db.getNodeCache();
+		cache.clear();
+
+		lookup(db, 0, 1000);
+		long misses = cache.getMissCount();
+		long hits = cache.getHitCount();
+		TF.isTrue(misses > 0);
+
+		// everything is in the cache now
+		lookup(db, 0, 1000);
+		TF.eq(cache.getMissCount(), misses);
+		TF.isTrue(cache.getHitCount() > hits);
+	}
+
+
+	@Test
+	public void testCopyOnWrite() throws Exception
+	{
+		DBEngine<InMemoryRef> db = TestUtils.createDB(0, 100);
+		BPlusTreeNode<SKey,DataHolder<InMemoryRef>> root = db.loadRoot();
+		TF.isTrue(root.isReadOnly());
+
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=0; i<=100; i++)
+				{
+					remove(TestUtils.key(i));
+				}
+			}
+		});
+
+		// the old version of the tree must remain intact
+		for(int i=0; i<=100; i++)
+		{
+			TF.isTrue(root.containsKey(TestUtils.key(i)));
+			TF.isFalse(db.containsKey(TestUtils.key(i)));
+		}
+	}
+
+
+	@Test
+	public void testCapacity() throws Exception
+	{
+		DBEngine<InMemoryRef> db = TestUtils.createDB(0, 1000);
+		NodeCache<InMemoryRef> cache = db.getNodeCache();
+
+		cache.setCapacity(200);
+		TF.isTrue(cache.getSize() <= 200);
+
+		lookup(db, 0, 1000);
+		TF.isTrue(cache.getSize() <= 200);
+
+		cache.setCapacity(0);
+		TF.eq(cache.getNodeCount(), 0);
+
+		lookup(db, 0, 1000);
+		TF.eq(cache.getNodeCount(), 0);
+	}
+
+
+	protected void lookup(DBEngine<InMemoryRef> db, int min, int max) throws Exception
+	{
+		for(int i=min; i<=max; i++)
+		{
+			TF.notNull(db.getValue(TestUtils.key(i)));
+		}
+	}
+}
@@ -0,0 +1,186 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.io.DWriterBytes;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CSet;
+import goryachev.common.util.SKey;
+import goryachev.secdb.internal.DataHolder;
+import goryachev.secdb.util.ByteArrayIStream;
+
+
+/**
+ * Tests node serialization format using InMemoryStore.
+ */
+public class TestNodeFormat
+{
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	/** the nodes written in version 1 format must remain readable */
+	@Test
+	public void testVersion1() throws Exception
+	{
+		InMemoryStore store = new InMemoryStore(false);
+		createVersion1(store);
+
+		DBEngine<InMemoryRef> db = new DBEngine(store);
+		TF.eq(db.getDepth(), 2);
+		TF.eq(value(db, "a"), "1");
+		TF.eq(value(db, "b"), "big value");
+		TF.eq(value(db, "m"), "2");
+		// the subtree counts are not stored in version 1
+		TF.eq(db.count(null, null), 3L);
+		TF.eq(db.keyAt(2), new SKey("m"));
+
+		// modified nodes are written in the current format
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				insert(new SKey("c"), IStream.of("3"));
+			}
+		});
+
+		db.getNodeCache().clear();
+		TF.eq(value(db, "a"), "1");
+		TF.eq(value(db, "b"), "big value");
+		TF.eq(value(db, "c"), "3");
+		TF.eq(value(db, "m"), "2");
+	}
+
+
+	/** the commit does not read the unmodified version 1 subtrees to compute their counts */
+	@Test
+	public void testVersion1Count() throws Exception
+	{
+		CSet<InMemoryRef> loaded = new CSet<>();
+		InMemoryStore store = new InMemoryStore(false)
+		{
+			public IStream load(InMemoryRef ref) throws Exception
+			{
+				loaded.add(ref);
+				return super.load(ref);
+			}
+		};
+		InMemoryRef right = createVersion1(store);
+
+		DBEngine<InMemoryRef> db = new DBEngine(store);
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				insert(new SKey("c"), IStream.of("3"));
+			}
+		});
+		TF.isFalse(loaded.contains(right));
+
+		// the unknown count is written as such, and computed on demand
+		db.getNodeCache().clear();
+		TF.eq(db.count(null, null), 4L);
+		TF.eq(db.keyAt(3), new SKey("m"));
+		TF.isTrue(loaded.contains(right));
+	}
+
+
+	/** creates a two-level tree in version 1 format, returns the ref of the right leaf */
+	private static InMemoryRef createVersion1(InMemoryStore store) throws Exception
+	{
+		InMemoryRef big = store.store(IStream.of("big value"), false);
+
+		// leaf: a=1, b=<ref>
+		DWriterBytes wr = new DWriterBytes();
+		wr.writeInt8(2);
+		wr.writeString("a");
+		wr.writeString("b");
+		wr.writeUInt8(2);
+		wr.writeUInt8(1);
+		wr.write('1');
+		wr.writeUInt8(255);
+		store.writeRef(big, wr);
+		InMemoryRef left = store.store(new ByteArrayIStream(wr.toByteArray()), true);
+
+		// leaf: m=2
+		wr = new DWriterBytes();
+		wr.writeInt8(1);
+		wr.writeString("m");
+		wr.writeUInt8(1);
+		wr.writeUInt8(1);
+		wr.write('2');
+		InMemoryRef right = store.store(new ByteArrayIStream(wr.toByteArray()), true);
+
+		// internal node
+		wr = new DWriterBytes();
+		wr.writeInt8(-1);
+		wr.writeString("m");
+		wr.writeUInt8(2);
+		wr.writeUInt8(255);
+		store.writeRef(left, wr);
+		wr.writeUInt8(255);
+		store.writeRef(right, wr);
+		InMemoryRef root = store.store(new ByteArrayIStream(wr.toByteArray()), true);
+		store.setRootRef(root);
+		return right;
+	}
+
+
+	@Test
+	public void testRoundTrip() throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.setPageSize(1024);
+
+		String[] keys =
+		{
+			"",
+			"a",
+			"ab",
+			"abc",
+			"notes/2024/01/01",
+			"notes/2024/01/02",
+			"notes/2024/02/01",
+			"été",
+			"été/中文",
+			"😀",
+			"😁",
+			"😁😀",
+		};
+
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=0; i<keys.length; i++)
+				{
+					insert(new SKey(keys[i]), IStream.of(value(i)));
+				}
+			}
+		});
+
+		db.getNodeCache().clear();
+
+		for(int i=0; i<keys.length; i++)
+		{
+			TF.eq(value(db, keys[i]), value(i));
+		}
+	}
+
+
+	protected static String value(int ix)
+	{
+		// spans inline and stored values
+		return ix + ":" + "*".repeat(ix * 40);
+	}
+
+
+	protected static String value(DBEngine<InMemoryRef> db, String key) throws Exception
+	{
+		DataHolder<InMemoryRef> h = db.getValue(new SKey(key));
+		byte[] b = h.getStoredValue().readBytes(Integer.MAX_VALUE);
+		return new String(b, CKit.CHARSET_UTF8);
+	}
+}
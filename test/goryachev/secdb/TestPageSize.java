@@ -0,0 +1,231 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import goryachev.secdb.internal.DBEngineIO;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+
+/**
+ * Tests size-aware node splitting and merging using InMemoryStore.
+ */
+public class TestPageSize
+{
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@Test
+	public void testDepth() throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.setPageSize(4096);
+
+		TreeSet<String> expected = new TreeSet<>();
+		insert(db, expected, 0, 100_000);
+
+		int depth = db.getDepth();
+		TF.print("depth", depth);
+		TF.isTrue(depth <= 3);
+
+		check(db, expected);
+	}
+
+
+	@Test
+	public void testShrinkPage() throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.setPageSize(16 * 1024);
+
+		TreeSet<String> expected = new TreeSet<>();
+		insert(db, expected, 0, 5000);
+
+		// the nodes written with the larger page now overflow, including the root
+		db.setPageSize(TestUtils.SMALL_PAGE_SIZE);
+		insert(db, expected, 5000, 6000);
+		check(db, expected);
+	}
+
+
+	@Test
+	public void testStress() throws Exception
+	{
+		Random r = new Random();
+		long seed = r.nextLong();
+		r.setSeed(seed);
+		TF.print("seed", seed);
+
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.setPageSize(TestUtils.SMALL_PAGE_SIZE);
+
+		TreeSet<String> expected = new TreeSet<>();
+
+		for(int i=0; i<50; i++)
+		{
+			db.execute(new DBTransaction<InMemoryRef>()
+			{
+				protected void body() throws Exception
+				{
+					for(int j=0; j<100; j++)
+					{
+						String k = "k" + r.nextInt(1000);
+						if(r.nextInt(3) == 0)
+						{
+							remove(new SKey(k));
+							expected.remove(k);
+						}
+						else
+						{
+							insert(new SKey(k), IStream.of(k));
+							expected.add(k);
+						}
+					}
+				}
+			});
+
+			check(db, expected);
+		}
+
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(String k: expected)
+				{
+					remove(new SKey(k));
+				}
+			}
+		});
+
+		expected.clear();
+		check(db, expected);
+		TF.eq(db.getDepth(), 1);
+	}
+
+
+	@Test
+	public void testInlineLimit() throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.setPageSize(16 * 1024);
+		db.setInlineLimit(4096);
+
+		TreeMap<String,String> expected = new TreeMap<>();
+		insertLong(db, expected, 0, 500);
+		TF.eq(countRefs(db), 0);
+		checkLong(db, expected);
+
+		// the limit is reduced to a quarter of the page
+		db.setPageSize(1024);
+		insertLong(db, expected, 500, 1000);
+		TF.eq(countRefs(db), 500);
+		checkLong(db, expected);
+
+		// the values written earlier remain inline
+		db.setInlineLimit(0);
+		insertLong(db, expected, 1000, 1010);
+		TF.eq(countRefs(db), 510);
+		checkLong(db, expected);
+
+		try
+		{
+			db.setInlineLimit(DBEngineIO.MAX_INLINE_LIMIT + 1);
+			TF.fail();
+		}
+		catch(IllegalArgumentException ok)
+		{
+		}
+	}
+
+
+	protected void insert(DBEngine<InMemoryRef> db, TreeSet<String> expected, int min, int max) throws Exception
+	{
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=min; i<max; i++)
+				{
+					String k = "notes/" + (i % 100) + "/" + i;
+					insert(new SKey(k), IStream.of(k));
+					expected.add(k);
+				}
+			}
+		});
+	}
+
+
+	/** inserts the values of 300 to 3,000 bytes */
+	protected void insertLong(DBEngine<InMemoryRef> db, TreeMap<String,String> expected, int min, int max) throws Exception
+	{
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=min; i<max; i++)
+				{
+					String k = String.format("%05d", i);
+					String v = k + "*".repeat(300 + (i * 37 % 2700));
+					insert(new SKey(k), IStream.of(v));
+					expected.put(k, v);
+				}
+			}
+		});
+	}
+
+
+	protected void checkLong(DBEngine<InMemoryRef> db, TreeMap<String,String> expected) throws Exception
+	{
+		CList<String> result = new CList<>();
+
+		db.rangeQuery(new SKey(""), true, new SKey("\uffff"), true, (key, h) ->
+		{
+			byte[] b = h.getStoredValue().readBytes(Integer.MAX_VALUE);
+			TF.eq(new String(b, CKit.CHARSET_UTF8), expected.get(key.toString()));
+			result.add(key.toString());
+			return true;
+		});
+
+		TF.eq(result, new CList<>(expected.keySet()));
+	}
+
+
+	/** returns the number of values stored out of line */
+	protected int countRefs(DBEngine<InMemoryRef> db) throws Exception
+	{
+		int[] count = new int[1];
+		db.rangeQuery(new SKey(""), true, new SKey("\uffff"), true, (key, h) ->
+		{
+			if(h.isRef())
+			{
+				count[0]++;
+			}
+			return true;
+		});
+		return count[0];
+	}
+
+
+	protected void check(DBEngine<InMemoryRef> db, TreeSet<String> expected) throws Exception
+	{
+		CList<String> result = new CList<>();
+
+		db.rangeQuery(new SKey(""), true, new SKey("\uffff"), true, (key, h) ->
+		{
+			byte[] b = h.getStoredValue().readBytes(Integer.MAX_VALUE);
+			TF.eq(new String(b, CKit.CHARSET_UTF8), key.toString());
+			result.add(key.toString());
+			return true;
+		});
+
+		TF.eq(result, new CList<>(expected));
+	}
+}
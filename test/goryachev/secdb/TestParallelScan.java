@@ -0,0 +1,202 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Tests the parallel range scan using InMemoryStore.
+ */
+public class TestParallelScan
+{
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+	
+	
+	@Test
+	public void testRandom() throws Exception
+	{
+		Random r = new Random();
+		long seed = r.nextLong();
+		r.setSeed(seed);
+		TF.print("seed", seed);
+		
+		TreeSet<String> keys = new TreeSet<>();
+		DBEngine<InMemoryRef> db = create(keys, 5000);
+		
+		for(int i=0; i<50; i++)
+		{
+			String a = r.nextInt(10) == 0 ? null : key(r.nextInt(5500));
+			String b = r.nextInt(10) == 0 ? null : key(r.nextInt(5500));
+			CList<String> expected = expected(keys, a, b);
+			
+			// unordered
+			ConcurrentSkipListSet<String> found = new ConcurrentSkipListSet<>();
+			AtomicInteger count = new AtomicInteger();
+			db.parallelQuery(skey(a), skey(b), (k, h) ->
+			{
+				TF.eq(value(h.getStoredValue()), k.toString());
+				found.add(k.toString());
+				count.incrementAndGet();
+				return true;
+			});
+			TF.eq(new CList<>(found), expected);
+			TF.eq(count.get(), expected.size());
+			
+			// ordered
+			CList<String> result = new CList<>();
+			db.parallelQuery(skey(a), skey(b), (k, h) -> value(h.getStoredValue()), (k, v) ->
+			{
+				TF.eq(v, k.toString());
+				result.add(v);
+				return true;
+			});
+			TF.eq(result, expected);
+		}
+		
+		db.close();
+	}
+	
+	
+	@Test
+	public void testStop() throws Exception
+	{
+		TreeSet<String> keys = new TreeSet<>();
+		DBEngine<InMemoryRef> db = create(keys, 5000);
+		
+		CList<String> result = new CList<>();
+		db.parallelQuery(null, null, (k, h) -> k.toString(), (k, v) ->
+		{
+			result.add(v);
+			return result.size() < 100;
+		});
+		TF.eq(result, new CList<>(new CList<>(keys).subList(0, 100)));
+		
+		AtomicInteger count = new AtomicInteger();
+		db.parallelQuery(null, null, (k, h) ->
+		{
+			return count.incrementAndGet() < 100;
+		});
+		TF.isTrue(count.get() < keys.size());
+		
+		db.close();
+	}
+	
+	
+	@Test
+	public void testException() throws Exception
+	{
+		TreeSet<String> keys = new TreeSet<>();
+		DBEngine<InMemoryRef> db = create(keys, 5000);
+		
+		for(boolean ordered: new boolean[] { false, true })
+		{
+			try
+			{
+				if(ordered)
+				{
+					db.parallelQuery(null, null, (k, h) -> fail(k), (k, v) -> true);
+				}
+				else
+				{
+					db.parallelQuery(null, null, (k, h) -> fail(k) == null);
+				}
+				TF.fail();
+			}
+			catch(Exception e)
+			{
+				TF.eq(e.getMessage(), "failed");
+			}
+		}
+		
+		db.close();
+	}
+	
+	
+	@Test
+	public void testEmpty() throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		CList<String> result = new CList<>();
+		db.parallelQuery(null, null, (k, h) -> k.toString(), (k, v) -> result.add(v));
+		db.parallelQuery(null, null, (k, h) -> result.add(k.toString()));
+		TF.eq(result.size(), 0);
+	}
+	
+	
+	protected static Object fail(SKey k) throws Exception
+	{
+		if(k.toString().equals(key(3333)))
+		{
+			throw new Exception("failed");
+		}
+		return null;
+	}
+	
+	
+	protected DBEngine<InMemoryRef> create(TreeSet<String> keys, int count) throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.setPageSize(TestUtils.SMALL_PAGE_SIZE * 4);
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=0; i<count; i++)
+				{
+					String k = key(i);
+					insert(new SKey(k), IStream.of(k));
+					keys.add(k);
+				}
+			}
+		});
+		TF.isTrue(db.getDepth() > 2);
+		return db;
+	}
+	
+	
+	protected static String key(int ix)
+	{
+		return String.format("%05d", ix);
+	}
+	
+	
+	protected static SKey skey(String k)
+	{
+		return k == null ? null : new SKey(k);
+	}
+	
+	
+	protected static String value(IStored v) throws Exception
+	{
+		return new String(v.readBytes(Integer.MAX_VALUE), CKit.CHARSET_UTF8);
+	}
+	
+	
+	protected static CList<String> expected(TreeSet<String> keys, String start, String end)
+	{
+		CList<String> rv = new CList<>();
+		for(String k: keys)
+		{
+			if((start != null) && (k.compareTo(start) < 0))
+			{
+				continue;
+			}
+			if((end != null) && (k.compareTo(end) >= 0))
+			{
+				break;
+			}
+			rv.add(k);
+		}
+		return rv;
+	}
+}
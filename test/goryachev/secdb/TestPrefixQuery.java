@@ -1,54 +1,123 @@
-// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb;
-import goryachev.common.test.TF;
-import goryachev.common.test.Test;
-import goryachev.common.util.CKit;
-import goryachev.common.util.CList;
-import goryachev.common.util.SKey;
-
-
-/**
- * Tests prefix query using InMemoryStore.
- */
-public class TestPrefixQuery
-{
-	public static void main(String[] args)
-	{
-		TF.run();
-	}
-	
-	
-	@Test
-	public void test() throws Exception
-	{
-		t(0, 10, "", 0, 1, 10, 2, 3, 4, 5, 6, 7, 8, 9);
-		t(0, 1000, 90, 90, 900, 901, 902, 903, 904, 905, 906, 907, 908, 909);
-		t(0, 1000, 123, 123);
-		t(0, 1000, 1234);
-		t(0, 1000, "0", 0);
-		t(0, 1000, "1000", 1000);
-	}
-	
-	
-	protected void t(int min, int max, Object prefix, int ... expected) throws Exception
-	{
-		CList<Integer> exp = TestUtils.asList(expected);
-		DBEngine<InMemoryRef> db = TestUtils.createDB(min, max);
-
-		SKey px = new SKey(prefix.toString());
-		
-		CList<Integer> result = new CList();
-		
-		db.prefixQuery(px, (key, dataHolder) ->
-		{
-			byte[] b = dataHolder.getStoredValue().getIStream().readBytes(Integer.MAX_VALUE);
-			String s = new String(b, CKit.CHARSET_UTF8);
-			int v = Integer.parseInt(s);
-			result.add(v);
-			
-			return true;
-		});
-		
-		TF.eq(result, exp);
-	}
-}
+// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import java.util.Collections;
+
+
+/**
+ * Tests prefix query using InMemoryStore.
+ */
+public class TestPrefixQuery
+{
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+	
+	
+	@Test
+	public void test() throws Exception
+	{
+		t(0, 10, "", 0, 1, 10, 2, 3, 4, 5, 6, 7, 8, 9);
+		t(0, 1000, 90, 90, 900, 901, 902, 903, 904, 905, 906, 907, 908, 909);
+		t(0, 1000, 123, 123);
+		t(0, 1000, 1234);
+		t(0, 1000, "0", 0);
+		t(0, 1000, "1000", 1000);
+	}
+	
+	
+	/** the prefix is converted to a range, which must handle the largest char value */
+	@Test
+	public void testSuccessor() throws Exception
+	{
+		String[] keys =
+		{
+			"a",
+			"ab",
+			"a\uffff",
+			"a\uffffb",
+			"b",
+			"\uffff",
+			"\uffffx",
+			"\uffff\uffff",
+		};
+		
+		DBEngine<InMemoryRef> db = new DBEngine(new InMemoryStore(false));
+		db.setPageSize(TestUtils.SMALL_PAGE_SIZE);
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(String k: keys)
+				{
+					insert(new SKey(k), IStream.of(k));
+				}
+			}
+		});
+		
+		t2(db, keys, "a");
+		t2(db, keys, "a\uffff");
+		t2(db, keys, "\uffff");
+		t2(db, keys, "\uffff\uffff");
+		t2(db, keys, "");
+		t2(db, keys, "c");
+	}
+	
+	
+	protected void t2(DBEngine<InMemoryRef> db, String[] keys, String prefix) throws Exception
+	{
+		CList<String> exp = new CList<>();
+		for(String k: keys)
+		{
+			if(k.startsWith(prefix))
+			{
+				exp.add(k);
+			}
+		}
+		
+		CList<String> result = new CList<>();
+		db.prefixQuery(new SKey(prefix), (key, h) ->
+		{
+			result.add(key.toString());
+			return true;
+		});
+		TF.eq(result, exp);
+		
+		result.clear();
+		db.prefixReverseQuery(new SKey(prefix), (key, h) ->
+		{
+			result.add(key.toString());
+			return true;
+		});
+		Collections.reverse(exp);
+		TF.eq(result, exp);
+	}
+	
+	
+	protected void t(int min, int max, Object prefix, int ... expected) throws Exception
+	{
+		CList<Integer> exp = TestUtils.asList(expected);
+		DBEngine<InMemoryRef> db = TestUtils.createDB(min, max);
+
+		SKey px = new SKey(prefix.toString());
+		
+		CList<Integer> result = new CList();
+		
+		db.prefixQuery(px, (key, dataHolder) ->
+		{
+			byte[] b = dataHolder.getStoredValue().getIStream().readBytes(Integer.MAX_VALUE);
+			String s = new String(b, CKit.CHARSET_UTF8);
+			int v = Integer.parseInt(s);
+			result.add(v);
+			
+			return true;
+		});
+		
+		TF.eq(result, exp);
+	}
+}
@@ -1,58 +1,95 @@
-// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb;
-import goryachev.common.test.TF;
-import goryachev.common.test.Test;
-import goryachev.common.util.CKit;
-import goryachev.common.util.CList;
-import goryachev.common.util.SKey;
-
-
-/**
- * Tests reverse prefix query using InMemoryStore.
- */
-public class TestPrefixReverseQuery
-{
-	public static void main(String[] args)
-	{
-		TF.run();
-	}
-	
-	
-	@Test
-	public void test() throws Exception
-	{
-		t(0, 10, "", 9, 8, 7, 6, 5, 4, 3, 2, 10, 1, 0);
-		t(0, 1000, "90", 909, 908, 907, 906, 905, 904, 903, 902, 901, 900, 90); 
-		t(0, 1000, 123, 123);
-		t(0, 1000, 1234);
-		t(0, 10, "a");
-		t(0, 10, ".");
-		t(0, 1000, "0", 0);
-		t(0, 1000, "1000", 1000);
-	}
-	
-	
-	protected void t(int min, int max, Object prefix, int ... expected) throws Exception
-	{
-		CList<Integer> exp = TestUtils.asList(expected);
-		DBEngine<InMemoryRef> db = TestUtils.createDB(min, max);
-
-		SKey px = new SKey(prefix.toString());
-		
-		CList<Integer> result = new CList();
-		
-		db.prefixReverseQuery(px, (key, dataHolder) ->
-		{
-			byte[] b = dataHolder.getStoredValue().getIStream().readBytes(Integer.MAX_VALUE);
-			String s = new String(b, CKit.CHARSET_UTF8);
-			int v = Integer.parseInt(s);
-			result.add(v);
-			
-//			D.print(" --> " + key);
-			
-			return true;
-		});
-		
-		TF.eq(result, exp);
-	}
-}
+// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+
+
+/**
+ * Tests reverse prefix query using InMemoryStore.
+ */
+public class TestPrefixReverseQuery
+{
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+	
+	
+	@Test
+	public void test() throws Exception
+	{
+		t(0, 10, "", 9, 8, 7, 6, 5, 4, 3, 2, 10, 1, 0);
+		t(0, 1000, "90", 909, 908, 907, 906, 905, 904, 903, 902, 901, 900, 90); 
+		t(0, 1000, 123, 123);
+		t(0, 1000, 1234);
+		t(0, 10, "a");
+		t(0, 10, ".");
+		t(0, 1000, "0", 0);
+		t(0, 1000, "1000", 1000);
+	}
+	
+	
+	/** the prefix made of the largest characters has no successor, so the query starts at the last key */
+	@Test
+	public void testNoSuccessor() throws Exception
+	{
+		String mx = String.valueOf(Character.MAX_VALUE);
+		DBEngine<InMemoryRef> db = TestUtils.createDB(0, 100);
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(String k: new String[] { mx, mx + "a", mx + mx, mx + mx + mx })
+				{
+					insert(new SKey(k), IStream.of(k));
+				}
+			}
+		});
+		
+		CList<String> result = new CList();
+		db.prefixReverseQuery(new SKey(mx + mx), (key, dataHolder) ->
+		{
+			result.add(key.toString());
+			return true;
+		});
+		
+		TF.eq(result, new CList<>(new String[] { mx + mx + mx, mx + mx }));
+		
+		result.clear();
+		db.prefixReverseQuery(new SKey(mx), (key, dataHolder) ->
+		{
+			result.add(key.toString());
+			return true;
+		});
+		
+		TF.eq(result, new CList<>(new String[] { mx + mx + mx, mx + mx, mx + "a", mx }));
+	}
+	
+	
+	protected void t(int min, int max, Object prefix, int ... expected) throws Exception
+	{
+		CList<Integer> exp = TestUtils.asList(expected);
+		DBEngine<InMemoryRef> db = TestUtils.createDB(min, max);
+
+		SKey px = new SKey(prefix.toString());
+		
+		CList<Integer> result = new CList();
+		
+		db.prefixReverseQuery(px, (key, dataHolder) ->
+		{
+			byte[] b = dataHolder.getStoredValue().getIStream().readBytes(Integer.MAX_VALUE);
+			String s = new String(b, CKit.CHARSET_UTF8);
+			int v = Integer.parseInt(s);
+			result.add(v);
+			
+//			D.print(" --> " + key);
+			
+			return true;
+		});
+		
+		TF.eq(result, exp);
+	}
+}
@@ -1,53 +1,128 @@
-// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
-package goryachev.secdb;
-import goryachev.common.test.TF;
-import goryachev.common.test.Test;
-import goryachev.common.util.CKit;
-import goryachev.common.util.CList;
-import goryachev.common.util.SKey;
-
-
-/**
- * Tests range query using InMemoryStore.
- */
-public class TestRangeQuery
-{
-	public static void main(String[] args)
-	{
-		TF.run();
-	}
-	
-	
-	@Test
-	public void test() throws Exception
-	{
-		t(0, 20, "1", true, "9", true, 1, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 2, 20, 3, 4, 5, 6, 7, 8, 9);
-		t(0, 20, "1", true, "15", false, 1, 10, 11, 12, 13, 14);
-		t(0, 20, "15", false, "1", true, 14, 13, 12, 11, 10, 1); 
-		t(0, 1000, "", true, "1", true, 0, 1);
-	}
-	
-	
-	protected void t(int min, int max, Object start, boolean includeStart, Object end, boolean includeEnd, int ... expected) throws Exception
-	{
-		CList<Integer> exp = TestUtils.asList(expected);
-		DBEngine<InMemoryRef> db = TestUtils.createDB(min, max);
-
-		SKey sk = new SKey(start.toString());
-		SKey ek = new SKey(end.toString());
-		
-		CList<Integer> result = new CList();
-		
-		db.rangeQuery(sk, includeStart, ek, includeEnd, (key, dataHolder) ->
-		{
-			byte[] b = dataHolder.getStoredValue().getIStream().readBytes(Integer.MAX_VALUE);
-			String s = new String(b, CKit.CHARSET_UTF8);
-			int v = Integer.parseInt(s);
-			result.add(v);
-			
-			return true;
-		});
-		
-		TF.eq(result, exp);
-	}
-}
+// Copyright © 2019-2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+
+/**
+ * Tests range query using InMemoryStore.
+ */
+public class TestRangeQuery
+{
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+	
+	
+	@Test
+	public void test() throws Exception
+	{
+		t(0, 20, "1", true, "9", true, 1, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 2, 20, 3, 4, 5, 6, 7, 8, 9);
+		t(0, 20, "1", true, "15", false, 1, 10, 11, 12, 13, 14);
+		t(0, 20, "15", false, "1", true, 14, 13, 12, 11, 10, 1); 
+		t(0, 1000, "", true, "1", true, 0, 1);
+	}
+	
+	
+	@Test
+	public void testRandom() throws Exception
+	{
+		Random r = new Random();
+		long seed = r.nextLong();
+		r.setSeed(seed);
+		TF.print("seed", seed);
+		
+		DBEngine<InMemoryRef> db = TestUtils.createDB(0, 2000);
+		TreeSet<String> keys = new TreeSet<>();
+		for(int i=0; i<=2000; i++)
+		{
+			keys.add(String.valueOf(i));
+		}
+		
+		for(int i=0; i<500; i++)
+		{
+			String a = String.valueOf(r.nextInt(2100));
+			String b = String.valueOf(r.nextInt(2100));
+			boolean includeStart = r.nextBoolean();
+			boolean includeEnd = r.nextBoolean();
+			
+			NavigableSet<String> exp;
+			if(a.compareTo(b) <= 0)
+			{
+				exp = keys.subSet(a, includeStart, b, includeEnd);
+			}
+			else
+			{
+				exp = keys.subSet(b, includeEnd, a, includeStart).descendingSet();
+			}
+			
+			CList<String> result = new CList<>();
+			db.rangeQuery(new SKey(a), includeStart, new SKey(b), includeEnd, (key, h) ->
+			{
+				result.add(key.toString());
+				return true;
+			});
+			
+			TF.eq(result, new CList<>(exp));
+		}
+	}
+	
+	
+	/** a scan of a small window must not visit the whole tree */
+	@Test
+	public void testSeek() throws Exception
+	{
+		DBEngine<InMemoryRef> db = TestUtils.createDB(0, 10_000);
+		int depth = db.getDepth();
+		
+		check(db, "10", "1", depth);
+		check(db, "1", "10", depth);
+		check(db, "9998", "9999", depth);
+		check(db, "9999", "9998", depth);
+	}
+	
+	
+	protected void check(DBEngine<InMemoryRef> db, String start, String end, int depth) throws Exception
+	{
+		db.getNodeCache().clear();
+		long before = db.getNodeCache().getMissCount();
+		
+		db.rangeQuery(new SKey(start), true, new SKey(end), true, (key, h) -> true);
+		
+		long loaded = db.getNodeCache().getMissCount() - before;
+		TF.print(start, end, "depth", depth, "loaded", loaded);
+		// the path to the start key, plus the neighboring leaves
+		TF.isTrue(loaded <= depth + 4);
+	}
+	
+	
+	protected void t(int min, int max, Object start, boolean includeStart, Object end, boolean includeEnd, int ... expected) throws Exception
+	{
+		CList<Integer> exp = TestUtils.asList(expected);
+		DBEngine<InMemoryRef> db = TestUtils.createDB(min, max);
+
+		SKey sk = new SKey(start.toString());
+		SKey ek = new SKey(end.toString());
+		
+		CList<Integer> result = new CList();
+		
+		db.rangeQuery(sk, includeStart, ek, includeEnd, (key, dataHolder) ->
+		{
+			byte[] b = dataHolder.getStoredValue().getIStream().readBytes(Integer.MAX_VALUE);
+			String s = new String(b, CKit.CHARSET_UTF8);
+			int v = Integer.parseInt(s);
+			result.add(v);
+			
+			return true;
+		});
+		
+		TF.eq(result, exp);
+	}
+}
@@ -0,0 +1,121 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CList;
+import goryachev.common.util.SKey;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Tests the background read-ahead of sibling nodes during range scans.
+ */
+public class TestReadAhead
+{
+	private static final int COUNT = 20_000;
+
+
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@Test
+	public void testForward() throws Exception
+	{
+		test(true);
+	}
+
+
+	@Test
+	public void testBackward() throws Exception
+	{
+		test(false);
+	}
+
+
+	protected void test(boolean forward) throws Exception
+	{
+		TrackingStore store = new TrackingStore();
+		DBEngine<InMemoryRef> db = new DBEngine(store);
+		db.setPageSize(1024);
+
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=0; i<COUNT; i++)
+				{
+					insert(key(i), IStream.of("v" + i));
+				}
+			}
+		});
+
+		db.setReadAhead(0);
+		db.getNodeCache().clear();
+		CList<String> expected = scan(db, forward);
+		TF.eq(store.background.get(), 0);
+		TF.eq(expected.size(), COUNT - 200);
+
+		db.setReadAhead(8);
+		db.getNodeCache().clear();
+		CList<String> result = scan(db, forward);
+		TF.print("background loads", store.background.get());
+		TF.isTrue(store.background.get() > 0);
+		TF.eq(result, expected);
+	}
+
+
+	protected CList<String> scan(DBEngine<InMemoryRef> db, boolean forward) throws Exception
+	{
+		SKey a = key(100);
+		SKey b = key(COUNT - 100);
+		CList<String> result = new CList<>();
+
+		db.rangeQuery(forward ? a : b, forward, forward ? b : a, !forward, (key, h) ->
+		{
+			result.add(key.toString());
+			if((result.size() % 100) == 0)
+			{
+				// a slow client gives the background threads a chance to run
+				Thread.sleep(1);
+			}
+			return true;
+		});
+		return result;
+	}
+
+
+	protected static SKey key(int ix)
+	{
+		return new SKey(String.format("%06d", ix));
+	}
+
+
+	//
+
+
+	/** counts the loads performed by the read-ahead threads */
+	protected static class TrackingStore
+		extends InMemoryStore
+	{
+		public final AtomicInteger background = new AtomicInteger();
+
+
+		public TrackingStore()
+		{
+			super(false);
+		}
+
+
+		public IStream load(InMemoryRef ref) throws Exception
+		{
+			if(Thread.currentThread().getName().startsWith("NodeCache.readAhead"))
+			{
+				background.incrementAndGet();
+			}
+			return super.load(ref);
+		}
+	}
+}
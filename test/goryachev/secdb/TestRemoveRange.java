@@ -0,0 +1,325 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.CSet;
+import goryachev.common.util.SKey;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import goryachev.secdb.internal.DBInternalNode;
+import goryachev.secdb.internal.DBLeafNode;
+import goryachev.secdb.internal.DataHolder;
+import goryachev.secdb.internal.NodeCache;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+
+/**
+ * Tests the range removal using InMemoryStore.
+ */
+public class TestRemoveRange
+{
+	private static final int COUNT = 20_000;
+
+
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@Test
+	public void testRandom() throws Exception
+	{
+		Random r = new Random();
+		long seed = r.nextLong();
+		r.setSeed(seed);
+		TF.print("seed", seed);
+
+		for(int round=0; round<20; round++)
+		{
+			TrackingStore store = new TrackingStore();
+			DBEngine<InMemoryRef> db = new DBEngine(store);
+			db.setPageSize(TestUtils.SMALL_PAGE_SIZE * (1 + r.nextInt(4)));
+			TreeMap<String,String> expected = new TreeMap<>();
+			insert(db, expected, 0, 2_000);
+
+			for(int i=0; i<5; i++)
+			{
+				int a = r.nextInt(2_100) - 50;
+				int b = a + r.nextInt(i == 0 ? 2_100 : 300);
+				SKey start = (r.nextInt(10) == 0) ? null : key(a);
+				SKey end = (r.nextInt(10) == 0) ? null : key(b);
+
+				db.execute(new DBTransaction<InMemoryRef>()
+				{
+					protected void body() throws Exception
+					{
+						removeRange(start, end);
+					}
+				});
+
+				if((start == null) || (end == null) || (start.compareTo(end) < 0))
+				{
+					subMap(expected, start, end).clear();
+				}
+				check(db, expected);
+
+				// the tree remains usable
+				insert(db, expected, a, a + 20);
+				check(db, expected);
+			}
+		}
+	}
+
+
+	@Test
+	public void testUnlinked() throws Exception
+	{
+		TrackingStore store = new TrackingStore();
+		DBEngine<InMemoryRef> db = new DBEngine(store);
+		db.setPageSize(1024);
+		TreeMap<String,String> expected = new TreeMap<>();
+		insert(db, expected, 0, COUNT);
+
+		// the values removed from the tree
+		CSet<InMemoryRef> removed = new CSet<>();
+		db.rangeQuery(key(1000), true, key(COUNT - 1000), false, (k, h) ->
+		{
+			if(h.isRef())
+			{
+				removed.add(h.getRef());
+			}
+			return true;
+		});
+		TF.isTrue(removed.size() > 0);
+
+		// the nodes are read from the store
+		db.getNodeCache().setCapacity(0);
+		int stored = store.nodes;
+		int loaded = store.loads;
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				removeRange(key(1000), key(COUNT - 1000));
+			}
+		});
+		int loads = store.loads - loaded;
+		db.getNodeCache().setCapacity(NodeCache.DEFAULT_CAPACITY);
+		subMap(expected, key(1000), key(COUNT - 1000)).clear();
+		check(db, expected);
+
+		// only the boundary paths are read and rewritten, the commit does not read the dropped subtrees
+		int depth = db.getDepth();
+		int dropped = store.getDroppedSubtrees().size();
+		TF.print("depth", depth, "nodes written", store.nodes - stored, "nodes read", loads, "subtrees dropped", dropped);
+		TF.isTrue(store.nodes - stored <= 2 * depth);
+		TF.isTrue(loads < dropped);
+
+		// the dropped subtrees are reported later, the unreachable blocks account for all the removed values
+		TF.eq(db.reportDroppedSubtrees(), dropped);
+		TF.eq(store.getDroppedSubtrees().size(), 0);
+		
+		CSet<InMemoryRef> kept = new CSet<>();
+		collectValues(db, db.getNodeCache().getNode(store.getRootRef()), kept);
+		for(InMemoryRef ref: removed)
+		{
+			TF.isTrue(store.unreachable.contains(ref));
+		}
+		for(InMemoryRef ref: kept)
+		{
+			TF.isFalse(store.unreachable.contains(ref));
+		}
+	}
+
+
+	@Test
+	public void testPrefix() throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(new TrackingStore());
+		db.setPageSize(TestUtils.SMALL_PAGE_SIZE);
+		TreeMap<String,String> expected = new TreeMap<>();
+		insert(db, expected, 0, 2_000);
+
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				removePrefix(new SKey("k01"));
+			}
+		});
+
+		subMap(expected, new SKey("k01"), new SKey("k02")).clear();
+		check(db, expected);
+		TF.eq(db.count(null, null), 1_900L);
+
+		// everything
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				removeRange(null, null);
+			}
+		});
+
+		expected.clear();
+		check(db, expected);
+		TF.eq(db.getDepth(), 1);
+	}
+
+
+	protected static void insert(DBEngine<InMemoryRef> db, TreeMap<String,String> expected, int min, int max) throws Exception
+	{
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=Math.max(0, min); i<max; i++)
+				{
+					String k = key(i).toString();
+					// spans inline and stored values
+					String v = k + "*".repeat(i % 500);
+					insert(new SKey(k), IStream.of(v));
+					expected.put(k, v);
+				}
+			}
+		});
+	}
+
+
+	protected static SKey key(int ix)
+	{
+		return new SKey(String.format("k%04d", ix));
+	}
+
+
+	protected static SortedMap<String,String> subMap(TreeMap<String,String> m, SKey start, SKey end)
+	{
+		if(start == null)
+		{
+			return (end == null) ? m : m.headMap(end.toString());
+		}
+		else
+		{
+			return (end == null) ? m.tailMap(start.toString()) : m.subMap(start.toString(), end.toString());
+		}
+	}
+
+
+	protected static void collectValues(DBEngine<InMemoryRef> db, BPlusTreeNode<SKey,DataHolder<InMemoryRef>> n, CSet<InMemoryRef> refs) throws Exception
+	{
+		if(n instanceof DBInternalNode)
+		{
+			DBInternalNode<InMemoryRef> p = (DBInternalNode)n;
+			for(int i=0; i<=p.size(); i++)
+			{
+				InMemoryRef ref = p.nodeHolderAt(i).getRef();
+				collectValues(db, db.getNodeCache().getNode(ref), refs);
+			}
+		}
+		else
+		{
+			DBLeafNode<InMemoryRef> leaf = (DBLeafNode)n;
+			for(int i=0; i<leaf.getValueCount(); i++)
+			{
+				DataHolder<InMemoryRef> h = leaf.valueAt(i);
+				if(h.isRef())
+				{
+					refs.add(h.getRef());
+				}
+			}
+		}
+	}
+
+
+	protected void check(DBEngine<InMemoryRef> db, TreeMap<String,String> expected) throws Exception
+	{
+		CList<String> keys = new CList<>();
+
+		db.rangeQuery(new SKey(""), true, new SKey("\uffff"), true, (key, h) ->
+		{
+			byte[] b = h.getStoredValue().readBytes(Integer.MAX_VALUE);
+			TF.eq(new String(b, CKit.CHARSET_UTF8), expected.get(key.toString()));
+			keys.add(key.toString());
+			return true;
+		});
+
+		TF.eq(keys, new CList<>(expected.keySet()));
+		TF.eq(db.count(null, null), (long)expected.size());
+	}
+
+
+	//
+
+
+	/** counts the tree nodes written and the blocks read, and collects the unreachable blocks and the dropped subtrees */
+	protected static class TrackingStore
+		extends InMemoryStore
+	{
+		public final CSet<InMemoryRef> unreachable = new CSet<>();
+		private final CList<InMemoryRef> dropped = new CList<>();
+		public int nodes;
+		public volatile int loads;
+
+
+		public TrackingStore()
+		{
+			super(false);
+		}
+
+
+		public synchronized InMemoryRef store(IStream is, boolean isTree) throws Exception
+		{
+			if(isTree)
+			{
+				nodes++;
+			}
+			return super.store(is, isTree);
+		}
+
+
+		public synchronized IStream load(InMemoryRef ref) throws Exception
+		{
+			loads++;
+			return super.load(ref);
+		}
+
+
+		public synchronized void setRootRef(InMemoryRef ref, List<InMemoryRef> unreachable, Map<InMemoryRef,Long> unreachablePacked, List<InMemoryRef> dropped) throws Exception
+		{
+			addUnique(unreachable);
+			this.dropped.addAll(dropped);
+			setRootRef(ref);
+		}
+
+
+		public synchronized List<InMemoryRef> getDroppedSubtrees()
+		{
+			return new CList<>(dropped);
+		}
+
+
+		public synchronized void addUnreachable(InMemoryRef subtree, List<InMemoryRef> unreachable, Map<InMemoryRef,Long> unreachablePacked) throws Exception
+		{
+			if(dropped.remove(subtree))
+			{
+				addUnique(unreachable);
+			}
+		}
+
+
+		private void addUnique(List<InMemoryRef> refs)
+		{
+			for(InMemoryRef ref: refs)
+			{
+				// each block becomes unreachable once
+				TF.isTrue(unreachable.add(ref));
+			}
+		}
+	}
+}
@@ -0,0 +1,178 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.CSet;
+import goryachev.common.util.SKey;
+import goryachev.secdb.internal.DataHolder;
+import java.io.IOException;
+
+
+/**
+ * Tests the value prefetch option of the range and prefix queries.
+ */
+public class TestValuePrefetch
+{
+	private static final int COUNT = 2_000;
+
+
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@Test
+	public void testOrder() throws Exception
+	{
+		DBEngine<InMemoryRef> db = create(new FailingStore());
+		DBSnapshot<InMemoryRef> s = db.openSnapshot();
+		ValuePrefetch p = new ValuePrefetch(8, 4_000);
+
+		CList<String> expected = new CList<>();
+		s.rangeQuery(key(10), true, key(1900), false, (k, h) -> expected.add(k + "=" + read(h)));
+		TF.eq(expected.size(), 1890);
+
+		CList<String> result = new CList<>();
+		s.rangeQuery(key(10), true, key(1900), false, p, (k, h) ->
+		{
+			long len = h.getStoredValue().getLength();
+			// the values within the budget arrive in memory
+			TF.eq(h.hasValue(), len <= p.maxBytes);
+			return result.add(k + "=" + read(h));
+		});
+		TF.eq(result, expected);
+
+		// reverse
+		expected.clear();
+		result.clear();
+		s.rangeQuery(key(1900), false, key(10), true, (k, h) -> expected.add(k + "=" + read(h)));
+		s.rangeQuery(key(1900), false, key(10), true, p, (k, h) -> result.add(k + "=" + read(h)));
+		TF.eq(result, expected);
+
+		// prefix
+		expected.clear();
+		result.clear();
+		s.prefixQuery(new SKey("k001"), (k, h) -> expected.add(k + "=" + read(h)));
+		s.prefixQuery(new SKey("k001"), p, (k, h) -> result.add(k + "=" + read(h)));
+		TF.eq(result.size(), 100);
+		TF.eq(result, expected);
+
+		expected.clear();
+		result.clear();
+		s.prefixReverseQuery(new SKey("k001"), (k, h) -> expected.add(k + "=" + read(h)));
+		s.prefixReverseQuery(new SKey("k001"), new ValuePrefetch(1, 1), (k, h) -> result.add(k + "=" + read(h)));
+		TF.eq(result, expected);
+	}
+
+
+	@Test
+	public void testStop() throws Exception
+	{
+		DBEngine<InMemoryRef> db = create(new FailingStore());
+		CList<String> result = new CList<>();
+
+		db.openSnapshot().rangeQuery(key(0), true, key(COUNT), false, new ValuePrefetch(16, CKit.mebi(1)), (k, h) ->
+		{
+			result.add(k.toString());
+			return result.size() < 10;
+		});
+
+		TF.eq(result.size(), 10);
+		TF.eq(result.getLast(), key(9).toString());
+	}
+
+
+	@Test
+	public void testError() throws Exception
+	{
+		FailingStore store = new FailingStore();
+		DBEngine<InMemoryRef> db = create(store);
+		store.fail = true;
+
+		try
+		{
+			db.openSnapshot().rangeQuery(key(0), true, key(COUNT), false, new ValuePrefetch(16, CKit.mebi(1)), (k, h) -> true);
+			TF.fail();
+		}
+		catch(IOException e)
+		{
+			TF.eq(e.getMessage(), "failed to load");
+		}
+	}
+
+
+	protected DBEngine<InMemoryRef> create(InMemoryStore store) throws Exception
+	{
+		DBEngine<InMemoryRef> db = new DBEngine(store);
+		db.setPageSize(1024);
+
+		db.execute(new DBTransaction<InMemoryRef>()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=0; i<COUNT; i++)
+				{
+					// spans inline values, stored values, and values over the budget
+					String v = "v" + i + "*".repeat((i * 37) % 5_000);
+					insert(key(i), IStream.of(v));
+				}
+			}
+		});
+		return db;
+	}
+
+
+	protected static SKey key(int ix)
+	{
+		return new SKey(String.format("k%05d", ix));
+	}
+
+
+	protected static String read(DataHolder<InMemoryRef> h) throws Exception
+	{
+		byte[] b = h.getStoredValue().readBytes(Integer.MAX_VALUE);
+		return new String(b, CKit.CHARSET_UTF8);
+	}
+
+
+	//
+
+
+	/** fails to load the stored values on request */
+	protected static class FailingStore
+		extends InMemoryStore
+	{
+		private final CSet<InMemoryRef> values = new CSet<>();
+		public volatile boolean fail;
+
+
+		public FailingStore()
+		{
+			super(false);
+		}
+
+
+		public synchronized InMemoryRef store(IStream is, boolean isTree) throws Exception
+		{
+			InMemoryRef ref = super.store(is, isTree);
+			if(!isTree)
+			{
+				values.add(ref);
+			}
+			return ref;
+		}
+
+
+		public IStream load(InMemoryRef ref) throws Exception
+		{
+			if(fail && values.contains(ref))
+			{
+				throw new IOException("failed to load");
+			}
+			return super.load(ref);
+		}
+	}
+}
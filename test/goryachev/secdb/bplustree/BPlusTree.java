@@ -31,7 +31,6 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
-import java.util.function.Predicate;
 
 
 /**
@@ -97,13 +96,12 @@ public class BPlusTree<K extends Comparable<? super K>, V>
 	
 	
 	/** 
-	 * Finds all the entries where the key "starts with" the given prefix.  
-	 * If the key type does not support such an operation, an UnsupportedOperationException is thrown.
-	 * Returns true if no exceptions (Throwables) have been thrown, false otherwise
+	 * Finds all the entries where the key "starts with" the given prefix, 
+	 * given the smallest key greater than all the keys with the prefix, or null.
 	 */ 
-	public boolean prefixQuery(K prefix, Predicate<K> isPrefix, QueryClient<K,V> client) throws Exception
+	public boolean prefixQuery(K prefix, K successor, QueryClient<K,V> client) throws Exception
 	{
-		return root.prefixQuery(prefix, isPrefix, client);
+		return root.queryForward(prefix, true, successor, false, client);
 	}
 
 
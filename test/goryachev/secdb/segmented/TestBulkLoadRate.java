@@ -0,0 +1,133 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.log.Log;
+import goryachev.common.test.BeforeClass;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.D;
+import goryachev.common.util.FileTools;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IStream;
+import goryachev.secdb.segmented.clear.ClearEncHelper;
+import java.io.File;
+import java.util.Iterator;
+import java.util.Map;
+
+
+/**
+ * Initial import benchmark: one large transaction inserting the entries one by one,
+ * compared to the bulk loader with sorted and with reverse-sorted input.
+ */
+public class TestBulkLoadRate
+{
+	private static final File DIR = new File("user.home/bulk-load-test");
+	private static final int COUNT = 500_000;
+
+
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@BeforeClass
+	public static void initLog() throws Exception
+	{
+		// logging would dominate the measurement
+		Log.reset();
+	}
+
+
+	@Test
+	public void test() throws Exception
+	{
+		double base = run("insert", (db) ->
+		{
+			db.execute(new Transaction()
+			{
+				protected void body() throws Exception
+				{
+					for(int i=0; i<COUNT; i++)
+					{
+						insert(key(i), IStream.of(value(i)));
+					}
+				}
+			});
+		}, 0);
+
+		run("bulk sorted", (db) -> db.bulkLoad(entries(false)), base);
+		run("bulk unsorted", (db) -> db.bulkLoad(entries(true)), base);
+	}
+
+
+	protected double run(String name, Loader loader, double base) throws Exception
+	{
+		FileTools.deleteRecursively(DIR);
+
+		ClearEncHelper h = new ClearEncHelper();
+		SecDB.create(DIR, h);
+		SecDB db = SecDB.open(DIR, h);
+		try
+		{
+			long start = System.nanoTime();
+			loader.load(db);
+			double sec = (System.nanoTime() - start) / 1_000_000_000.0;
+
+			D.print(name, "entries/s=" + (long)(COUNT / sec), (base == 0 ? "" : "speedup=" + String.format("%.1f", base / sec)));
+
+			TF.notNull(db.load(key(0)));
+			TF.notNull(db.load(key(COUNT - 1)));
+			return sec;
+		}
+		finally
+		{
+			db.close();
+			FileTools.deleteRecursively(DIR);
+		}
+	}
+
+
+	protected static Iterator<Map.Entry<SKey,IStream>> entries(boolean reverse)
+	{
+		return new Iterator<Map.Entry<SKey,IStream>>()
+		{
+			private int ix;
+
+
+			public boolean hasNext()
+			{
+				return ix < COUNT;
+			}
+
+
+			public Map.Entry<SKey,IStream> next()
+			{
+				int i = reverse ? (COUNT - 1 - ix) : ix;
+				ix++;
+				return Map.entry(key(i), IStream.of(value(i)));
+			}
+		};
+	}
+
+
+	protected static SKey key(int ix)
+	{
+		return new SKey(String.format("notes/%08d", ix));
+	}
+
+
+	protected static String value(int ix)
+	{
+		return "value " + ix;
+	}
+
+
+	//
+
+
+	@FunctionalInterface
+	protected static interface Loader
+	{
+		public void load(SecDB db) throws Exception;
+	}
+}
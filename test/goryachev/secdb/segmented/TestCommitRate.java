@@ -0,0 +1,80 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.log.Log;
+import goryachev.common.test.BeforeClass;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.D;
+import goryachev.common.util.FileTools;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IStream;
+import goryachev.secdb.segmented.clear.ClearEncHelper;
+import java.io.File;
+import java.util.Random;
+
+
+/**
+ * Commit throughput benchmark: many small transactions, each writing a few tree nodes.
+ */
+public class TestCommitRate
+{
+	private static final File DIR = new File("user.home/commit-rate-test");
+	private static final int COMMIT_COUNT = 2_000;
+	private static final int KEYS_PER_COMMIT = 10;
+	/** small pages result in many small nodes written per commit */
+	private static final int PAGE_SIZE = 512;
+
+
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@BeforeClass
+	public static void initLog() throws Exception
+	{
+		// logging would dominate the measurement
+		Log.reset();
+	}
+
+
+	@Test
+	public void test() throws Exception
+	{
+		FileTools.deleteRecursively(DIR);
+
+		ClearEncHelper h = new ClearEncHelper();
+		SecDB.create(DIR, h);
+		SecDB db = SecDB.open(DIR, h);
+		db.setPageSize(PAGE_SIZE);
+		try
+		{
+			Random r = new Random(1);
+			long start = System.nanoTime();
+
+			for(int i=0; i<COMMIT_COUNT; i++)
+			{
+				db.execute(new Transaction()
+				{
+					protected void body() throws Exception
+					{
+						for(int j=0; j<KEYS_PER_COMMIT; j++)
+						{
+							String k = String.valueOf(r.nextInt(100_000));
+							insert(new SKey(k), IStream.of(k));
+						}
+					}
+				});
+			}
+
+			double sec = (System.nanoTime() - start) / 1_000_000_000.0;
+			D.print("commits=" + COMMIT_COUNT, "commits/s=" + (long)(COMMIT_COUNT / sec));
+		}
+		finally
+		{
+			db.close();
+			FileTools.deleteRecursively(DIR);
+		}
+	}
+}
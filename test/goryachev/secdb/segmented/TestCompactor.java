@@ -0,0 +1,307 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.CancelledException;
+import goryachev.common.util.FileTools;
+import goryachev.common.util.SKey;
+import goryachev.memsafecrypto.OpaqueBytes;
+import goryachev.secdb.IStored;
+import goryachev.secdb.IStream;
+import goryachev.secdb.segmented.xsalsa.XSalsaEncHelper;
+import java.io.File;
+import java.security.SecureRandom;
+
+
+/**
+ * Tests the segment compactor.
+ */
+public class TestCompactor
+{
+	private static final File DIR = new File("user.home/compactor-test");
+	private static final int KEY_COUNT = 1000;
+	private static final long SEGMENT_SIZE = CKit.kibi(64);
+	/** the number of passes expected to leave nothing to compact */
+	private static final int MAX_PASSES = 10;
+	private final IEncHelper helper = new XSalsaEncHelper(new SecureRandom(), new OpaqueBytes(TUtils.generateKey()));
+
+
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@Test
+	public void testCompact() throws Exception
+	{
+		File dir = new File(DIR, "compact");
+		SecDB db = create(dir);
+		try
+		{
+			int files = countSegmentFiles(dir);
+			SegmentCompactor c = db.getCompactor();
+			c.setRateLimit(0);
+
+			// the snapshot of the previous version keeps the old segments
+			SecSnapshot s = db.openSnapshot();
+			int n = c.compact();
+			TF.print("segment files", files, "compacted", n);
+			TF.isTrue(n > 0);
+			TF.eq(c.getRetiredCount(), n);
+
+			// the live blocks have been copied to the new segments
+			int copied = countSegmentFiles(dir);
+			TF.isTrue(copied > files);
+			check(s);
+			check(db);
+			s.close();
+
+			TF.eq(c.deleteRetired(), n);
+			TF.eq(c.getRetiredCount(), 0);
+			TF.eq(countSegmentFiles(dir), copied - n);
+			TF.isTrue(countSegmentFiles(dir) < files);
+			check(db);
+
+			// moving the blocks frees space in the other segments, so the passes converge rather than stop at once
+			int passes = 1;
+			while(c.compact() > 0)
+			{
+				TF.isTrue(++passes < MAX_PASSES);
+			}
+			TF.print("passes", passes);
+			check(db);
+		}
+		finally
+		{
+			db.close();
+		}
+
+		// the deleted segments are not needed after reopening
+		db = SecDB.open(dir, helper);
+		try
+		{
+			db.setSegmentSizes(SEGMENT_SIZE, SEGMENT_SIZE);
+			check(db);
+			update(db, 1);
+			check(db);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	@Test
+	public void testLoad() throws Exception
+	{
+		File dir = new File(DIR, "load");
+		SecDB db = create(dir);
+		try
+		{
+			SegmentCompactor c = db.getCompactor();
+			c.setRateLimit(0);
+
+			// the loaded values are read after the segments they were loaded from have been compacted
+			int ix = KEY_COUNT - 1;
+			IStored v = db.load(key(ix));
+			CList<IStored> vs = db.loadAll(CList.of(key(0), key(ix)));
+
+			int n = c.compact();
+			TF.isTrue(n > 0);
+			c.deleteRetired();
+			TF.eq(c.getRetiredCount(), n);
+
+			TF.eq(new String(v.readBytes(Integer.MAX_VALUE), CKit.CHARSET_UTF8), value(ix));
+			for(int i=0; i<2; i++)
+			{
+				int k = (i == 0) ? 0 : ix;
+				TF.eq(new String(vs.get(i).readBytes(Integer.MAX_VALUE), CKit.CHARSET_UTF8), value(k));
+			}
+			check(db);
+
+			// the values no longer reachable release the old version
+			v = null;
+			vs = null;
+			long timeout = System.currentTimeMillis() + 10_000;
+			while(c.getRetiredCount() > 0)
+			{
+				TF.isTrue(System.currentTimeMillis() < timeout);
+				System.gc();
+				Thread.sleep(10);
+				c.deleteRetired();
+			}
+			check(db);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	@Test
+	public void testBackground() throws Exception
+	{
+		File dir = new File(DIR, "background");
+		SecDB db = create(dir);
+		try
+		{
+			int files = countSegmentFiles(dir);
+			SegmentCompactor c = db.getCompactor();
+			c.setRateLimit(CKit.mebi(8));
+			c.start(10);
+
+			long timeout = System.currentTimeMillis() + 10_000;
+			while(countSegmentFiles(dir) >= files)
+			{
+				TF.isTrue(System.currentTimeMillis() < timeout);
+				Thread.sleep(10);
+			}
+
+			// the writes proceed concurrently
+			update(db, 4);
+			c.stop();
+			check(db);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	@Test
+	public void testCancel() throws Exception
+	{
+		File dir = new File(DIR, "cancel");
+		SecDB db = create(dir);
+		try
+		{
+			SegmentCompactor c = db.getCompactor();
+			c.setRateLimit(CKit.kibi(256));
+
+			Throwable[] error = new Throwable[1];
+			Thread t = new Thread(() ->
+			{
+				try
+				{
+					c.compact();
+				}
+				catch(Throwable e)
+				{
+					error[0] = e;
+				}
+			}, "compactor");
+			t.start();
+
+			Thread.sleep(100);
+			t.interrupt();
+			t.join();
+
+			TF.isTrue((error[0] instanceof CancelledException) || (error[0] instanceof InterruptedException));
+			check(db);
+
+			// the interrupted pass leaves the database usable, and can be repeated
+			c.setRateLimit(0);
+			TF.isTrue(c.compact() > 0);
+			check(db);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	/** creates a database in which most of the data in the older segments has been overwritten */
+	protected SecDB create(File dir) throws Exception
+	{
+		FileTools.deleteRecursively(dir);
+
+		SecDB.create(dir, helper);
+		SecDB db = SecDB.open(dir, helper);
+		db.setPageSize(1024);
+		db.setSegmentSizes(SEGMENT_SIZE, SEGMENT_SIZE);
+
+		update(db, 1);
+		update(db, 2);
+		update(db, 3);
+		return db;
+	}
+
+
+	/** overwrites all the values, except for every 'nth' */
+	protected static void update(SecDB db, int n) throws Exception
+	{
+		db.execute(new Transaction()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=0; i<KEY_COUNT; i++)
+				{
+					if((n == 1) || ((i % n) != 0))
+					{
+						insert(key(i), IStream.of(value(i)));
+					}
+				}
+			}
+		});
+	}
+
+
+	protected static SKey key(int ix)
+	{
+		return new SKey(String.format("%05d", ix));
+	}
+
+
+	protected static String value(int ix)
+	{
+		return ix + "." + "*".repeat(ix % 2000);
+	}
+
+
+	protected static void check(SecDB db) throws Exception
+	{
+		try(SecSnapshot s = db.openSnapshot())
+		{
+			check(s);
+		}
+	}
+
+
+	protected static void check(SecSnapshot s) throws Exception
+	{
+		TF.eq(s.count(null, null), (long)KEY_COUNT);
+
+		for(int i=0; i<KEY_COUNT; i++)
+		{
+			IStored v = s.load(key(i));
+			byte[] b = v.readBytes(Integer.MAX_VALUE);
+			TF.eq(new String(b, CKit.CHARSET_UTF8), value(i));
+		}
+	}
+
+
+	protected static int countSegmentFiles(File dir)
+	{
+		int rv = 0;
+		File[] dirs = dir.listFiles();
+		if(dirs != null)
+		{
+			for(File d: dirs)
+			{
+				if(d.isDirectory())
+				{
+					File[] fs = d.listFiles();
+					rv += (fs == null) ? 0 : fs.length;
+				}
+			}
+		}
+		return rv;
+	}
+}
@@ -0,0 +1,148 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.D;
+import goryachev.common.util.FileTools;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IStored;
+import goryachev.secdb.IStream;
+import goryachev.secdb.segmented.clear.ClearEncHelper;
+import java.io.File;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Contention benchmark: N threads doing point lookups against the same segment.
+ * The node cache is disabled so that every lookup reads the segment file.
+ */
+public class TestConcurrentReads
+{
+	private static final File DIR = new File("user.home/concurrent-reads-test");
+	private static final int KEY_COUNT = 10_000;
+	private static final int VALUE_SIZE = 1_000;
+	private static final long DURATION = 2_000;
+
+
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@Test
+	public void test() throws Exception
+	{
+		FileTools.deleteRecursively(DIR);
+
+		ClearEncHelper h = new ClearEncHelper();
+		SecDB.create(DIR, h);
+		SecDB db = SecDB.open(DIR, h);
+		try
+		{
+			db.execute(new Transaction()
+			{
+				protected void body() throws Exception
+				{
+					for(int i=0; i<KEY_COUNT; i++)
+					{
+						insert(key(i), IStream.of(value(i)));
+					}
+				}
+			});
+
+			db.setNodeCacheCapacity(0);
+
+			double base = 0;
+			for(int threads=1; threads<=8; threads*=2)
+			{
+				double rate = run(db, threads);
+				if(threads == 1)
+				{
+					base = rate;
+				}
+				D.print("threads=" + threads, "lookups/s=" + (long)rate, "scaling=" + String.format("%.2f", rate / base));
+			}
+		}
+		finally
+		{
+			db.close();
+			FileTools.deleteRecursively(DIR);
+		}
+	}
+
+
+	protected double run(SecDB db, int threadCount) throws Exception
+	{
+		AtomicLong count = new AtomicLong();
+		Throwable[] error = new Throwable[1];
+		long end = System.currentTimeMillis() + DURATION;
+
+		Thread[] threads = new Thread[threadCount];
+		for(int i=0; i<threadCount; i++)
+		{
+			int seed = i;
+			threads[i] = new Thread(() ->
+			{
+				Random r = new Random(seed);
+				try
+				{
+					while(System.currentTimeMillis() < end)
+					{
+						int ix = r.nextInt(KEY_COUNT);
+						IStored v = db.load(key(ix));
+						byte[] b = v.readBytes(Integer.MAX_VALUE);
+						if(b.length != VALUE_SIZE)
+						{
+							throw new Exception("unexpected value size: " + b.length);
+						}
+						count.incrementAndGet();
+					}
+				}
+				catch(Throwable e)
+				{
+					error[0] = e;
+				}
+			}, "reader-" + i);
+		}
+
+		long start = System.currentTimeMillis();
+		for(Thread t: threads)
+		{
+			t.start();
+		}
+
+		for(Thread t: threads)
+		{
+			t.join();
+		}
+		long elapsed = System.currentTimeMillis() - start;
+
+		if(error[0] != null)
+		{
+			throw new Exception(error[0]);
+		}
+
+		return count.get() * 1000.0 / elapsed;
+	}
+
+
+	protected static SKey key(int ix)
+	{
+		return new SKey(String.format("%08d", ix));
+	}
+
+
+	protected static String value(int ix)
+	{
+		String s = key(ix).toString();
+		StringBuilder sb = new StringBuilder(VALUE_SIZE);
+		while(sb.length() < VALUE_SIZE)
+		{
+			sb.append(s);
+		}
+		sb.setLength(VALUE_SIZE);
+		return sb.toString();
+	}
+}
@@ -0,0 +1,144 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.log.Log;
+import goryachev.common.test.BeforeClass;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.D;
+import goryachev.common.util.FileTools;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IStream;
+import goryachev.secdb.segmented.clear.ClearEncHelper;
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Durability modes benchmark: reports commit throughput and latency per mode,
+ * then verifies that all the commits survive reopening the database.
+ */
+public class TestDurability
+{
+	private static final File DIR = new File("user.home/durability-test");
+	private static final int THREADS = 4;
+	private static final int COMMITS_PER_THREAD = 250;
+
+
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@BeforeClass
+	public static void initLog() throws Exception
+	{
+		// logging would dominate the measurement
+		Log.reset();
+	}
+
+
+	@Test
+	public void test() throws Exception
+	{
+		for(DurabilityMode mode: DurabilityMode.values())
+		{
+			test(mode);
+		}
+	}
+
+
+	protected void test(DurabilityMode mode) throws Exception
+	{
+		File dir = new File(DIR, mode.toString());
+		FileTools.deleteRecursively(dir);
+
+		ClearEncHelper h = new ClearEncHelper();
+		SecDB.create(dir, h);
+		SecDB db = SecDB.open(dir, h);
+		try
+		{
+			db.setDurability(mode);
+			db.setGroupCommitLimits(THREADS, 5);
+
+			AtomicLong latency = new AtomicLong();
+			Throwable[] error = new Throwable[1];
+
+			Thread[] threads = new Thread[THREADS];
+			for(int i=0; i<THREADS; i++)
+			{
+				int t = i;
+				threads[i] = new Thread(() ->
+				{
+					try
+					{
+						for(int j=0; j<COMMITS_PER_THREAD; j++)
+						{
+							String k = t + "." + j;
+							long start = System.nanoTime();
+							db.store(new SKey(k), IStream.of(k));
+							latency.addAndGet(System.nanoTime() - start);
+						}
+					}
+					catch(Throwable e)
+					{
+						error[0] = e;
+					}
+				}, "writer-" + i);
+			}
+
+			long start = System.nanoTime();
+			for(Thread t: threads)
+			{
+				t.start();
+			}
+
+			for(Thread t: threads)
+			{
+				t.join();
+			}
+			double sec = (System.nanoTime() - start) / 1_000_000_000.0;
+
+			if(error[0] != null)
+			{
+				throw new Exception(error[0]);
+			}
+
+			int count = THREADS * COMMITS_PER_THREAD;
+			D.print
+			(
+				mode,
+				"commits/s=" + (long)(count / sec),
+				"latency ms=" + String.format("%.3f", latency.get() / 1_000_000.0 / count)
+			);
+		}
+		finally
+		{
+			db.close();
+		}
+
+		verify(dir, h);
+	}
+
+
+	protected void verify(File dir, IEncHelper h) throws Exception
+	{
+		SecDB db = SecDB.open(dir, h);
+		try
+		{
+			for(int t=0; t<THREADS; t++)
+			{
+				for(int j=0; j<COMMITS_PER_THREAD; j++)
+				{
+					String k = t + "." + j;
+					TF.notNull(db.load(new SKey(k)));
+				}
+			}
+		}
+		finally
+		{
+			db.close();
+			FileTools.deleteRecursively(dir);
+		}
+	}
+}
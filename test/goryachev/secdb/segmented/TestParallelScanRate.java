@@ -0,0 +1,144 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.log.Log;
+import goryachev.common.test.BeforeClass;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.D;
+import goryachev.common.util.FileTools;
+import goryachev.common.util.SKey;
+import goryachev.memsafecrypto.OpaqueBytes;
+import goryachev.secdb.IStream;
+import goryachev.secdb.segmented.xsalsa.XSalsaEncHelper;
+import java.io.File;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Export benchmark: reads and decrypts every value of an encrypted database 
+ * with a sequential range query, compared to the ordered and unordered parallel scans.
+ */
+public class TestParallelScanRate
+{
+	private static final File DIR = new File("user.home/parallel-scan-test");
+	private static final int COUNT = 100_000;
+	private static final int VALUE_SIZE = 1_000;
+
+
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@BeforeClass
+	public static void initLog() throws Exception
+	{
+		// logging would dominate the measurement
+		Log.reset();
+	}
+
+
+	@Test
+	public void test() throws Exception
+	{
+		FileTools.deleteRecursively(DIR);
+
+		IEncHelper h = new XSalsaEncHelper(new SecureRandom(), new OpaqueBytes(TUtils.generateKey()));
+		SecDB.create(DIR, h);
+		SecDB db = SecDB.open(DIR, h);
+		try
+		{
+			db.execute(new Transaction()
+			{
+				protected void body() throws Exception
+				{
+					for(int i=0; i<COUNT; i++)
+					{
+						insert(key(i), IStream.of(value(i)));
+					}
+				}
+			});
+			
+			D.print("cores=" + Runtime.getRuntime().availableProcessors());
+			
+			double base = run(db, "sequential", (total) ->
+			{
+				db.rangeQuery(key(0), true, key(COUNT), false, (k, v) ->
+				{
+					total.addAndGet(v.readBytes(Integer.MAX_VALUE).length);
+					return true;
+				});
+			}, 0);
+			
+			run(db, "parallel ordered", (total) ->
+			{
+				db.parallelQuery(null, null, (k, v) -> v.readBytes(Integer.MAX_VALUE), (k, b) ->
+				{
+					total.addAndGet(b.length);
+					return true;
+				});
+			}, base);
+			
+			run(db, "parallel unordered", (total) ->
+			{
+				db.parallelQuery(null, null, (k, v) ->
+				{
+					total.addAndGet(v.readBytes(Integer.MAX_VALUE).length);
+					return true;
+				});
+			}, base);
+		}
+		finally
+		{
+			db.close();
+			FileTools.deleteRecursively(DIR);
+		}
+	}
+	
+	
+	protected double run(SecDB db, String name, Scan scan, double base) throws Exception
+	{
+		// includes reading and decrypting the tree nodes
+		db.getNodeCache().clear();
+		
+		AtomicLong total = new AtomicLong();
+		long start = System.nanoTime();
+		scan.run(total);
+		double sec = (System.nanoTime() - start) / 1_000_000_000.0;
+		
+		TF.eq(total.get(), (long)COUNT * VALUE_SIZE);
+		D.print(name, "entries/s=" + (long)(COUNT / sec), (base == 0 ? "" : "speedup=" + String.format("%.1f", base / sec)));
+		return sec;
+	}
+
+
+	protected static SKey key(int ix)
+	{
+		return new SKey(String.format("%08d", ix));
+	}
+
+
+	protected static String value(int ix)
+	{
+		String s = key(ix).toString();
+		StringBuilder sb = new StringBuilder(VALUE_SIZE);
+		while(sb.length() < VALUE_SIZE)
+		{
+			sb.append(s);
+		}
+		sb.setLength(VALUE_SIZE);
+		return sb.toString();
+	}
+	
+	
+	//
+	
+	
+	@FunctionalInterface
+	protected static interface Scan
+	{
+		public void run(AtomicLong total) throws Exception;
+	}
+}
@@ -0,0 +1,215 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CMap;
+import goryachev.common.util.FileTools;
+import goryachev.common.util.SKey;
+import goryachev.memsafecrypto.OpaqueBytes;
+import goryachev.secdb.IStream;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import goryachev.secdb.internal.DBInternalNode;
+import goryachev.secdb.internal.DBLeafNode;
+import goryachev.secdb.internal.DataHolder;
+import goryachev.secdb.segmented.xsalsa.XSalsaEncHelper;
+import java.io.File;
+import java.security.SecureRandom;
+
+
+/**
+ * Tests the separation of the tree nodes and the values into different segments.
+ */
+public class TestSegmentStreams
+{
+	private static final File DIR = new File("user.home/segment-streams-test");
+	private static final int KEY_COUNT = 500;
+	private static final long TREE_SIZE = CKit.kibi(16);
+	private static final long VALUE_SIZE = CKit.kibi(128);
+	private final IEncHelper helper = new XSalsaEncHelper(new SecureRandom(), new OpaqueBytes(TUtils.generateKey()));
+
+
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@Test
+	public void testSeparation() throws Exception
+	{
+		File dir = new File(DIR, "separation");
+		SecDB db = create(dir);
+		try
+		{
+			insert(db, 1);
+			insert(db, 2);
+			check(db, 2);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	@Test
+	public void testReopen() throws Exception
+	{
+		File dir = new File(DIR, "reopen");
+		SecDB db = create(dir);
+		CMap<String,Boolean> kinds = new CMap<>();
+		try
+		{
+			insert(db, 1);
+			for(SpaceStats.Segment s: db.getSpaceStats().getSegments())
+			{
+				kinds.put(s.name, s.tree);
+			}
+		}
+		finally
+		{
+			db.close();
+		}
+
+		db = SecDB.open(dir, helper);
+		try
+		{
+			db.setSegmentSizes(TREE_SIZE, VALUE_SIZE);
+
+			// the kinds are restored from the log
+			for(SpaceStats.Segment s: db.getSpaceStats().getSegments())
+			{
+				TF.eq(s.tree, kinds.get(s.name));
+			}
+
+			// both streams resume the segments written to last
+			db.execute(new Transaction()
+			{
+				protected void body() throws Exception
+				{
+					insert(key(1), IStream.of(value(1, 3)));
+				}
+			});
+			TF.eq(db.getSpaceStats().getSegmentCount(), kinds.size());
+
+			insert(db, 4);
+			check(db, 4);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	protected SecDB create(File dir) throws Exception
+	{
+		FileTools.deleteRecursively(dir);
+
+		SecDB.create(dir, helper);
+		SecDB db = SecDB.open(dir, helper);
+		db.setPageSize(1024);
+		db.setSegmentSizes(TREE_SIZE, VALUE_SIZE);
+		return db;
+	}
+
+
+	protected static void insert(SecDB db, int version) throws Exception
+	{
+		db.execute(new Transaction()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=0; i<KEY_COUNT; i++)
+				{
+					insert(key(i), IStream.of(value(i, version)));
+				}
+			}
+		});
+	}
+
+
+	protected static SKey key(int ix)
+	{
+		return new SKey(String.format("%05d", ix));
+	}
+
+
+	protected static String value(int ix, int version)
+	{
+		return ix + "." + version + "." + "*".repeat(ix % 1000);
+	}
+
+
+	/** checks the values, and that each block is located in the segments of its kind which are within their limits */
+	protected static void check(SecDB db, int version) throws Exception
+	{
+		for(int i=0; i<KEY_COUNT; i++)
+		{
+			byte[] b = db.load(key(i)).readBytes(Integer.MAX_VALUE);
+			TF.eq(new String(b, CKit.CHARSET_UTF8), value(i, version));
+		}
+
+		int trees = 0;
+		int values = 0;
+		for(SpaceStats.Segment s: db.getSpaceStats().getSegments())
+		{
+			if(s.tree)
+			{
+				TF.isTrue(s.length <= TREE_SIZE);
+				trees++;
+			}
+			else
+			{
+				TF.isTrue(s.length <= VALUE_SIZE);
+				values++;
+			}
+		}
+		TF.print("tree segments", trees, "value segments", values);
+		TF.isTrue(trees > 1);
+		TF.isTrue(values > 1);
+
+		check(db, db.store.getRootRef());
+	}
+
+
+	private static void check(SecDB db, Ref ref) throws Exception
+	{
+		checkKind(db, ref, true);
+
+		BPlusTreeNode<SKey,DataHolder<Ref>> n = db.engine.getNodeCache().readNode(ref);
+		if(n instanceof DBInternalNode)
+		{
+			DBInternalNode<Ref> p = (DBInternalNode)n;
+			int sz = p.size() + 1;
+			for(int i=0; i<sz; i++)
+			{
+				check(db, p.nodeHolderAt(i).getRef());
+			}
+		}
+		else
+		{
+			DBLeafNode<Ref> leaf = (DBLeafNode)n;
+			int sz = leaf.getValueCount();
+			for(int i=0; i<sz; i++)
+			{
+				DataHolder<Ref> h = leaf.valueAt(i);
+				if(h.isRef())
+				{
+					checkKind(db, h.getRef(), false);
+				}
+			}
+		}
+	}
+
+
+	private static void checkKind(SecDB db, Ref ref, boolean isTree)
+	{
+		int sz = ref.getSegmentCount();
+		for(int i=0; i<sz; i++)
+		{
+			TF.eq(db.store.getSegmentFile(ref.getSegment(i)).isTree(), isTree);
+		}
+	}
+}
@@ -12,6 +12,7 @@ import goryachev.log.config.JsonLogConfig;
 import goryachev.secdb.segmented.clear.ClearEncHelper;
 import goryachev.secdb.util.ByteArrayIStream;
 import java.io.File;
+import java.io.RandomAccessFile;
 import java.util.Random;
 
 
@@ -21,6 +22,8 @@ import java.util.Random;
 public class TestSegments
 {
 	private static final File DIR = new File("user.home/segment-test");
+	private static final File MAPPED_DIR = new File("user.home/segment-mmap-test");
+	private static final File LARGE_DIR = new File("user.home/segment-large-test");
 
 	
 	public static void main(String[] args)
@@ -36,6 +39,7 @@ public class TestSegments
 		JsonLogConfig.configure(CKit.readStringQuiet(TestLarge.class, "log-conf.json"));
 		
 		FileTools.deleteRecursively(DIR);
+		FileTools.deleteRecursively(MAPPED_DIR);
 	}
 	
 	
@@ -80,6 +84,92 @@ public class TestSegments
 	}
 	
 	
+	@Test
+	public void testMemoryMapping() throws Exception
+	{
+		ClearEncHelper h = new ClearEncHelper();
+		SecDB.create(MAPPED_DIR, h);
+		SecDB db = SecDB.open(MAPPED_DIR, h);
+		try
+		{
+			db.execute(new Transaction()
+			{
+				protected void body() throws Exception
+				{
+					for(int i=0; i<100; i++)
+					{
+						insert(new SKey(String.valueOf(i)), new ByteArrayIStream(value(i)));
+					}
+				}
+			});
+			
+			db.setNodeCacheCapacity(0);
+			
+			// values span multiple sealed segments
+			for(boolean on: new boolean[] { false, true })
+			{
+				db.setMemoryMapping(on);
+				
+				for(int i=0; i<100; i++)
+				{
+					byte[] b = db.load(new SKey(String.valueOf(i))).readBytes(Integer.MAX_VALUE);
+					TF.eq(b, value(i));
+				}
+			}
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+	
+	
+	/** a sealed segment over 2 GB is read with the channel, since it cannot be mapped */
+	@Test
+	public void testLargeSegment() throws Exception
+	{
+		FileTools.deleteRecursively(LARGE_DIR);
+		LARGE_DIR.mkdirs();
+		File f = new File(LARGE_DIR, "large");
+		long pos = Integer.MAX_VALUE + 1000L;
+		byte[] expected = value(7);
+		
+		// sparse file
+		try(RandomAccessFile rf = new RandomAccessFile(f, "rw"))
+		{
+			rf.setLength(pos + expected.length);
+			rf.seek(pos);
+			rf.write(expected);
+		}
+		
+		SegmentFile sf = new SegmentFile(f, f.getName());
+		try
+		{
+			TF.isTrue(sf.isSealed());
+			
+			byte[] b = new byte[expected.length];
+			TF.eq(sf.read(pos, b, 0, b.length, true), b.length);
+			TF.eq(b, expected);
+		}
+		finally
+		{
+			sf.closeReader();
+			FileTools.deleteRecursively(LARGE_DIR);
+		}
+	}
+	
+	
+	protected static byte[] value(int ix)
+	{
+		byte[] b = new byte[1000 + ix];
+		for(int i=0; i<b.length; i++)
+		{
+			b[i] = (byte)(i + ix);
+		}
+		return b;
+	}
+	
+	
 	protected void txBody(Transaction tx, CMap<String,String> d) throws Exception
 	{
 		int count = 10;
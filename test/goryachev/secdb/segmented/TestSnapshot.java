@@ -0,0 +1,151 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CList;
+import goryachev.common.util.FileTools;
+import goryachev.common.util.SKey;
+import goryachev.secdb.IStored;
+import goryachev.secdb.IStream;
+import goryachev.secdb.segmented.clear.ClearEncHelper;
+import java.io.File;
+
+
+/**
+ * Tests database snapshots.
+ */
+public class TestSnapshot
+{
+	private static final File DIR = new File("user.home/snapshot-test");
+	private static final int KEY_COUNT = 1000;
+	
+	
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+	
+	
+	@Test
+	public void test() throws Exception
+	{
+		FileTools.deleteRecursively(DIR);
+		
+		ClearEncHelper h = new ClearEncHelper();
+		SecDB.create(DIR, h);
+		SecDB db = SecDB.open(DIR, h);
+		try
+		{
+			db.setPageSize(256);
+			update(db, "1");
+			
+			SecSnapshot s = db.openSnapshot();
+			
+			// the changes committed after the snapshot has been taken are not visible
+			update(db, "2");
+			db.remove(key(0));
+			
+			TF.isTrue(db.load(key(0)) == null);
+			TF.eq(value(db.load(key(1))), "1.2");
+			TF.eq(db.count(null, null), (long)KEY_COUNT - 1);
+			
+			Throwable[] error = new Throwable[1];
+			Thread[] threads = new Thread[4];
+			for(int i=0; i<threads.length; i++)
+			{
+				threads[i] = new Thread(() ->
+				{
+					try
+					{
+						check(s, "1");
+					}
+					catch(Throwable e)
+					{
+						error[0] = e;
+					}
+				}, "reader-" + i);
+				threads[i].start();
+			}
+			
+			for(Thread t: threads)
+			{
+				t.join();
+			}
+			
+			if(error[0] != null)
+			{
+				throw new Exception(error[0]);
+			}
+			
+			check(db.openSnapshot(), "2");
+		}
+		finally
+		{
+			db.close();
+			FileTools.deleteRecursively(DIR);
+		}
+	}
+	
+	
+	protected static void update(SecDB db, String suffix) throws Exception
+	{
+		db.execute(new Transaction()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=0; i<KEY_COUNT; i++)
+				{
+					insert(key(i), IStream.of(i + "." + suffix));
+				}
+			}
+		});
+	}
+	
+	
+	protected static void check(SecSnapshot s, String suffix) throws Exception
+	{
+		boolean complete = "1".equals(suffix);
+		int first = complete ? 0 : 1;
+		
+		for(int i=0; i<KEY_COUNT; i++)
+		{
+			IStored v = s.load(key(i));
+			if(i < first)
+			{
+				TF.isTrue(v == null);
+			}
+			else
+			{
+				TF.eq(value(v), i + "." + suffix);
+			}
+		}
+		
+		CList<IStored> vs = s.loadAll(CList.of(key(2), key(0), key(KEY_COUNT)));
+		TF.eq(value(vs.get(0)), "2." + suffix);
+		TF.isTrue((vs.get(1) == null) != complete);
+		TF.isTrue(vs.get(2) == null);
+		
+		CList<String> values = new CList<>();
+		s.prefixQuery(new SKey("k"), (k, v) ->
+		{
+			values.add(value(v));
+			return true;
+		});
+		TF.eq(values.size(), KEY_COUNT - first);
+		TF.eq(s.count(null, null), (long)(KEY_COUNT - first));
+		TF.eq(s.keyAt(0), key(first));
+	}
+	
+	
+	protected static SKey key(int ix)
+	{
+		return new SKey(String.format("k%05d", ix));
+	}
+	
+	
+	protected static String value(IStored v) throws Exception
+	{
+		return new String(v.readBytes(Integer.MAX_VALUE), CKit.CHARSET_UTF8);
+	}
+}
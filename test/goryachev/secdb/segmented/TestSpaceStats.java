@@ -0,0 +1,315 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CList;
+import goryachev.common.util.FileTools;
+import goryachev.common.util.SKey;
+import goryachev.memsafecrypto.OpaqueBytes;
+import goryachev.secdb.IStream;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import goryachev.secdb.internal.DBInternalNode;
+import goryachev.secdb.internal.DBLeafNode;
+import goryachev.secdb.internal.DataHolder;
+import goryachev.secdb.segmented.xsalsa.XSalsaEncHelper;
+import java.io.File;
+import java.security.SecureRandom;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * Tests the dead byte accounting.
+ */
+public class TestSpaceStats
+{
+	private static final File DIR = new File("user.home/space-stats-test");
+	private static final int KEY_COUNT = 500;
+	private final IEncHelper helper = new XSalsaEncHelper(new SecureRandom(), new OpaqueBytes(TUtils.generateKey()));
+
+
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@Test
+	public void testOverwrite() throws Exception
+	{
+		File dir = new File(DIR, "overwrite");
+		SecDB db = create(dir);
+		try
+		{
+			insert(db, 0, KEY_COUNT, 1);
+			SpaceStats s1 = db.getSpaceStats();
+			TF.print(s1);
+			check(db);
+
+			insert(db, 0, KEY_COUNT, 2);
+			SpaceStats s2 = db.getSpaceStats();
+			TF.print(s2);
+			TF.isTrue(s2.getDeadBytes() > s1.getDeadBytes());
+			check(db);
+
+			// the values written and replaced within the same transaction are dead right away
+			db.execute(new Transaction()
+			{
+				protected void body() throws Exception
+				{
+					insert(key(0), IStream.of(value(0, 3)));
+					insert(key(0), IStream.of(value(0, 4)));
+				}
+			});
+			check(db);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	@Test
+	public void testRemove() throws Exception
+	{
+		File dir = new File(DIR, "remove");
+		SecDB db = create(dir);
+		try
+		{
+			insert(db, 0, KEY_COUNT, 1);
+			long dead = db.getSpaceStats().getDeadBytes();
+
+			db.execute(new Transaction()
+			{
+				protected void body() throws Exception
+				{
+					for(int i=0; i<KEY_COUNT; i+=2)
+					{
+						remove(key(i));
+					}
+				}
+			});
+			TF.isTrue(db.getSpaceStats().getDeadBytes() > dead);
+			check(db);
+
+			// the subtrees dropped as a whole are counted once read
+			db.removeRange(key(0), key(KEY_COUNT));
+			TF.isTrue(db.store.getDroppedSubtrees().size() > 0);
+			TF.isTrue(db.engine.reportDroppedSubtrees() > 0);
+			TF.eq(db.store.getDroppedSubtrees().size(), 0);
+			check(db);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	/** the bulk load rebuilds the tree, carrying over the values which are not replaced */
+	@Test
+	public void testBulkLoad() throws Exception
+	{
+		File dir = new File(DIR, "bulk-load");
+		SecDB db = create(dir);
+		try
+		{
+			insert(db, 0, KEY_COUNT, 1);
+			check(db);
+			
+			TreeMap<SKey,IStream> m = new TreeMap<>();
+			m.put(key(KEY_COUNT), IStream.of(value(KEY_COUNT, 1)));
+			db.bulkLoad(m.entrySet().iterator());
+			check(db);
+			
+			// replaces some of the values
+			m.clear();
+			for(int i=0; i<KEY_COUNT; i+=7)
+			{
+				m.put(key(i), IStream.of(value(i, 2)));
+			}
+			db.bulkLoad(m.entrySet().iterator());
+			check(db);
+			
+			// the unsorted input discards the partial tree built so far
+			CList<Map.Entry<SKey,IStream>> unsorted = new CList<>();
+			for(int i=KEY_COUNT; i>0; i-=3)
+			{
+				unsorted.add(new AbstractMap.SimpleEntry<>(key(i), IStream.of(value(i, 3))));
+			}
+			db.bulkLoad(unsorted.iterator());
+			check(db);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	@Test
+	public void testReopenDropped() throws Exception
+	{
+		File dir = new File(DIR, "reopen-dropped");
+		SecDB db = create(dir);
+		int dropped;
+		try
+		{
+			insert(db, 0, KEY_COUNT, 1);
+			db.removeRange(key(10), key(KEY_COUNT - 10));
+			dropped = db.store.getDroppedSubtrees().size();
+			TF.isTrue(dropped > 0);
+		}
+		finally
+		{
+			db.close();
+		}
+
+		// the subtrees not yet counted are restored from the log
+		db = SecDB.open(dir, helper);
+		try
+		{
+			TF.eq(db.store.getDroppedSubtrees().size(), dropped);
+			TF.eq(db.engine.reportDroppedSubtrees(), dropped);
+			check(db);
+		}
+		finally
+		{
+			db.close();
+		}
+
+		db = SecDB.open(dir, helper);
+		try
+		{
+			TF.eq(db.store.getDroppedSubtrees().size(), 0);
+			check(db);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	@Test
+	public void testReopen() throws Exception
+	{
+		File dir = new File(DIR, "reopen");
+		SecDB db = create(dir);
+		SpaceStats s;
+		try
+		{
+			insert(db, 0, KEY_COUNT, 1);
+			insert(db, 0, KEY_COUNT / 2, 2);
+			s = db.getSpaceStats();
+			TF.isTrue(s.getDeadBytes() > 0);
+		}
+		finally
+		{
+			db.close();
+		}
+
+		// the counts are restored from the log
+		db = SecDB.open(dir, helper);
+		try
+		{
+			TF.eq(db.getSpaceStats().getDeadBytes(), s.getDeadBytes());
+			TF.eq(db.getSpaceStats().getTotalBytes(), s.getTotalBytes());
+			check(db);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	protected SecDB create(File dir) throws Exception
+	{
+		FileTools.deleteRecursively(dir);
+
+		SecDB.create(dir, helper);
+		SecDB db = SecDB.open(dir, helper);
+		db.setPageSize(1024);
+		TF.eq(db.getSpaceStats().getDeadBytes(), 0L);
+		return db;
+	}
+
+
+	protected static void insert(SecDB db, int min, int max, int version) throws Exception
+	{
+		db.execute(new Transaction()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=min; i<max; i++)
+				{
+					insert(key(i), IStream.of(value(i, version)));
+				}
+			}
+		});
+	}
+
+
+	protected static SKey key(int ix)
+	{
+		return new SKey(String.format("%05d", ix));
+	}
+
+
+	protected static String value(int ix, int version)
+	{
+		return ix + "." + version + "." + "*".repeat(ix % 1000);
+	}
+
+
+	/** the bytes not counted as dead must be exactly the bytes reachable from the current root */
+	protected static void check(SecDB db) throws Exception
+	{
+		TF.eq(db.getSpaceStats().getLiveBytes(), live(db));
+	}
+
+
+	/** returns the total length of the blocks reachable from the current root */
+	protected static long live(SecDB db) throws Exception
+	{
+		return live(db, db.store.getRootRef());
+	}
+
+
+	private static long live(SecDB db, Ref ref) throws Exception
+	{
+		if(ref == null)
+		{
+			return 0;
+		}
+
+		long rv = ref.getLength();
+		BPlusTreeNode<SKey,DataHolder<Ref>> n = db.engine.getNodeCache().readNode(ref);
+		if(n instanceof DBInternalNode)
+		{
+			DBInternalNode<Ref> p = (DBInternalNode)n;
+			int sz = p.size() + 1;
+			for(int i=0; i<sz; i++)
+			{
+				rv += live(db, p.nodeHolderAt(i).getRef());
+			}
+		}
+		else
+		{
+			DBLeafNode<Ref> leaf = (DBLeafNode)n;
+			int sz = leaf.getValueCount();
+			for(int i=0; i<sz; i++)
+			{
+				DataHolder<Ref> h = leaf.valueAt(i);
+				if(h.isRef())
+				{
+					rv += h.getRef().getLength();
+				}
+			}
+		}
+		return rv;
+	}
+}
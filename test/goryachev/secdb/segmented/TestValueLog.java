@@ -0,0 +1,257 @@
+// Copyright © 2024 Andy Goryachev <andy@goryachev.com>
+package goryachev.secdb.segmented;
+import goryachev.common.test.TF;
+import goryachev.common.test.Test;
+import goryachev.common.util.CKit;
+import goryachev.common.util.CSet;
+import goryachev.common.util.FileTools;
+import goryachev.common.util.SKey;
+import goryachev.memsafecrypto.OpaqueBytes;
+import goryachev.secdb.IStream;
+import goryachev.secdb.bplustree.BPlusTreeNode;
+import goryachev.secdb.internal.DBInternalNode;
+import goryachev.secdb.internal.DBLeafNode;
+import goryachev.secdb.internal.DataHolder;
+import goryachev.secdb.segmented.xsalsa.XSalsaEncHelper;
+import java.io.File;
+import java.security.SecureRandom;
+
+
+/**
+ * Tests packing of the medium-sized values into the shared blocks.
+ */
+public class TestValueLog
+{
+	private static final File DIR = new File("user.home/value-log-test");
+	private static final int KEY_COUNT = 1000;
+	private static final int MAX_VALUE_SIZE = 4096;
+	private static final int BLOCK_SIZE = 16 * 1024;
+	private final IEncHelper helper = new XSalsaEncHelper(new SecureRandom(), new OpaqueBytes(TUtils.generateKey()));
+
+
+	public static void main(String[] args)
+	{
+		TF.run();
+	}
+
+
+	@Test
+	public void testPacking() throws Exception
+	{
+		File dir = new File(DIR, "packing");
+		SecDB db = create(dir);
+		try
+		{
+			update(db, 1, 1);
+
+			// the values are packed into about as many blocks as their total size requires
+			long total = 0;
+			for(int i=0; i<KEY_COUNT; i++)
+			{
+				total += value(i, 1).length();
+			}
+			int blocks = countBlocks(db);
+			TF.print("values", KEY_COUNT, "bytes", total, "blocks", blocks);
+			TF.isTrue(blocks <= (total / (BLOCK_SIZE - MAX_VALUE_SIZE)) + 1);
+
+			check(db, 1);
+
+			// the blocks are read from the store once evicted from the cache
+			db.getNodeCache().getValueLog().setCacheCapacity(0);
+			check(db, 1);
+		}
+		finally
+		{
+			db.close();
+		}
+
+		db = SecDB.open(dir, helper);
+		try
+		{
+			check(db, 1);
+
+			// the values are readable with packing disabled
+			db.setValueLog(0, BLOCK_SIZE);
+			update(db, 2, 2);
+			check(db, 2);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	@Test
+	public void testRepack() throws Exception
+	{
+		File dir = new File(DIR, "repack");
+		SecDB db = create(dir);
+		try
+		{
+			update(db, 1, 1);
+			int blocks = countBlocks(db);
+
+			// three out of four values are overwritten
+			update(db, 2, 4);
+			check(db, 2);
+
+			long dead = db.getSpaceStats().getDeadBytes();
+			int n = db.repackValues(0.5);
+			TF.print("blocks", blocks, "repacked", n);
+			TF.isTrue(n > 0);
+			TF.isTrue(db.getSpaceStats().getDeadBytes() > dead);
+			check(db, 2);
+
+			// nothing left to repack
+			TF.eq(db.repackValues(0.5), 0);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	@Test
+	public void testCompact() throws Exception
+	{
+		File dir = new File(DIR, "compact");
+		SecDB db = create(dir);
+		try
+		{
+			db.setSegmentSizes(CKit.kibi(64), CKit.kibi(64));
+			update(db, 1, 1);
+			update(db, 2, 2);
+			update(db, 3, 3);
+
+			// the packed values are moved out of the compacted segments
+			SegmentCompactor c = db.getCompactor();
+			c.setRateLimit(0);
+			c.setThreshold(0.5);
+			int n = c.compact();
+			TF.print("compacted", n);
+			TF.isTrue(n > 0);
+			check(db, 3);
+
+			// no snapshot holds the compacted segments
+			TF.eq(c.getRetiredCount(), 0);
+		}
+		finally
+		{
+			db.close();
+		}
+
+		db = SecDB.open(dir, helper);
+		try
+		{
+			check(db, 3);
+		}
+		finally
+		{
+			db.close();
+		}
+	}
+
+
+	protected SecDB create(File dir) throws Exception
+	{
+		FileTools.deleteRecursively(dir);
+
+		SecDB.create(dir, helper);
+		SecDB db = SecDB.open(dir, helper);
+		db.setPageSize(1024);
+		db.setValueLog(MAX_VALUE_SIZE, BLOCK_SIZE);
+		return db;
+	}
+
+
+	/** overwrites all the values, except for every 'nth' */
+	protected static void update(SecDB db, int version, int n) throws Exception
+	{
+		db.execute(new Transaction()
+		{
+			protected void body() throws Exception
+			{
+				for(int i=0; i<KEY_COUNT; i++)
+				{
+					if((n == 1) || ((i % n) != 0))
+					{
+						insert(key(i), IStream.of(value(i, version)));
+					}
+				}
+			}
+		});
+	}
+
+
+	protected static SKey key(int ix)
+	{
+		return new SKey(String.format("%05d", ix));
+	}
+
+
+	/** medium-sized values, a few short and long ones */
+	protected static String value(int ix, int version)
+	{
+		return ix + "." + version + "." + "*".repeat(ix * 7 % 5000);
+	}
+
+
+	/** checks the values, the last 'nth' might be of the earlier versions */
+	protected static void check(SecDB db, int version) throws Exception
+	{
+		for(int i=0; i<KEY_COUNT; i++)
+		{
+			byte[] b = db.load(key(i)).readBytes(Integer.MAX_VALUE);
+			String s = new String(b, CKit.CHARSET_UTF8);
+			boolean ok = false;
+			for(int v=version; v>0; v--)
+			{
+				if(s.equals(value(i, v)))
+				{
+					ok = true;
+					break;
+				}
+			}
+			TF.isTrue(ok);
+		}
+	}
+
+
+	/** returns the number of distinct blocks which contain the packed values */
+	protected static int countBlocks(SecDB db) throws Exception
+	{
+		CSet<Ref> blocks = new CSet<>();
+		collectBlocks(db, db.store.getRootRef(), blocks);
+		return blocks.size();
+	}
+
+
+	private static void collectBlocks(SecDB db, Ref ref, CSet<Ref> blocks) throws Exception
+	{
+		BPlusTreeNode<SKey,DataHolder<Ref>> n = db.engine.getNodeCache().readNode(ref);
+		if(n instanceof DBInternalNode)
+		{
+			DBInternalNode<Ref> p = (DBInternalNode)n;
+			int sz = p.size() + 1;
+			for(int i=0; i<sz; i++)
+			{
+				collectBlocks(db, p.nodeHolderAt(i).getRef(), blocks);
+			}
+		}
+		else
+		{
+			DBLeafNode<Ref> leaf = (DBLeafNode)n;
+			int sz = leaf.getValueCount();
+			for(int i=0; i<sz; i++)
+			{
+				DataHolder<Ref> h = leaf.valueAt(i);
+				if(h.isPacked())
+				{
+					blocks.add(((DataHolder.PackedHolder<Ref>)h).getBlock());
+				}
+			}
+		}
+	}
+}